@@ -0,0 +1,61 @@
+/**
+ * Configurações de apresentação do jogo no terminal.
+ * Controla as pausas puramente visuais (como o "Verificando resposta...") e o modo headless,
+ * usado em simulações e testes, no qual nenhuma pausa é feita.
+ */
+public final class Apresentacao {
+    // Atraso padrão exibido antes do veredito de uma resposta
+    public static final long ATRASO_VERIFICACAO_PADRAO_MS = 1000;
+
+    // Modo headless: sem pausas artificiais (pode ser ativado com -Dquiz.headless=true)
+    private static volatile boolean headless = Boolean.getBoolean("quiz.headless");
+
+    // Duração da pausa de verificação em milissegundos
+    private static volatile long atrasoVerificacaoMs = ATRASO_VERIFICACAO_PADRAO_MS;
+
+    private Apresentacao() {
+    }
+
+    // Ativa ou desativa o modo headless
+    public static void setHeadless(boolean valor) {
+        headless = valor;
+    }
+
+    // Indica se o jogo está rodando sem terminal interativo
+    public static boolean isHeadless() {
+        return headless;
+    }
+
+    /**
+     * Define a duração da pausa de verificação.
+     *
+     * @param ms Atraso em milissegundos (0 desativa a pausa)
+     */
+    public static void setAtrasoVerificacaoMs(long ms) {
+        if (ms < 0) {
+            throw new IllegalArgumentException("O atraso não pode ser negativo.");
+        }
+        atrasoVerificacaoMs = ms;
+    }
+
+    // Retorna o atraso efetivo (zero no modo headless)
+    public static long getAtrasoVerificacaoMs() {
+        return headless ? 0 : atrasoVerificacaoMs;
+    }
+
+    /**
+     * Executa a pausa de verificação, apenas como efeito visual.
+     * A pontuação já foi aplicada antes desta chamada; a pausa pode ser pulada
+     * interrompendo a thread do jogo.
+     */
+    public static void pausarVerificacao() {
+        long ms = getAtrasoVerificacaoMs();
+        if (ms <= 0) return;
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            // Pausa pulada: preserva o sinal de interrupção para quem chamou
+            Thread.currentThread().interrupt();
+        }
+    }
+}
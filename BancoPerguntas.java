@@ -0,0 +1,316 @@
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Banco de perguntas persistente, em formato binário compacto lido via MappedByteBuffer.
+ *
+ * Formato do arquivo (big-endian):
+ * <pre>
+ * cabeçalho: magic "QZBP" (int) | versão (int) | quantidade (int) | alternativas por pergunta (int)
+ *            | posição do índice (long)
+ * registros: letra correta (byte) | 1 + alternativas textos (enunciado e alternativas a, b, ...),
+ *            cada um como tamanho em bytes (unsigned short) + UTF-8
+ * índice:    quantidade × posição do registro (long)
+ * </pre>
+ * Todas as perguntas de um banco têm a mesma quantidade de alternativas, gravada no cabeçalho;
+ * bancos da versão 1 (sem esse campo) têm 4.
+ * Abrir o banco só mapeia o cabeçalho e o índice; cada Pergunta é decodificada
+ * apenas quando é pedida, então milhões de perguntas não ocupam o heap.
+ */
+public class BancoPerguntas implements FontePerguntas, AutoCloseable {
+    static final int MAGIC = 0x515A4250; // "QZBP"
+    static final int VERSAO = 2;
+    static final int TAMANHO_CABECALHO = 24;
+    private static final int TAMANHO_CABECALHO_V1 = 20;
+
+    // Limites do formato
+    static final int MAX_BYTES_TEXTO = 0xFFFF;
+    static final int MAX_BYTES_REGISTRO = 1 + (1 + ConfiguracaoJogo.MAX_ALTERNATIVAS) * (2 + MAX_BYTES_TEXTO);
+
+    // Os registros são mapeados em janelas de 1 GiB que se sobrepõem em um registro máximo,
+    // assim todo registro cabe inteiro na janela em que começa
+    private static final long TAMANHO_JANELA = 1L << 30;
+
+    private final FileChannel canal;
+    private final int quantidade;
+    private final int alternativasPorPergunta;
+    private final LongBuffer indice;
+    private final MappedByteBuffer[] janelas;
+    private int cursor; // Próxima pergunta entregue por proximaPergunta()
+
+    /**
+     * Abre um banco de perguntas.
+     *
+     * @param arquivo Caminho do arquivo gerado pelo Escritor
+     * @throws IOException se o arquivo não puder ser lido ou não estiver no formato esperado
+     */
+    public BancoPerguntas(Path arquivo) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            long tamanhoArquivo = canal.size();
+            if (tamanhoArquivo < TAMANHO_CABECALHO_V1) {
+                throw new IOException("Arquivo de banco de perguntas inválido: " + arquivo);
+            }
+            ByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(TAMANHO_CABECALHO, tamanhoArquivo));
+            int versao = cabecalho.getInt() == MAGIC ? cabecalho.getInt() : -1;
+            if (versao != 1 && (versao != VERSAO || tamanhoArquivo < TAMANHO_CABECALHO)) {
+                throw new IOException("Arquivo de banco de perguntas inválido: " + arquivo);
+            }
+            this.quantidade = cabecalho.getInt();
+            this.alternativasPorPergunta = versao == 1 ? 4 : cabecalho.getInt();
+            long posicaoIndice = cabecalho.getLong();
+            if (quantidade < 0 || posicaoIndice + 8L * quantidade > tamanhoArquivo) {
+                throw new IOException("Índice corrompido no banco de perguntas: " + arquivo);
+            }
+            if (alternativasPorPergunta < 2 || alternativasPorPergunta > ConfiguracaoJogo.MAX_ALTERNATIVAS) {
+                throw new IOException("Quantidade de alternativas inválida no banco de perguntas: " + arquivo);
+            }
+
+            this.indice = canal.map(FileChannel.MapMode.READ_ONLY, posicaoIndice, 8L * quantidade).asLongBuffer();
+
+            int n = (int) ((posicaoIndice + TAMANHO_JANELA - 1) / TAMANHO_JANELA);
+            this.janelas = new MappedByteBuffer[Math.max(n, 1)];
+            for (int i = 0; i < n; i++) {
+                long inicio = i * TAMANHO_JANELA;
+                long tamanho = Math.min(TAMANHO_JANELA + MAX_BYTES_REGISTRO, posicaoIndice - inicio);
+                janelas[i] = canal.map(FileChannel.MapMode.READ_ONLY, inicio, tamanho);
+            }
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    // Quantidade de perguntas no banco
+    public int quantidade() {
+        return quantidade;
+    }
+
+    // Quantidade de alternativas de cada pergunta do banco
+    public int alternativasPorPergunta() {
+        return alternativasPorPergunta;
+    }
+
+    /**
+     * Decodifica a pergunta de índice informado.
+     * Seguro para uso concorrente (apenas leituras absolutas no mapeamento).
+     *
+     * @param i Índice da pergunta (0 a quantidade - 1)
+     * @return Nova instância de Pergunta
+     */
+    public Pergunta obter(int i) {
+        if (i < 0 || i >= quantidade) {
+            throw new IndexOutOfBoundsException("Pergunta inexistente no banco: " + i);
+        }
+        long posicao = indice.get(i);
+        ByteBuffer janela = janelas[(int) (posicao / TAMANHO_JANELA)];
+        int p = (int) (posicao % TAMANHO_JANELA);
+
+        char correta = (char) janela.get(p++);
+        String enunciado = null;
+        String[] alternativas = new String[alternativasPorPergunta];
+        for (int t = 0; t <= alternativasPorPergunta; t++) {
+            int tamanho = Short.toUnsignedInt(janela.getShort(p));
+            p += 2;
+            byte[] bytes = new byte[tamanho];
+            janela.get(p, bytes);
+            p += tamanho;
+            String texto = new String(bytes, StandardCharsets.UTF_8);
+            if (t == 0) enunciado = texto;
+            else alternativas[t - 1] = texto;
+        }
+        return new Pergunta(enunciado, alternativas, correta);
+    }
+
+    /**
+     * Entrega as perguntas em ordem, da primeira à última.
+     */
+    @Override
+    public synchronized Pergunta proximaPergunta() {
+        if (cursor >= quantidade) {
+            throw new NoSuchElementException("Banco de perguntas esgotado.");
+        }
+        return obter(cursor++);
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * Grava um banco de perguntas em fluxo: os registros vão direto para o disco
+     * e só as posições (8 bytes por pergunta) ficam em memória até o índice ser escrito.
+     * A gravação é feita em um arquivo temporário na mesma pasta, que só substitui o arquivo
+     * do banco no close(); um banco descartado (descartar()) não altera o arquivo existente.
+     */
+    public static class Escritor implements AutoCloseable {
+        private final Path arquivo;
+        private final Path temporario;
+        private final int alternativasPorPergunta;
+        private final DataOutputStream saida;
+        private long posicao = TAMANHO_CABECALHO;
+        private long[] posicoes = new long[1024];
+        private int quantidade;
+        private boolean encerrado;
+
+        /**
+         * Inicia a gravação de um banco de perguntas com 4 alternativas; o arquivo é criado
+         * (ou substituído) no close().
+         *
+         * @param arquivo Caminho do arquivo de saída
+         * @throws IOException se o arquivo temporário não puder ser criado
+         */
+        public Escritor(Path arquivo) throws IOException {
+            this(arquivo, ConfiguracaoJogo.PADRAO.getAlternativasPorPergunta());
+        }
+
+        /**
+         * Inicia a gravação de um banco; o arquivo é criado (ou substituído) no close().
+         *
+         * @param arquivo Caminho do arquivo de saída
+         * @param alternativasPorPergunta Alternativas de todas as perguntas do banco (2 a 15)
+         * @throws IOException se o arquivo temporário não puder ser criado
+         */
+        public Escritor(Path arquivo, int alternativasPorPergunta) throws IOException {
+            if (alternativasPorPergunta < 2 || alternativasPorPergunta > ConfiguracaoJogo.MAX_ALTERNATIVAS) {
+                throw new IllegalArgumentException("Cada pergunta deve ter entre 2 e "
+                        + ConfiguracaoJogo.MAX_ALTERNATIVAS + " alternativas.");
+            }
+            this.arquivo = arquivo;
+            this.alternativasPorPergunta = alternativasPorPergunta;
+            Path pasta = arquivo.toAbsolutePath().getParent();
+            this.temporario = Files.createTempFile(pasta, arquivo.getFileName() + ".", ".tmp");
+            try {
+                this.saida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporario), 1 << 16));
+                saida.write(new byte[TAMANHO_CABECALHO]); // preenchido no close()
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temporario);
+                throw e;
+            }
+        }
+
+        /**
+         * Acrescenta uma pergunta, validada pelas mesmas regras de Pergunta.
+         *
+         * @param pergunta Pergunta a gravar
+         * @throws IllegalArgumentException se a quantidade de alternativas não for a do banco
+         * @throws IOException se a escrita falhar
+         */
+        public void adicionar(Pergunta pergunta) throws IOException {
+            if (encerrado) {
+                throw new IllegalStateException("Escritor já encerrado.");
+            }
+            if (quantidade == Integer.MAX_VALUE / 8) {
+                throw new IllegalStateException("Limite de perguntas do banco atingido.");
+            }
+            // Todos os textos são validados antes de qualquer escrita, para que um texto longo demais
+            // não deixe um registro parcial no arquivo
+            int alternativas = pergunta.getQuantidadeAlternativas();
+            if (alternativas != alternativasPorPergunta) {
+                throw new IllegalArgumentException("O banco só aceita perguntas com "
+                        + alternativasPorPergunta + " alternativas (recebida com " + alternativas + ").");
+            }
+            byte[][] textos = new byte[1 + alternativas][];
+            textos[0] = codificar(pergunta.getEnunciado());
+            for (int i = 0; i < alternativas; i++) {
+                textos[1 + i] = codificar(pergunta.getAlternativa(i));
+            }
+
+            long inicio = posicao;
+            saida.writeByte(pergunta.getRespostaCorreta());
+            posicao += 1;
+            for (byte[] texto : textos) {
+                saida.writeShort(texto.length);
+                saida.write(texto);
+                posicao += 2 + texto.length;
+            }
+
+            // O registro só é contado depois de gravado por inteiro
+            if (quantidade == posicoes.length) {
+                posicoes = Arrays.copyOf(posicoes, posicoes.length * 2);
+            }
+            posicoes[quantidade++] = inicio;
+        }
+
+        private static byte[] codificar(String texto) {
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_BYTES_TEXTO) {
+                throw new IllegalArgumentException("Texto excede " + MAX_BYTES_TEXTO + " bytes.");
+            }
+            return bytes;
+        }
+
+        // Quantidade de perguntas gravadas até agora
+        public int quantidade() {
+            return quantidade;
+        }
+
+        // Quantidade de alternativas de cada pergunta do banco
+        public int alternativasPorPergunta() {
+            return alternativasPorPergunta;
+        }
+
+        /**
+         * Abandona a gravação: apaga o arquivo temporário e mantém o arquivo do banco como estava.
+         * Depois disso, close() não faz nada.
+         *
+         * @throws IOException se o arquivo temporário não puder ser apagado
+         */
+        public void descartar() throws IOException {
+            if (encerrado) return;
+            encerrado = true;
+            try {
+                saida.close();
+            } finally {
+                Files.deleteIfExists(temporario);
+            }
+        }
+
+        /**
+         * Escreve o índice e o cabeçalho e move o arquivo completo para o lugar do banco.
+         */
+        @Override
+        public void close() throws IOException {
+            if (encerrado) return;
+            encerrado = true;
+            try {
+                long posicaoIndice = posicao;
+                for (int i = 0; i < quantidade; i++) {
+                    saida.writeLong(posicoes[i]);
+                }
+                saida.close();
+
+                try (RandomAccessFile raf = new RandomAccessFile(temporario.toFile(), "rw")) {
+                    raf.writeInt(MAGIC);
+                    raf.writeInt(VERSAO);
+                    raf.writeInt(quantidade);
+                    raf.writeInt(alternativasPorPergunta);
+                    raf.writeLong(posicaoIndice);
+                }
+                try {
+                    Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporario); // só resta se a gravação falhou
+            }
+        }
+    }
+}
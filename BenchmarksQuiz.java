@@ -0,0 +1,497 @@
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Medições de carga e de memória que não cabem num micro-benchmark: heap retido, atraso dos
+ * prazos, transmissão para milhares de espectadores (com o cliente em outro processo), torneio
+ * distribuído, simulador e saída lenta. Os micro-benchmarks do caminho quente ficam no módulo
+ * jmh (veja jmh/pom.xml).
+ *
+ * Uso: java -cp target/classes BenchmarksQuiz [filtro]
+ * O filtro opcional restringe a execução às medições cujo nome o contém.
+ */
+public class BenchmarksQuiz {
+    // Tamanhos do índice de dificuldade (cada pergunta com estatísticas)
+    static final int[] QUANTIDADES_INDICE_DIFICULDADE = {10_000, 200_000};
+
+    private static final String[] ALTERNATIVAS = {"Paris", "Londres", "Roma", "Berlim"};
+
+    public static void main(String[] args) {
+        String filtro = args.length > 0 ? args[0] : "";
+        Apresentacao.setHeadless(true);
+
+        GameMaster gm = new GameMaster("GM");
+        Pergunta pergunta = gm.criarPergunta("Qual é a capital da França?", ALTERNATIVAS, 'a');
+
+        if ("Pergunta".contains(filtro)) {
+            System.out.printf("%-45s %,18d bytes%n", "Heap retido por pergunta", heapPorPergunta(200_000));
+        }
+        if ("EstatisticasPergunta".contains(filtro)) {
+            medirEstatisticasPergunta();
+        }
+        if ("IndiceDuplicatas".contains(filtro)) {
+            medirIndiceDuplicatas(1_000_000);
+        }
+        for (int n : QUANTIDADES_INDICE_DIFICULDADE) {
+            if (("IndiceDificuldade[" + n + "]").contains(filtro)) {
+                medirIndiceDificuldade(n);
+            }
+        }
+        if ("RodaPrazos".contains(filtro)) {
+            medirRodaPrazos(100_000);
+        }
+        if ("SimuladorJogos".contains(filtro)) {
+            medirSimuladorJogos(200_000);
+        }
+        if ("TorneioDistribuido".contains(filtro)) {
+            medirTorneioDistribuido(2_000_000);
+        }
+        if ("TransmissaoJogo".contains(filtro)) {
+            medirTransmissao(pergunta, 100, 10_000);
+        }
+        if ("SaidaLenta".contains(filtro)) {
+            medirSaidaLenta(pergunta);
+        }
+    }
+
+    /**
+     * Memória das estatísticas por pergunta jogada (criadas na primeira escolha registrada).
+     * A vazão do registro, com e sem disputa, é medida no módulo jmh.
+     */
+    static void medirEstatisticasPergunta() {
+        Runtime rt = Runtime.getRuntime();
+        Pergunta[] perguntas = new Pergunta[100_000];
+        for (int k = 0; k < perguntas.length; k++) perguntas[k] = new Pergunta("P" + k, ALTERNATIVAS, 'a');
+        System.gc();
+        long antes = rt.totalMemory() - rt.freeMemory();
+        for (Pergunta p : perguntas) p.getEstatisticas().registrarEscolha('b');
+        System.gc();
+        long depois = rt.totalMemory() - rt.freeMemory();
+        System.out.printf("%-45s %,18d bytes/pergunta jogada%n", "EstatisticasPergunta",
+                (depois - antes) / perguntas.length);
+    }
+
+    /**
+     * Qualidade do índice de dificuldade com n perguntas já respondidas (dificuldades variadas):
+     * distância média entre o alvo sorteado e as 3 perguntas de cada rodada montada.
+     * O custo de montarRodada e reindexar é medido no módulo jmh.
+     */
+    static void medirIndiceDificuldade(int n) {
+        SplittableRandom aleatorio = new SplittableRandom(23);
+        IndiceDificuldade indice = new IndiceDificuldade();
+        for (int k = 0; k < n; k++) {
+            Pergunta p = new Pergunta("Pergunta " + k, ALTERNATIVAS, 'a');
+            double acerto = aleatorio.nextDouble();
+            for (int r = 1 + aleatorio.nextInt(30); r > 0; r--) {
+                p.getEstatisticas().registrarEscolha(aleatorio.nextDouble() < acerto ? 'a' : 'b');
+            }
+            indice.adicionar(p);
+        }
+
+        int rodadas = 100_000;
+        double soma = 0;
+        for (int r = 0; r < rodadas; r++) {
+            double alvo = aleatorio.nextDouble();
+            for (Pergunta p : indice.montarRodada(alvo, 3)) soma += Math.abs(p.getDificuldade() - alvo);
+        }
+        System.out.printf("%-45s %,18.4f distância média do alvo%n", "IndiceDificuldade[" + n + "]",
+                soma / (3.0 * rodadas));
+    }
+
+    /**
+     * Prazos de resposta pendentes ao mesmo tempo: RodaPrazos contra o ScheduledThreadPoolExecutor
+     * (uma thread, com remoção no cancelamento). Mede agendar e cancelar (o caso comum: a resposta
+     * chega antes do prazo), o heap retido pelos prazos pendentes e, com todos vencendo dentro de 1 s,
+     * o atraso de cada vencimento e a CPU gasta pela thread do temporizador.
+     */
+    static void medirRodaPrazos(int prazos) {
+        for (int repeticao = 0; repeticao < 2; repeticao++) {
+            boolean exibir = repeticao == 1; // A primeira passada é aquecimento
+            try (RodaPrazos roda = new RodaPrazos(RodaPrazos.RESOLUCAO_PADRAO, "roda-benchmark")) {
+                medirPrazos("RodaPrazos", prazos, exibir, new Temporizador() {
+                    public Object agendar(long nanos, Runnable acao) {
+                        return roda.agendar(nanos, acao);
+                    }
+
+                    public void cancelar(Object agendamento) {
+                        ((RodaPrazos.Agendamento) agendamento).cancelar();
+                    }
+                });
+            }
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+            executor.setRemoveOnCancelPolicy(true);
+            medirPrazos("(legado) ScheduledThreadPoolExecutor", prazos, exibir, new Temporizador() {
+                public Object agendar(long nanos, Runnable acao) {
+                    return executor.schedule(acao, nanos, TimeUnit.NANOSECONDS);
+                }
+
+                public void cancelar(Object agendamento) {
+                    ((ScheduledFuture<?>) agendamento).cancel(false);
+                }
+            });
+            executor.shutdownNow();
+        }
+    }
+
+    // As duas implementações comparadas em medirRodaPrazos
+    private interface Temporizador {
+        Object agendar(long nanos, Runnable acao);
+
+        void cancelar(Object agendamento);
+    }
+
+    private static void medirPrazos(String nome, int prazos, boolean exibir, Temporizador temporizador) {
+        SplittableRandom aleatorio = new SplittableRandom(7);
+        Runtime rt = Runtime.getRuntime();
+        Runnable nada = () -> { };
+        Object[] agendamentos = new Object[prazos];
+
+        // Prazos longos (5 a 30 s), todos cancelados antes de vencer
+        System.gc();
+        long heapAntes = rt.totalMemory() - rt.freeMemory();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < prazos; i++) {
+            agendamentos[i] = temporizador.agendar(5_000_000_000L + aleatorio.nextLong(25_000_000_000L), nada);
+        }
+        long agendar = System.nanoTime() - inicio;
+        System.gc();
+        long heapPendentes = rt.totalMemory() - rt.freeMemory() - heapAntes;
+        inicio = System.nanoTime();
+        for (Object a : agendamentos) temporizador.cancelar(a);
+        long cancelar = System.nanoTime() - inicio;
+        Arrays.fill(agendamentos, null);
+
+        // Prazos curtos (até 1 s), todos vencendo
+        Histograma atraso = new Histograma();
+        CountDownLatch vencidos = new CountDownLatch(prazos);
+        long[] thread = {-1};
+        inicio = System.nanoTime();
+        for (int i = 0; i < prazos; i++) {
+            long nanos = aleatorio.nextLong(1_000_000_000L);
+            long prazo = inicio + nanos;
+            temporizador.agendar(nanos, () -> {
+                atraso.registrar(System.nanoTime() - prazo);
+                thread[0] = Thread.currentThread().threadId();
+                vencidos.countDown();
+            });
+        }
+        try {
+            vencidos.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long duracao = System.nanoTime() - inicio;
+        long cpu = ManagementFactory.getThreadMXBean().getThreadCpuTime(thread[0]);
+        if (!exibir) return;
+
+        Histograma.Instantaneo h = atraso.instantaneo();
+        System.out.printf("%-45s %,18.0f ns/agendar %,10.0f ns/cancelar%n", nome + "[" + prazos + "]",
+                (double) agendar / prazos, (double) cancelar / prazos);
+        System.out.printf("%-45s %,18d bytes/prazo pendente%n", "", heapPendentes / prazos);
+        System.out.printf("%-45s atraso p50=%,d µs p99=%,d µs | CPU do temporizador %,d ms em %,d ms%n", "",
+                h.p50() / 1000, h.p99() / 1000, cpu / 1_000_000, duracao / 1_000_000);
+    }
+
+    /**
+     * Transmissão de um jogo com vários espectadores em loopback (abertos por um ClienteEspectadores
+     * em outro processo, para não somar os descritores dos dois lados). Duas fases de cerca de 2 s:
+     * <ul>
+     *   <li>difusão: uma resposta por vez, esperando o quadro chegar a todos os espectadores
+     *       (quadros e bytes entregues por segundo e tempo para alcançar todos);</li>
+     *   <li>sobrecarga: respostas sem parar, mais versões do que a difusão consegue entregar
+     *       (quantos quadros os espectadores atrasados trocaram por instantâneos).</li>
+     * </ul>
+     * Compara os bytes com o envio do placar completo a cada versão e confere que todos os
+     * espectadores terminaram com a versão e o placar do servidor.
+     */
+    static void medirTransmissao(Pergunta pergunta, int quantidadeJogadores, int espectadores) {
+        List<Jogador> jogadores = new ArrayList<>(quantidadeJogadores);
+        for (int i = 0; i < quantidadeJogadores; i++) jogadores.add(new Jogador("Jogador " + (i + 1)));
+        String java = ProcessHandle.current().info().command()
+                .orElse(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        SplittableRandom aleatorio = new SplittableRandom(23);
+        TransmissaoJogo transmissao = new TransmissaoJogo(jogadores);
+        List<String> saida;
+        try (ServerSocket servidor = new ServerSocket(0, 4096, InetAddress.getLoopbackAddress())) {
+            transmissao.aceitarEspectadores(servidor);
+            ProcessBuilder pb = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    "ClienteEspectadores", String.valueOf(espectadores), String.valueOf(servidor.getLocalPort()));
+            pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+            Process cliente = pb.start();
+            long limite = System.nanoTime() + 60_000_000_000L;
+            while (transmissao.getEspectadores() < espectadores && System.nanoTime() < limite) {
+                LockSupport.parkNanos(10_000_000);
+            }
+            int inscritos = transmissao.getEspectadores();
+            String nome = "TransmissaoJogo[" + quantidadeJogadores + " jog., " + inscritos + " esp.]";
+            LockSupport.parkNanos(500_000_000); // Instantâneos iniciais entregues
+
+            // Difusão: cada versão entregue a todos antes da próxima resposta
+            Histograma difusao = new Histograma();
+            long quadrosAntes = transmissao.getQuadrosEnviados();
+            long bytesAntes = transmissao.getBytesEnviados();
+            long deltasAntes = transmissao.getBytesDeltas();
+            long versaoAntes = transmissao.getVersao();
+            long inicio = System.nanoTime();
+            long fim = inicio + 2_000_000_000L;
+            while (System.nanoTime() < fim) {
+                long esperado = transmissao.getQuadrosEnviados() + inscritos;
+                long t0 = System.nanoTime();
+                jogadores.get(aleatorio.nextInt(quantidadeJogadores))
+                        .corrigirResposta(pergunta, aleatorio.nextInt(4) == 0 ? 'b' : 'a');
+                while (transmissao.getQuadrosEnviados() < esperado && System.nanoTime() - t0 < 5_000_000_000L) {
+                    LockSupport.parkNanos(200_000);
+                }
+                difusao.registrar(System.nanoTime() - t0);
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            long versoes = transmissao.getVersao() - versaoAntes;
+            long bytesDeltas = transmissao.getBytesDeltas() - deltasAntes;
+            int tamanhoInstantaneo = transmissao.getTamanhoInstantaneo();
+            Histograma.Instantaneo h = difusao.instantaneo();
+            System.out.printf("%-45s %,18.0f quadros/s %,8.1f MB/s | %,d versões%n", nome,
+                    (transmissao.getQuadrosEnviados() - quadrosAntes) / segundos,
+                    (transmissao.getBytesEnviados() - bytesAntes) / segundos / 1e6, versoes);
+            System.out.printf("%-45s todos alcançados p50=%,d ms p99=%,d ms | delta médio %,d bytes%n", "",
+                    h.p50() / 1_000_000, h.p99() / 1_000_000, versoes == 0 ? 0 : bytesDeltas / versoes);
+            System.out.printf("%-45s %,18d bytes/versão/espectador (instantâneo)%n",
+                    "(legado) placar completo por versão", tamanhoInstantaneo);
+
+            // Sobrecarga: respostas sem esperar a difusão
+            quadrosAntes = transmissao.getQuadrosEnviados();
+            long instantaneosAntes = transmissao.getInstantaneosEnviados();
+            long coalescidosAntes = transmissao.getCoalescidos();
+            versaoAntes = transmissao.getVersao();
+            inicio = System.nanoTime();
+            fim = inicio + 2_000_000_000L;
+            for (int k = 0; System.nanoTime() < fim; k++) {
+                if (k % quantidadeJogadores == 0) transmissao.perguntaIniciada(1, k / quantidadeJogadores, pergunta);
+                jogadores.get(aleatorio.nextInt(quantidadeJogadores))
+                        .corrigirResposta(pergunta, aleatorio.nextInt(4) == 0 ? 'b' : 'a');
+                if (k % 16 == 15) LockSupport.parkNanos(100_000);
+            }
+            segundos = (System.nanoTime() - inicio) / 1e9;
+            System.out.printf("%-45s %,18.0f quadros/s %,8.0f versões/s | coalescidos %,d, instantâneos %,d%n",
+                    nome + " sobrecarga", (transmissao.getQuadrosEnviados() - quadrosAntes) / segundos,
+                    (transmissao.getVersao() - versaoAntes) / segundos,
+                    transmissao.getCoalescidos() - coalescidosAntes,
+                    transmissao.getInstantaneosEnviados() - instantaneosAntes);
+
+            transmissao.jogoEncerrado();
+            transmissao.close();
+            try (BufferedReader leitor = new BufferedReader(
+                    new InputStreamReader(cliente.getInputStream(), StandardCharsets.UTF_8))) {
+                saida = leitor.lines().collect(Collectors.toList());
+            }
+            cliente.waitFor();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        String esperado = "fim versao=" + transmissao.getVersao() + " soma=" + transmissao.somaDeVerificacao()
+                + " encerrado espectadores=" + espectadores;
+        System.out.printf("%-45s %s%n", "", saida.contains(esperado)
+                ? "todos os espectadores com o placar final do servidor" : "ESPECTADORES DIVERGENTES: " + saida);
+    }
+
+    /**
+     * Torneio distribuído com 1, 2, 4... trabalhadores (até o número de processadores):
+     * tempo total, incluindo o início das JVMs, e respostas corrigidas por segundo.
+     */
+    static void medirTorneioDistribuido(int jogadores) {
+        ConfiguracaoJogo c = ConfiguracaoJogo.PADRAO;
+        long respostas = (long) jogadores * c.getRodadas() * c.getPerguntasPorRodada();
+        int processadores = Runtime.getRuntime().availableProcessors();
+        for (int trabalhadores = 1; trabalhadores <= Math.max(2, processadores); trabalhadores *= 2) {
+            long inicio = System.nanoTime();
+            try (TorneioDistribuido torneio = new TorneioDistribuido(jogadores, trabalhadores, c, 42, 0.7, 0.1)) {
+                torneio.jogar();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            System.out.printf("%-45s %,18.0f respostas/s (%.2f s)%n",
+                    "TorneioDistribuido[" + jogadores + ", " + trabalhadores + " trab.]", respostas / segundos, segundos);
+        }
+    }
+
+    /**
+     * Vazão do simulador de Monte Carlo: jogos completos (padrão, 2 bots) por segundo
+     * com uma thread e com todas as do pool comum, conferindo que o resultado é o mesmo.
+     */
+    static void medirSimuladorJogos(int jogos) {
+        boolean temposAtivos = Metricas.isTemposAtivos();
+        Metricas.setTemposAtivos(false);
+        SimuladorJogos simulador = new SimuladorJogos(List.of(
+                new SimuladorJogos.Perfil("Cauteloso", 0.7, 0.3),
+                new SimuladorJogos.Perfil("Arrojado", 0.7, 0.0)), ConfiguracaoJogo.PADRAO);
+        simulador.simular(jogos / 4, 1); // aquecimento
+
+        String referencia = null;
+        int paralelismo = ForkJoinPool.commonPool().getParallelism();
+        for (int threads : paralelismo > 1 ? new int[]{1, paralelismo} : new int[]{1}) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            long inicio = System.nanoTime();
+            SimuladorJogos.Resultado r = simulador.simular(jogos, 42, pool);
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            pool.shutdown();
+            if (referencia == null) referencia = r.toString();
+            System.out.printf("%-45s %,18.0f jogos/s%s%n", "SimuladorJogos[" + threads + " thread(s)]",
+                    jogos / segundos, referencia.equals(r.toString()) ? "" : " (RESULTADO DIFERENTE!)");
+        }
+        Metricas.setTemposAtivos(temposAtivos);
+    }
+
+    /**
+     * Índice de duplicatas com n perguntas distintas (textos sorteados de um vocabulário de
+     * 4096 palavras): vazão da carga (inclui criar cada Pergunta), memória do índice por pergunta
+     * e acerto das consultas, metade a perguntas novas e metade a variações de perguntas
+     * indexadas (uma palavra a mais no enunciado). A latência das consultas é medida no módulo jmh.
+     */
+    static void medirIndiceDuplicatas(int n) {
+        SplittableRandom aleatorio = new SplittableRandom(19);
+        String[] vocabulario = new String[4096];
+        for (int i = 0; i < vocabulario.length; i++) {
+            char[] letras = new char[3 + aleatorio.nextInt(6)];
+            for (int j = 0; j < letras.length; j++) letras[j] = (char) ('a' + aleatorio.nextInt(26));
+            vocabulario[i] = new String(letras);
+        }
+
+        IndiceDuplicatas indice = new IndiceDuplicatas();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < n; i++) {
+            indice.registrar(perguntaAleatoria(new SplittableRandom(i), vocabulario, false));
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("%-45s %,18.0f perguntas/s (%,d sinalizadas como repetidas)%n",
+                "IndiceDuplicatas.registrar[" + n + "]", n / segundos,
+                indice.getDuplicadas() + indice.getSemelhantes());
+        System.out.printf("%-45s %,18d bytes/pergunta%n", "", indice.bytesOcupados() / indice.quantidade());
+
+        // Consultas: pares são variações de perguntas já indexadas, ímpares são novas
+        int consultas = 1024;
+        int[] encontradas = {0, 0};
+        for (int i = 0; i < consultas; i++) {
+            Pergunta consulta = (i & 1) == 0
+                    ? perguntaAleatoria(new SplittableRandom(aleatorio.nextInt(n)), vocabulario, true)
+                    : perguntaAleatoria(new SplittableRandom(n + i), vocabulario, false);
+            encontradas[i & 1] += indice.verificar(consulta).isRepetida() ? 1 : 0;
+        }
+        System.out.printf("%-45s %,.3f variações encontradas, %,.4f novas sinalizadas%n", "",
+                encontradas[0] / (consultas / 2.0), encontradas[1] / (consultas / 2.0));
+    }
+
+    // Pergunta de 6 a 10 palavras sorteadas; a variação acrescenta uma palavra ao enunciado
+    private static Pergunta perguntaAleatoria(SplittableRandom aleatorio, String[] vocabulario, boolean variacao) {
+        StringBuilder enunciado = new StringBuilder();
+        for (int p = 6 + aleatorio.nextInt(5); p > 0; p--) {
+            enunciado.append(vocabulario[aleatorio.nextInt(vocabulario.length)]).append(' ');
+        }
+        String[] alternativas = new String[4];
+        for (int a = 0; a < 4; a++) {
+            alternativas[a] = vocabulario[aleatorio.nextInt(vocabulario.length)] + " "
+                    + vocabulario[aleatorio.nextInt(vocabulario.length)];
+        }
+        if (variacao) enunciado.append("mesmo");
+        return new Pergunta(enunciado.append('?').toString(), alternativas, 'a');
+    }
+
+    /**
+     * Tempo do laço do jogo (20 jogadores × 30 perguntas) escrevendo em uma saída lenta
+     * (~1 MB/s, como um pipe para um consumidor lento): escrita direta pelo TerminalFluxo
+     * contra o TerminalAssincrono. "Laço" é o tempo da thread do jogo; "total" inclui
+     * esperar a saída terminar.
+     */
+    static void medirSaidaLenta(Pergunta pergunta) {
+        for (int repeticao = 0; repeticao < 3; repeticao++) {
+            for (boolean assincrono : new boolean[]{false, true}) {
+                Terminal fluxo = new TerminalFluxo(new ByteArrayInputStream(new byte[0]),
+                        new SaidaLenta(1_000), 8192, false, null, true);
+                Terminal terminal = assincrono ? new TerminalAssincrono(fluxo) : fluxo;
+
+                List<Jogador> jogadores = new ArrayList<>(20);
+                for (int i = 0; i < 20; i++) {
+                    jogadores.add(new Jogador("J" + i, new RespondenteRoteiro(true, 'a', 'b', 'c'), terminal));
+                }
+
+                long inicio = System.nanoTime();
+                for (int q = 0; q < 30; q++) {
+                    for (Jogador j : jogadores) j.responderPergunta(pergunta);
+                }
+                long laco = System.nanoTime() - inicio;
+                terminal.close();
+                long total = System.nanoTime() - inicio;
+
+                if (repeticao == 2) { // as duas primeiras aquecem o JIT
+                    System.out.printf("%-45s %,12.1f ms laço %,10.1f ms total%n",
+                            assincrono ? "TerminalAssincrono (saída lenta)" : "TerminalFluxo (saída lenta)",
+                            laco / 1e6, total / 1e6);
+                }
+            }
+        }
+    }
+
+    // Fluxo de saída que simula um consumidor lento: cada byte custa alguns nanossegundos de espera
+    private static final class SaidaLenta extends OutputStream {
+        private final long nanosPorByte;
+
+        SaidaLenta(long nanosPorByte) {
+            this.nanosPorByte = nanosPorByte;
+        }
+
+        @Override
+        public void write(int b) {
+            LockSupport.parkNanos(nanosPorByte);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            LockSupport.parkNanos(nanosPorByte * len);
+        }
+    }
+
+    /**
+     * Mede o heap retido por pergunta mantendo n perguntas distintas vivas.
+     *
+     * @param n Quantidade de perguntas
+     * @return Bytes de heap por pergunta (aproximado)
+     */
+    static long heapPorPergunta(int n) {
+        Runtime rt = Runtime.getRuntime();
+        Pergunta[] perguntas = new Pergunta[n];
+        System.gc();
+        long antes = rt.totalMemory() - rt.freeMemory();
+        for (int i = 0; i < n; i++) {
+            // Textos distintos por pergunta; conta tudo o que a Pergunta mantém vivo
+            perguntas[i] = new Pergunta("Pergunta de número " + i, new String[]{
+                    "Alternativa A" + i, "Alternativa B" + i, "Alternativa C" + i, "Alternativa D" + i}, 'a');
+        }
+        System.gc();
+        long depois = rt.totalMemory() - rt.freeMemory();
+        return (depois - antes) / perguntas.length;
+    }
+}
@@ -0,0 +1,177 @@
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache limitado de perguntas decodificadas do BancoPerguntas, compartilhado por jogos simultâneos.
+ * O texto e a resposta de uma Pergunta não mudam, então a mesma instância pode ser entregue a
+ * qualquer jogo; as perguntas mais sorteadas deixam de ser decodificadas do arquivo a cada jogo.
+ *
+ * A única parte mutável de uma Pergunta são as suas estatísticas de respostas, que ficam na
+ * instância. Para que não se percam quando a pergunta é descartada, o segmento guarda as
+ * estatísticas de cada pergunta descartada pelo índice no banco e as devolve à instância
+ * decodificada da próxima vez; jogos que ainda usam a instância descartada continuam registrando
+ * no mesmo objeto. Isso mantém em memória as estatísticas de toda pergunta que já passou pelo
+ * cache (cerca de 200 bytes cada, com a entrada no mapa).
+ *
+ * O cache é dividido em segmentos, cada um um LinkedHashMap em ordem de acesso com trava própria:
+ * jogos que pedem perguntas de segmentos diferentes não disputam a mesma trava, e cada segmento
+ * descarta a sua pergunta usada há mais tempo (LRU) ao passar da sua parte da capacidade.
+ * A decodificação de uma falta acontece fora da trava.
+ */
+public class CachePerguntas {
+    // Capacidade padrão (perguntas mantidas em memória)
+    public static final int CAPACIDADE_PADRAO = 4096;
+
+    // Quantidade de segmentos (potência de 2)
+    private static final int SEGMENTOS = 16;
+
+    private final BancoPerguntas banco;
+    private final int capacidade;
+    private final Segmento[] segmentos = new Segmento[SEGMENTOS];
+
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder faltas = new LongAdder();
+    private final LongAdder descartes = new LongAdder();
+
+    /**
+     * Cria o cache com a capacidade padrão.
+     *
+     * @param banco Banco de onde as perguntas são decodificadas
+     */
+    public CachePerguntas(BancoPerguntas banco) {
+        this(banco, CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Cria o cache.
+     *
+     * @param banco Banco de onde as perguntas são decodificadas
+     * @param capacidade Máximo de perguntas mantidas (dividido igualmente entre os segmentos)
+     */
+    public CachePerguntas(BancoPerguntas banco, int capacidade) {
+        if (capacidade < SEGMENTOS) {
+            throw new IllegalArgumentException("A capacidade deve ser de pelo menos " + SEGMENTOS + " perguntas.");
+        }
+        this.banco = Objects.requireNonNull(banco, "Banco de perguntas não pode ser nulo");
+        this.capacidade = capacidade;
+        int porSegmento = capacidade / SEGMENTOS;
+        for (int i = 0; i < SEGMENTOS; i++) {
+            segmentos[i] = new Segmento(porSegmento);
+        }
+    }
+
+    /**
+     * Retorna a pergunta de índice informado, decodificando-a do banco se não estiver no cache.
+     * Seguro para uso concorrente.
+     *
+     * @param indice Índice da pergunta no banco
+     * @return Pergunta (possivelmente a mesma instância entregue a outros jogos)
+     */
+    public Pergunta obter(int indice) {
+        Segmento segmento = segmentos[espalhar(indice) & (SEGMENTOS - 1)];
+        Pergunta p;
+        synchronized (segmento) {
+            p = segmento.get(indice);
+        }
+        if (p != null) {
+            acertos.increment();
+            Metricas.cachePerguntas(true);
+            return p;
+        }
+
+        faltas.increment();
+        Metricas.cachePerguntas(false);
+        Pergunta nova = banco.obter(indice);
+        synchronized (segmento) {
+            // Se outro jogo decodificou a mesma pergunta ao mesmo tempo, fica a primeira
+            p = segmento.get(indice);
+            if (p != null) return p;
+            EstatisticasPergunta anteriores = segmento.estatisticasDescartadas.get(indice);
+            if (anteriores != null) nova.vincularEstatisticas(anteriores);
+            segmento.put(indice, nova);
+        }
+        return nova;
+    }
+
+    // Índices consecutivos caem em segmentos diferentes
+    private static int espalhar(int indice) {
+        int h = indice * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    // Banco atrás do cache
+    public BancoPerguntas getBanco() {
+        return banco;
+    }
+
+    // Quantidade de perguntas no banco (não no cache)
+    public int quantidade() {
+        return banco.quantidade();
+    }
+
+    // Máximo de perguntas mantidas
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    // Perguntas atualmente no cache
+    public int tamanho() {
+        int total = 0;
+        for (Segmento s : segmentos) {
+            synchronized (s) {
+                total += s.size();
+            }
+        }
+        return total;
+    }
+
+    // Pedidos atendidos pelo cache
+    public long getAcertos() {
+        return acertos.sum();
+    }
+
+    // Pedidos que precisaram decodificar a pergunta do banco
+    public long getFaltas() {
+        return faltas.sum();
+    }
+
+    // Perguntas descartadas por falta de espaço
+    public long getDescartes() {
+        return descartes.sum();
+    }
+
+    // Fração dos pedidos atendida pelo cache
+    public double getTaxaAcerto() {
+        long a = acertos.sum();
+        long total = a + faltas.sum();
+        return total == 0 ? 0 : (double) a / total;
+    }
+
+    // Segmento do cache: LinkedHashMap em ordem de acesso que descarta o mais antigo ao encher
+    private final class Segmento extends LinkedHashMap<Integer, Pergunta> {
+        private static final long serialVersionUID = 1L;
+
+        private final int limite;
+
+        // Estatísticas das perguntas já descartadas, pelo índice no banco (protegidas pela trava do segmento)
+        private final transient Map<Integer, EstatisticasPergunta> estatisticasDescartadas = new HashMap<>();
+
+        Segmento(int limite) {
+            super(limite * 4 / 3 + 1, 0.75f, true);
+            this.limite = limite;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Pergunta> maisAntiga) {
+            if (size() <= limite) return false;
+            descartes.increment();
+            // Uma pergunta que entrou no cache foi sorteada: as estatísticas são criadas aqui se
+            // ainda não existirem, para que o jogo que a responde registre no objeto guardado
+            estatisticasDescartadas.putIfAbsent(maisAntiga.getKey(), maisAntiga.getValue().getEstatisticas());
+            return true;
+        }
+    }
+}
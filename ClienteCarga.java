@@ -0,0 +1,153 @@
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gerador de carga para o ServidorQuiz.
+ * Abre várias sessões simultâneas, joga partidas completas com 2 jogadores
+ * e mede sessões por segundo e a latência das respostas (p50/p99).
+ *
+ * Uso: java ClienteCarga [sessoes] [concorrencia] [porta]
+ * Sem porta, um servidor headless é iniciado no próprio processo.
+ */
+public class ClienteCarga {
+    private static final int RODADAS = 5;
+    private static final int PERGUNTAS_POR_RODADA = 3;
+    private static final int JOGADORES = 2;
+
+    // Marcadores na saída do servidor (somente ASCII)
+    private static final byte[] FIM_DA_RESPOSTA = "ponto)".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIM_DO_JOGO = "==== FIM ====".getBytes(StandardCharsets.US_ASCII);
+
+    public static void main(String[] args) throws Exception {
+        int sessoes = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int concorrencia = args.length > 1 ? Integer.parseInt(args[1]) : sessoes;
+        ServidorQuiz embutido = null;
+        int porta;
+
+        if (args.length > 2) {
+            porta = Integer.parseInt(args[2]);
+        } else {
+            Apresentacao.setHeadless(true);
+            embutido = new ServidorQuiz(0);
+            embutido.iniciarEmSegundoPlano();
+            porta = embutido.getPorta();
+        }
+
+        Semaphore limite = new Semaphore(concorrencia);
+        AtomicInteger falhas = new AtomicInteger();
+        List<Future<long[]>> resultados = new ArrayList<>(sessoes);
+
+        long inicio = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < sessoes; s++) {
+                resultados.add(executor.submit(() -> {
+                    limite.acquireUninterruptibly();
+                    try {
+                        return jogarSessao(porta);
+                    } catch (IOException e) {
+                        falhas.incrementAndGet();
+                        return new long[0];
+                    } finally {
+                        limite.release();
+                    }
+                }));
+            }
+        }
+        long duracao = System.nanoTime() - inicio;
+
+        // Junta as latências de todas as sessões para o cálculo dos percentis
+        int total = 0;
+        for (Future<long[]> f : resultados) total += f.get().length;
+        long[] latencias = new long[total];
+        int pos = 0;
+        for (Future<long[]> f : resultados) {
+            long[] l = f.get();
+            System.arraycopy(l, 0, latencias, pos, l.length);
+            pos += l.length;
+        }
+        Arrays.sort(latencias);
+
+        double segundos = duracao / 1e9;
+        System.out.printf("Sessões: %d (falhas: %d) em %.2f s -> %.1f sessões/s%n",
+                sessoes, falhas.get(), segundos, (sessoes - falhas.get()) / segundos);
+        System.out.printf("Respostas: %d | p50: %.1f µs | p99: %.1f µs | máx: %.1f µs%n",
+                total, percentil(latencias, 0.50) / 1e3, percentil(latencias, 0.99) / 1e3,
+                total == 0 ? 0.0 : latencias[total - 1] / 1e3);
+
+        if (embutido != null) embutido.close();
+    }
+
+    /**
+     * Joga uma partida completa e retorna a latência de cada resposta, em nanossegundos.
+     */
+    private static long[] jogarSessao(int porta) throws IOException {
+        long[] latencias = new long[RODADAS * PERGUNTAS_POR_RODADA * JOGADORES];
+        int n = 0;
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), porta)) {
+            socket.setTcpNoDelay(true);
+            OutputStream out = socket.getOutputStream();
+            InputStream in = new BufferedInputStream(socket.getInputStream(), 1024);
+
+            enviar(out, "GM\n" + JOGADORES + "\nAna\nBia\n");
+
+            for (int r = 1; r <= RODADAS; r++) {
+                // Cadastro das perguntas da rodada (a resposta correta é sempre 'a')
+                StringBuilder cadastro = new StringBuilder();
+                for (int i = 1; i <= PERGUNTAS_POR_RODADA; i++) {
+                    cadastro.append("Pergunta ").append(r).append('.').append(i).append('\n')
+                            .append("A\nB\nC\nD\na\n");
+                }
+                enviar(out, cadastro.toString());
+
+                // Cada jogador responde e aguarda o veredito
+                for (int i = 0; i < PERGUNTAS_POR_RODADA * JOGADORES; i++) {
+                    long t0 = System.nanoTime();
+                    enviar(out, (i % 2 == 0 ? "a" : "b") + "\n");
+                    aguardar(in, FIM_DA_RESPOSTA);
+                    latencias[n++] = System.nanoTime() - t0;
+                }
+            }
+            aguardar(in, FIM_DO_JOGO);
+        }
+        return latencias;
+    }
+
+    private static void enviar(OutputStream out, String texto) throws IOException {
+        out.write(texto.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    // Consome a saída até encontrar o marcador
+    private static void aguardar(InputStream in, byte[] marcador) throws IOException {
+        int casados = 0;
+        while (casados < marcador.length) {
+            int b = in.read();
+            if (b < 0) throw new IOException("Conexão encerrada pelo servidor.");
+            if (b == marcador[casados]) {
+                casados++;
+            } else {
+                casados = (b == marcador[0]) ? 1 : 0;
+            }
+        }
+    }
+
+    private static long percentil(long[] ordenado, double p) {
+        if (ordenado.length == 0) return 0;
+        int i = (int) Math.ceil(p * ordenado.length) - 1;
+        return ordenado[Math.max(0, i)];
+    }
+}
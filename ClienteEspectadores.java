@@ -0,0 +1,186 @@
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Espectadores de uma TransmissaoJogo para teste de carga.
+ * Abre várias conexões, reconstrói o placar de cada uma a partir dos quadros recebidos
+ * (instantâneos e deltas) até a transmissão terminar e confere que todos os espectadores chegaram
+ * ao mesmo estado final, sem lacunas de versão.
+ *
+ * Todas as conexões são lidas por uma única thread com um Selector, para que o próprio cliente
+ * gaste pouco processador e a medição reflita o servidor.
+ *
+ * Uso: java ClienteEspectadores [espectadores] porta
+ */
+public class ClienteEspectadores {
+    // Tamanho inicial do buffer de leitura de cada conexão (cresce para quadros maiores)
+    private static final int BUFFER_INICIAL = 4096;
+
+    /**
+     * Placar reconstruído por um espectador.
+     */
+    static final class Espectador {
+        private ByteBuffer entrada = ByteBuffer.allocate(BUFFER_INICIAL);
+        long versao = -1;
+        int[] pontuacao = new int[0];
+        int[] acertos = new int[0];
+        int[] pulos = new int[0];
+        boolean[] respondeu = new boolean[0];
+        boolean encerrado;
+        long quadros;
+        long instantaneos;
+        long descartados;
+        long lacunas;
+        long bytes;
+
+        // Lê o que chegou e aplica os quadros completos; false no fim da transmissão
+        boolean ler(SocketChannel canal) throws IOException {
+            int lidos = canal.read(entrada);
+            entrada.flip();
+            while (entrada.remaining() >= 4) {
+                int tamanho = entrada.getInt(entrada.position());
+                if (entrada.remaining() < 4 + tamanho) break;
+                int fimQuadro = entrada.position() + 4 + tamanho;
+                aplicar(entrada.slice(entrada.position() + 4, tamanho));
+                entrada.position(fimQuadro);
+                bytes += 4 + tamanho;
+            }
+            entrada.compact();
+            if (entrada.position() >= 4 && 4 + entrada.getInt(0) > entrada.capacity()) {
+                ByteBuffer maior = ByteBuffer.allocate(Math.max(4 + entrada.getInt(0), 2 * entrada.capacity()));
+                entrada = maior.put(entrada.flip());
+            }
+            return lidos >= 0;
+        }
+
+        private void aplicar(ByteBuffer quadro) {
+            quadros++;
+            boolean instantaneo = quadro.get() == TransmissaoJogo.INSTANTANEO;
+            long v = quadro.getLong();
+            long base = quadro.getLong();
+            if (v <= versao) {
+                descartados++;
+                return;
+            }
+            boolean fim = (quadro.get() & TransmissaoJogo.ENCERRADO) != 0;
+            if (instantaneo || quadro.get() != 0) {
+                quadro.position(quadro.position() + 8); // rodada e pergunta
+                pularTexto(quadro);                      // enunciado
+            }
+            int n = quadro.getInt();
+            if (instantaneo) {
+                instantaneos++;
+                pontuacao = new int[n];
+                acertos = new int[n];
+                pulos = new int[n];
+                respondeu = new boolean[n];
+            } else if (base != versao) {
+                lacunas++;
+            }
+            for (int k = 0; k < n; k++) {
+                int i = quadro.getInt();
+                if (instantaneo) pularTexto(quadro); // nome
+                pontuacao[i] = quadro.getInt();
+                acertos[i] = quadro.getInt();
+                pulos[i] = quadro.getInt();
+                respondeu[i] = quadro.get() != 0;
+            }
+            versao = v;
+            encerrado = fim;
+        }
+
+        // Texto gravado com writeUTF: tamanho (2 bytes) e os bytes
+        private static void pularTexto(ByteBuffer quadro) {
+            int tamanho = quadro.getShort() & 0xFFFF;
+            quadro.position(quadro.position() + tamanho);
+        }
+
+        long somaDeVerificacao() {
+            return TransmissaoJogo.somaDeVerificacao(pontuacao, acertos, pulos, respondeu);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Uso: java ClienteEspectadores [espectadores] porta");
+            System.exit(2);
+        }
+        int quantidade = args.length > 1 ? Integer.parseInt(args[0]) : 1;
+        InetSocketAddress endereco = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                Integer.parseInt(args[args.length - 1]));
+
+        List<Espectador> espectadores = new ArrayList<>(quantidade);
+        int falhas = 0;
+        long inicio = System.nanoTime();
+        try (Selector seletor = Selector.open()) {
+            for (int s = 0; s < quantidade; s++) {
+                try {
+                    SocketChannel canal = SocketChannel.open(endereco);
+                    canal.configureBlocking(false);
+                    Espectador e = new Espectador();
+                    canal.register(seletor, SelectionKey.OP_READ, e);
+                    espectadores.add(e);
+                } catch (IOException ex) {
+                    falhas++;
+                }
+            }
+
+            // Lê até todas as transmissões terminarem
+            int abertas = espectadores.size();
+            while (abertas > 0) {
+                seletor.select();
+                Iterator<SelectionKey> prontas = seletor.selectedKeys().iterator();
+                while (prontas.hasNext()) {
+                    SelectionKey chave = prontas.next();
+                    prontas.remove();
+                    SocketChannel canal = (SocketChannel) chave.channel();
+                    boolean aberta;
+                    try {
+                        aberta = ((Espectador) chave.attachment()).ler(canal);
+                    } catch (IOException ex) {
+                        aberta = false;
+                        falhas++;
+                    }
+                    if (!aberta) {
+                        canal.close();
+                        abertas--;
+                    }
+                }
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        long quadros = 0;
+        long instantaneos = 0;
+        long descartados = 0;
+        long lacunas = 0;
+        long bytes = 0;
+        Map<String, Integer> finais = new TreeMap<>();
+        for (Espectador e : espectadores) {
+            quadros += e.quadros;
+            instantaneos += e.instantaneos;
+            descartados += e.descartados;
+            lacunas += e.lacunas;
+            bytes += e.bytes;
+            finais.merge("versao=" + e.versao + " soma=" + e.somaDeVerificacao()
+                    + (e.encerrado ? " encerrado" : ""), 1, Integer::sum);
+        }
+
+        System.out.printf("Espectadores: %d (falhas: %d) em %.2f s%n", quantidade, falhas, segundos);
+        System.out.printf("Quadros: %d (instantâneos %d, descartados %d, lacunas %d) | %,d bytes%n",
+                quadros, instantaneos, descartados, lacunas, bytes);
+        for (Map.Entry<String, Integer> e : finais.entrySet()) {
+            System.out.println("fim " + e.getKey() + " espectadores=" + e.getValue());
+        }
+    }
+}
@@ -0,0 +1,316 @@
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Definição de um jogo: rodadas, perguntas por rodada, alternativas por pergunta,
+ * pontuação de acerto e erro, pulos permitidos por rodada, o orçamento de cada resposta
+ * (tentativas e prazo), o prazo de cada rodada e o que vale uma resposta com o prazo vencido.
+ * É validada uma única vez na construção e já guarda o "plano" pré-calculado
+ * (textos de prompt, letras válidas, mensagens), para que o laço do jogo não
+ * precise verificar nem montar nada a cada pergunta.
+ */
+public final class ConfiguracaoJogo {
+    // Letras de 'a' a 'o': o 'p' é reservado para o pulo
+    public static final int MAX_ALTERNATIVAS = 15;
+
+    // Tentativas padrão por resposta (entradas inválidas e pulos recusados contam)
+    public static final int TENTATIVAS_PADRAO = 10;
+
+    // O jogo original: 5 rodadas × 3 perguntas, 4 alternativas, +1/-1, um pulo por rodada
+    public static final ConfiguracaoJogo PADRAO = new ConfiguracaoJogo(5, 3, 4, 1, -1, 1);
+
+    private final int rodadas;
+    private final int perguntasPorRodada;
+    private final int alternativasPorPergunta;
+    private final int pontosAcerto;
+    private final int pontosErro;
+    private final int pulosPorRodada;
+    private final int tentativasPorResposta;
+    private final Duration prazoResposta; // Duration.ZERO = sem prazo
+    private final Duration prazoRodada;   // Duration.ZERO = sem prazo
+    private final boolean expiracaoComoPulo; // Prazo vencido usa um pulo (se houver) em vez de contar como erro
+
+    // Plano pré-calculado
+    private final char ultimaLetra;
+    private final String[] promptsAlternativas;
+    private final String promptRespostaCorreta;
+    private final String mensagemRespostaCorretaInvalida;
+    private final String mensagemAcerto;
+    private final String mensagemErro;
+    private final String mensagemSemPulos;
+    private final String mensagemEsgotada;
+    private final String descricaoAcerto;
+    private final String descricaoErro;
+
+    /**
+     * Construtor da configuração.
+     *
+     * @param rodadas Quantidade de rodadas (>= 1)
+     * @param perguntasPorRodada Perguntas em cada rodada (>= 1)
+     * @param alternativasPorPergunta Alternativas de cada pergunta (2 a 15)
+     * @param pontosAcerto Pontos somados em um acerto
+     * @param pontosErro Pontos somados em um erro (normalmente negativo)
+     * @param pulosPorRodada Pulos permitidos a cada jogador por rodada (>= 0)
+     */
+    public ConfiguracaoJogo(int rodadas, int perguntasPorRodada, int alternativasPorPergunta,
+                            int pontosAcerto, int pontosErro, int pulosPorRodada) {
+        this(rodadas, perguntasPorRodada, alternativasPorPergunta, pontosAcerto, pontosErro, pulosPorRodada,
+                TENTATIVAS_PADRAO, Duration.ZERO);
+    }
+
+    /**
+     * Construtor da configuração com o orçamento de cada resposta, sem prazo de rodada.
+     * Esgotadas as tentativas ou o prazo, a resposta conta como erro.
+     *
+     * @param rodadas Quantidade de rodadas (>= 1)
+     * @param perguntasPorRodada Perguntas em cada rodada (>= 1)
+     * @param alternativasPorPergunta Alternativas de cada pergunta (2 a 15)
+     * @param pontosAcerto Pontos somados em um acerto
+     * @param pontosErro Pontos somados em um erro (normalmente negativo)
+     * @param pulosPorRodada Pulos permitidos a cada jogador por rodada (>= 0)
+     * @param tentativasPorResposta Entradas aceitas por resposta, contando as inválidas (>= 1)
+     * @param prazoResposta Tempo máximo para chegar a uma resposta válida (Duration.ZERO = sem prazo)
+     */
+    public ConfiguracaoJogo(int rodadas, int perguntasPorRodada, int alternativasPorPergunta,
+                            int pontosAcerto, int pontosErro, int pulosPorRodada,
+                            int tentativasPorResposta, Duration prazoResposta) {
+        this(rodadas, perguntasPorRodada, alternativasPorPergunta, pontosAcerto, pontosErro, pulosPorRodada,
+                tentativasPorResposta, prazoResposta, Duration.ZERO, false);
+    }
+
+    /**
+     * Construtor completo da configuração, com o orçamento de cada resposta e o prazo da rodada.
+     * Esgotadas as tentativas, a resposta conta como erro; vencido um prazo (da resposta ou da rodada),
+     * conta como erro ou, com expiracaoComoPulo, usa um pulo enquanto houver.
+     *
+     * @param rodadas Quantidade de rodadas (>= 1)
+     * @param perguntasPorRodada Perguntas em cada rodada (>= 1)
+     * @param alternativasPorPergunta Alternativas de cada pergunta (2 a 15)
+     * @param pontosAcerto Pontos somados em um acerto
+     * @param pontosErro Pontos somados em um erro (normalmente negativo)
+     * @param pulosPorRodada Pulos permitidos a cada jogador por rodada (>= 0)
+     * @param tentativasPorResposta Entradas aceitas por resposta, contando as inválidas (>= 1)
+     * @param prazoResposta Tempo máximo para chegar a uma resposta válida (Duration.ZERO = sem prazo)
+     * @param prazoRodada Tempo máximo de cada rodada; vencido, as respostas restantes expiram (Duration.ZERO = sem prazo)
+     * @param expiracaoComoPulo true para um prazo vencido contar como pulo (se ainda houver), e não como erro
+     */
+    public ConfiguracaoJogo(int rodadas, int perguntasPorRodada, int alternativasPorPergunta,
+                            int pontosAcerto, int pontosErro, int pulosPorRodada,
+                            int tentativasPorResposta, Duration prazoResposta,
+                            Duration prazoRodada, boolean expiracaoComoPulo) {
+        if (rodadas < 1) {
+            throw new IllegalArgumentException("O jogo precisa de pelo menos 1 rodada.");
+        }
+        if (perguntasPorRodada < 1) {
+            throw new IllegalArgumentException("Cada rodada precisa de pelo menos 1 pergunta.");
+        }
+        if (alternativasPorPergunta < 2 || alternativasPorPergunta > MAX_ALTERNATIVAS) {
+            throw new IllegalArgumentException("Cada pergunta deve ter entre 2 e " + MAX_ALTERNATIVAS + " alternativas.");
+        }
+        if (pontosAcerto <= pontosErro) {
+            throw new IllegalArgumentException("Um acerto deve valer mais pontos que um erro.");
+        }
+        if (pulosPorRodada < 0) {
+            throw new IllegalArgumentException("A quantidade de pulos não pode ser negativa.");
+        }
+        if (tentativasPorResposta < 1) {
+            throw new IllegalArgumentException("Cada resposta precisa de pelo menos 1 tentativa.");
+        }
+        if (prazoResposta == null || prazoResposta.isNegative()) {
+            throw new IllegalArgumentException("O prazo de resposta não pode ser negativo.");
+        }
+        if (prazoRodada == null || prazoRodada.isNegative()) {
+            throw new IllegalArgumentException("O prazo da rodada não pode ser negativo.");
+        }
+
+        this.rodadas = rodadas;
+        this.perguntasPorRodada = perguntasPorRodada;
+        this.alternativasPorPergunta = alternativasPorPergunta;
+        this.pontosAcerto = pontosAcerto;
+        this.pontosErro = pontosErro;
+        this.pulosPorRodada = pulosPorRodada;
+        this.tentativasPorResposta = tentativasPorResposta;
+        this.prazoResposta = prazoResposta;
+        this.prazoRodada = prazoRodada;
+        this.expiracaoComoPulo = expiracaoComoPulo;
+
+        this.ultimaLetra = (char) ('a' + alternativasPorPergunta - 1);
+        this.promptsAlternativas = new String[alternativasPorPergunta];
+        StringBuilder letras = new StringBuilder();
+        StringBuilder opcoes = new StringBuilder();
+        for (int i = 0; i < alternativasPorPergunta; i++) {
+            char l = (char) ('a' + i);
+            promptsAlternativas[i] = "Alternativa " + l + "): ";
+            if (i > 0) letras.append('/');
+            letras.append(l);
+            if (i > 0) opcoes.append(i == alternativasPorPergunta - 1 ? " ou " : ", ");
+            opcoes.append('\'').append(l).append('\'');
+        }
+        this.promptRespostaCorreta = "Letra da alternativa correta (" + letras + "): ";
+        this.mensagemRespostaCorretaInvalida = "Inválido. Digite " + opcoes + ": ";
+        this.descricaoAcerto = descreverPontos(pontosAcerto);
+        this.descricaoErro = descreverPontos(pontosErro);
+        this.mensagemAcerto = "✅ Resposta correta! (" + descricaoAcerto + ")";
+        this.mensagemErro = "❌ Resposta errada! (" + descricaoErro + ")";
+        this.mensagemSemPulos = switch (pulosPorRodada) {
+            case 0 -> "Este jogo não permite pulos. Responda a pergunta.";
+            case 1 -> "Você já usou seu pulo nesta rodada. Responda a pergunta.";
+            default -> "Você já usou seus " + pulosPorRodada + " pulos nesta rodada. Responda a pergunta.";
+        };
+        this.mensagemEsgotada = "⌛ Sem resposta válida! (" + descricaoErro + ")";
+    }
+
+    /**
+     * Lê uma configuração no formato "chave=valor,chave=valor".
+     * Chaves: rodadas, perguntas, alternativas, acerto, erro, pulos, tentativas, prazo e prazoRodada
+     * (em segundos) e expiracao (erro ou pulo). Chaves ausentes mantêm o valor padrão.
+     *
+     * @param especificacao Texto da configuração
+     * @return Configuração validada
+     */
+    public static ConfiguracaoJogo de(String especificacao) {
+        int[] v = {PADRAO.rodadas, PADRAO.perguntasPorRodada, PADRAO.alternativasPorPergunta,
+                PADRAO.pontosAcerto, PADRAO.pontosErro, PADRAO.pulosPorRodada,
+                PADRAO.tentativasPorResposta, (int) PADRAO.prazoResposta.toSeconds(),
+                (int) PADRAO.prazoRodada.toSeconds()};
+        boolean expiracaoComoPulo = PADRAO.expiracaoComoPulo;
+        for (String par : especificacao.split(",")) {
+            if (par.isBlank()) continue;
+            String[] kv = par.split("=", 2);
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("Configuração inválida: " + par);
+            }
+            if (kv[0].strip().equalsIgnoreCase("expiracao")) {
+                switch (kv[1].strip().toLowerCase(Locale.ROOT)) {
+                    case "erro" -> expiracaoComoPulo = false;
+                    case "pulo" -> expiracaoComoPulo = true;
+                    default -> throw new IllegalArgumentException("Expiração deve ser \"erro\" ou \"pulo\": " + par);
+                }
+                continue;
+            }
+            int valor;
+            try {
+                valor = Integer.parseInt(kv[1].strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor inválido em: " + par);
+            }
+            switch (kv[0].strip().toLowerCase(Locale.ROOT)) {
+                case "rodadas" -> v[0] = valor;
+                case "perguntas" -> v[1] = valor;
+                case "alternativas" -> v[2] = valor;
+                case "acerto" -> v[3] = valor;
+                case "erro" -> v[4] = valor;
+                case "pulos" -> v[5] = valor;
+                case "tentativas" -> v[6] = valor;
+                case "prazo" -> v[7] = valor;
+                case "prazorodada" -> v[8] = valor;
+                default -> throw new IllegalArgumentException("Chave de configuração desconhecida: " + kv[0]);
+            }
+        }
+        if (v[7] < 0) {
+            throw new IllegalArgumentException("O prazo de resposta não pode ser negativo.");
+        }
+        if (v[8] < 0) {
+            throw new IllegalArgumentException("O prazo da rodada não pode ser negativo.");
+        }
+        return new ConfiguracaoJogo(v[0], v[1], v[2], v[3], v[4], v[5], v[6], Duration.ofSeconds(v[7]),
+                Duration.ofSeconds(v[8]), expiracaoComoPulo);
+    }
+
+    // Ex.: "+1 ponto", "-2 pontos"
+    private static String descreverPontos(int pontos) {
+        return (pontos >= 0 ? "+" : "") + pontos + (Math.abs(pontos) == 1 ? " ponto" : " pontos");
+    }
+
+    public int getRodadas() {
+        return rodadas;
+    }
+
+    public int getPerguntasPorRodada() {
+        return perguntasPorRodada;
+    }
+
+    public int getAlternativasPorPergunta() {
+        return alternativasPorPergunta;
+    }
+
+    public int getPontosAcerto() {
+        return pontosAcerto;
+    }
+
+    public int getPontosErro() {
+        return pontosErro;
+    }
+
+    public int getPulosPorRodada() {
+        return pulosPorRodada;
+    }
+
+    public int getTentativasPorResposta() {
+        return tentativasPorResposta;
+    }
+
+    public Duration getPrazoResposta() {
+        return prazoResposta;
+    }
+
+    public Duration getPrazoRodada() {
+        return prazoRodada;
+    }
+
+    // Indica se um prazo vencido usa um pulo (quando ainda há) em vez de contar como erro
+    public boolean isExpiracaoComoPulo() {
+        return expiracaoComoPulo;
+    }
+
+    // Última letra de alternativa válida
+    public char getUltimaLetra() {
+        return ultimaLetra;
+    }
+
+    // Prompt de cadastro da alternativa de índice i ("Alternativa a): ")
+    String getPromptAlternativa(int i) {
+        return promptsAlternativas[i];
+    }
+
+    String getPromptRespostaCorreta() {
+        return promptRespostaCorreta;
+    }
+
+    String getMensagemRespostaCorretaInvalida() {
+        return mensagemRespostaCorretaInvalida;
+    }
+
+    String getMensagemAcerto() {
+        return mensagemAcerto;
+    }
+
+    String getMensagemErro() {
+        return mensagemErro;
+    }
+
+    String getMensagemSemPulos() {
+        return mensagemSemPulos;
+    }
+
+    String getMensagemEsgotada() {
+        return mensagemEsgotada;
+    }
+
+    // Descrição de pontos para mensagens ("+1 ponto")
+    String descreverAcerto() {
+        return descricaoAcerto;
+    }
+
+    String descreverErro() {
+        return descricaoErro;
+    }
+
+    @Override
+    public String toString() {
+        return "rodadas=" + rodadas + ",perguntas=" + perguntasPorRodada + ",alternativas=" + alternativasPorPergunta
+                + ",acerto=" + pontosAcerto + ",erro=" + pontosErro + ",pulos=" + pulosPorRodada
+                + ",tentativas=" + tentativasPorResposta + ",prazo=" + prazoResposta.toSeconds()
+                + ",prazoRodada=" + prazoRodada.toSeconds() + ",expiracao=" + (expiracaoComoPulo ? "pulo" : "erro");
+    }
+}
@@ -0,0 +1,561 @@
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Diário do jogo (event sourcing): cada evento de domínio é acrescentado a um arquivo
+ * binário somente de escrita, permitindo reconstruir o estado exato após uma queda da JVM.
+ *
+ * Formato de cada registro: tamanho do conteúdo (int) | tipo (byte) | conteúdo | CRC32 (int).
+ * Um registro incompleto ou corrompido no fim do arquivo (escrita interrompida) é descartado
+ * na recuperação. Cada resposta corrigida ocupa um único registro, com o acerto e a variação
+ * da pontuação, para que uma queda nunca separe a resposta dos pontos que ela valeu.
+ *
+ * As gravações usam group commit: os eventos se acumulam em memória enquanto uma thread
+ * escritora grava o lote anterior e faz um único fsync por lote. Instantâneos periódicos do
+ * estado (arquivo ".instantaneo") limitam o trecho do diário que precisa ser reaplicado.
+ */
+public class DiarioJogo implements AutoCloseable {
+    // Tipos de evento
+    private static final byte JOGO_INICIADO = 1;
+    private static final byte RODADA_INICIADA = 2;
+    private static final byte PERGUNTA_CRIADA = 3;
+    private static final byte PERGUNTA_INICIADA = 4;
+    private static final byte RESPOSTA_DADA = 5; // formato antigo, só lido na recuperação
+    private static final byte PULO_USADO = 6;
+    private static final byte ACERTO_REGISTRADO = 7;
+    private static final byte PONTUACAO_ALTERADA = 8;
+    private static final byte RODADA_ENCERRADA = 9;
+    private static final byte RESPOSTA_CORRIGIDA = 10;
+    private static final byte JOGO_ENCERRADO = 11;
+
+    private static final int MAGIC_INSTANTANEO = 0x515A4932; // "QZI2" (inclui o fim do jogo)
+
+    // Instantâneo automático a cada tantos eventos (além do fim de cada rodada)
+    public static final int EVENTOS_POR_INSTANTANEO_PADRAO = 100_000;
+
+    private final FileChannel canal;
+    private final Path arquivoInstantaneo;
+    private final EstadoJogo espelho; // Estado ao vivo, atualizado junto com cada evento
+    private final Map<Pergunta, Integer> indicePerguntas = new IdentityHashMap<>();
+    private final Thread escritora;
+    private final int eventosPorInstantaneo;
+
+    private ByteBuffer pendente = ByteBuffer.allocate(64 * 1024); // Eventos ainda não gravados
+    private ByteBuffer lote = ByteBuffer.allocate(64 * 1024);     // Lote em gravação
+    private final CRC32 crc = new CRC32();
+    private long posicaoLogica;   // Bytes já registrados
+    private long posicaoDuravel;  // Bytes já gravados com fsync
+    private byte[] instantaneoPendente;
+    private long eventosDesdeInstantaneo;
+    private long sincronizacoes;  // Quantidade de fsyncs realizados
+    private IOException falha;
+    private boolean fechado;
+
+    /**
+     * Abre (ou cria) um diário para gravação, a partir de um estado recuperado.
+     * O arquivo é truncado na posição coberta pelo estado, descartando um eventual
+     * registro incompleto deixado por uma queda. Um diário vazio descarta também o
+     * instantâneo de um jogo anterior gravado no mesmo arquivo.
+     *
+     * @param arquivo Arquivo do diário
+     * @param estado Estado obtido com recuperar() (ou um EstadoJogo novo para um diário vazio)
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    public DiarioJogo(Path arquivo, EstadoJogo estado) throws IOException {
+        this(arquivo, estado, EVENTOS_POR_INSTANTANEO_PADRAO);
+    }
+
+    /**
+     * Abre (ou cria) um diário para gravação.
+     *
+     * @param arquivo Arquivo do diário
+     * @param estado Estado obtido com recuperar() (ou um EstadoJogo novo para um diário vazio)
+     * @param eventosPorInstantaneo Eventos entre instantâneos automáticos
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    public DiarioJogo(Path arquivo, EstadoJogo estado, int eventosPorInstantaneo) throws IOException {
+        if (eventosPorInstantaneo <= 0) {
+            throw new IllegalArgumentException("O intervalo de instantâneos deve ser positivo.");
+        }
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        this.canal.truncate(estado.getPosicaoDiario());
+        this.canal.position(estado.getPosicaoDiario());
+        this.arquivoInstantaneo = caminhoInstantaneo(arquivo);
+        if (estado.getPosicaoDiario() == 0) {
+            Files.deleteIfExists(arquivoInstantaneo);
+        }
+        this.espelho = estado;
+        this.eventosPorInstantaneo = eventosPorInstantaneo;
+        this.posicaoLogica = this.posicaoDuravel = estado.getPosicaoDiario();
+        List<Pergunta> perguntas = estado.getPerguntasDaRodada();
+        for (int i = 0; i < perguntas.size(); i++) {
+            indicePerguntas.put(perguntas.get(i), i);
+        }
+
+        this.escritora = new Thread(this::gravarLotes, "diario-jogo");
+        this.escritora.setDaemon(true);
+        this.escritora.start();
+    }
+
+    // --- Eventos ---
+
+    /**
+     * Registra o início do jogo, com os nomes na ordem de cadastro.
+     */
+    public synchronized void jogoIniciado(String nomeGameMaster, List<String> nomesJogadores) {
+        iniciarRegistro(JOGO_INICIADO);
+        colocarTexto(nomeGameMaster);
+        colocarInt(nomesJogadores.size());
+        for (String nome : nomesJogadores) colocarTexto(nome);
+        concluirRegistro();
+        espelho.jogoIniciado(nomeGameMaster, nomesJogadores.toArray(new String[0]));
+        eventoAplicado();
+    }
+
+    public synchronized void rodadaIniciada(int rodada) {
+        iniciarRegistro(RODADA_INICIADA);
+        colocarInt(rodada);
+        concluirRegistro();
+        espelho.rodadaIniciada(rodada);
+        indicePerguntas.clear();
+        eventoAplicado();
+    }
+
+    public synchronized void perguntaCriada(Pergunta pergunta) {
+        iniciarRegistro(PERGUNTA_CRIADA);
+        colocarByte(pergunta.getRespostaCorreta());
+        colocarTexto(pergunta.getEnunciado());
+        colocarByte(pergunta.getQuantidadeAlternativas());
+        for (int a = 0; a < pergunta.getQuantidadeAlternativas(); a++) {
+            colocarTexto(pergunta.getAlternativa(a));
+        }
+        concluirRegistro();
+        indicePerguntas.put(pergunta, espelho.getPerguntasDaRodada().size());
+        espelho.perguntaCriada(pergunta);
+        eventoAplicado();
+    }
+
+    public synchronized void perguntaIniciada(int indice) {
+        iniciarRegistro(PERGUNTA_INICIADA);
+        colocarInt(indice);
+        concluirRegistro();
+        espelho.perguntaIniciada(indice);
+        eventoAplicado();
+    }
+
+    /**
+     * Registra o fim do jogo (resultado final exibido a seguir): um diário encerrado não é retomado.
+     */
+    public synchronized void jogoEncerrado() {
+        iniciarRegistro(JOGO_ENCERRADO);
+        concluirRegistro();
+        espelho.jogoEncerrado();
+        eventoAplicado();
+    }
+
+    public synchronized void rodadaEncerrada(int rodada) {
+        iniciarRegistro(RODADA_ENCERRADA);
+        colocarInt(rodada);
+        concluirRegistro();
+        espelho.rodadaEncerrada(rodada);
+        espelho.setPosicaoDiario(posicaoLogica);
+        agendarInstantaneo();
+    }
+
+    private synchronized void registrarResposta(int jogador, Pergunta pergunta, char resposta, boolean correta,
+                                                int delta) {
+        Integer indice = indicePerguntas.get(pergunta);
+        iniciarRegistro(RESPOSTA_CORRIGIDA);
+        colocarInt(jogador);
+        colocarInt(indice == null ? -1 : indice);
+        colocarByte(resposta);
+        colocarByte(correta ? 1 : 0);
+        colocarInt(delta);
+        concluirRegistro();
+        espelho.respostaCorrigida(jogador, correta, delta);
+        eventoAplicado();
+    }
+
+    private synchronized void eventoDeJogador(byte tipo, int jogador, int valor) {
+        iniciarRegistro(tipo);
+        colocarInt(jogador);
+        if (tipo == PONTUACAO_ALTERADA) colocarInt(valor);
+        concluirRegistro();
+        switch (tipo) {
+            case PULO_USADO -> espelho.puloUsado(jogador);
+            case ACERTO_REGISTRADO -> espelho.acertoRegistrado(jogador);
+            default -> espelho.pontuacaoAlterada(jogador, valor);
+        }
+        eventoAplicado();
+    }
+
+    /**
+     * Cria o ouvinte que registra no diário os eventos de um jogador.
+     * O acerto e a pontuação avisados logo depois de uma resposta corrigida já estão no
+     * registro dela e não são gravados de novo.
+     *
+     * @param indice Posição do jogador na ordem de cadastro
+     * @return Ouvinte a ser registrado no Jogador
+     */
+    public OuvinteJogador ouvinteDe(int indice) {
+        return new OuvinteJogador() {
+            // Eventos ainda por chegar que pertencem à última resposta corrigida
+            // (protegidos pela trava do jogador, como todas as chamadas do ouvinte)
+            private boolean acertoDaResposta;
+            private boolean pontuacaoDaResposta;
+
+            @Override
+            public void pontuacaoAlterada(Jogador jogador, int delta) {
+                if (pontuacaoDaResposta) {
+                    pontuacaoDaResposta = false;
+                    return;
+                }
+                eventoDeJogador(PONTUACAO_ALTERADA, indice, delta);
+            }
+
+            @Override
+            public void acertoRegistrado(Jogador jogador) {
+                if (acertoDaResposta) {
+                    acertoDaResposta = false;
+                    return;
+                }
+                eventoDeJogador(ACERTO_REGISTRADO, indice, 0);
+            }
+
+            @Override
+            public void puloUsado(Jogador jogador) {
+                eventoDeJogador(PULO_USADO, indice, 0);
+            }
+
+            @Override
+            public void respostaCorrigida(Jogador jogador, Pergunta pergunta, char resposta, boolean correta) {
+                ConfiguracaoJogo configuracao = jogador.getConfiguracao();
+                int delta = correta ? configuracao.getPontosAcerto() : configuracao.getPontosErro();
+                registrarResposta(indice, pergunta, resposta, correta, delta);
+                acertoDaResposta = correta;
+                pontuacaoDaResposta = true;
+            }
+        };
+    }
+
+    // Estado atual segundo o diário (somente leitura para quem chama)
+    public EstadoJogo getEstado() {
+        return espelho;
+    }
+
+    // --- Durabilidade ---
+
+    /**
+     * Aguarda até que todos os eventos registrados até agora estejam gravados com fsync.
+     */
+    public void sincronizar() {
+        synchronized (this) {
+            long alvo = posicaoLogica;
+            notifyAll();
+            while (posicaoDuravel < alvo && falha == null && !fechado) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (falha != null) throw new UncheckedIOException(falha);
+        }
+    }
+
+    /**
+     * Pede um instantâneo do estado atual; ele é gravado depois do fsync dos eventos que cobre.
+     */
+    public synchronized void agendarInstantaneo() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC_INSTANTANEO);
+            out.writeLong(posicaoLogica);
+            espelho.gravar(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // não ocorre em memória
+        }
+        instantaneoPendente = bytes.toByteArray();
+        eventosDesdeInstantaneo = 0;
+        notifyAll();
+    }
+
+    // Quantidade de fsyncs feitos até agora (cada um grava um lote inteiro)
+    public synchronized long getSincronizacoes() {
+        return sincronizacoes;
+    }
+
+    /**
+     * Grava os eventos pendentes e fecha o diário.
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            fechado = true;
+            notifyAll();
+        }
+        try {
+            escritora.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        canal.close();
+        if (falha != null) throw falha;
+    }
+
+    // Laço da thread escritora: um write + um fsync por lote acumulado
+    private void gravarLotes() {
+        while (true) {
+            long alvo;
+            byte[] instantaneo;
+            synchronized (this) {
+                while (pendente.position() == 0 && instantaneoPendente == null && !fechado) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pendente.position() == 0 && instantaneoPendente == null) return; // fechado
+
+                ByteBuffer t = lote;
+                lote = pendente;
+                pendente = t;
+                alvo = posicaoLogica;
+                instantaneo = instantaneoPendente;
+                instantaneoPendente = null;
+            }
+
+            try {
+                lote.flip();
+                if (lote.hasRemaining()) {
+                    while (lote.hasRemaining()) canal.write(lote);
+                    canal.force(false);
+                }
+                lote.clear();
+                if (instantaneo != null) gravarInstantaneo(instantaneo);
+            } catch (IOException e) {
+                synchronized (this) {
+                    falha = e;
+                    notifyAll();
+                }
+                return;
+            }
+
+            synchronized (this) {
+                posicaoDuravel = alvo;
+                sincronizacoes++;
+                notifyAll();
+            }
+        }
+    }
+
+    // Grava o instantâneo em um arquivo temporário e o move atomicamente
+    private void gravarInstantaneo(byte[] conteudo) throws IOException {
+        CRC32 c = new CRC32();
+        c.update(conteudo);
+        Path temporario = arquivoInstantaneo.resolveSibling(arquivoInstantaneo.getFileName() + ".tmp");
+        try (FileChannel saida = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = ByteBuffer.allocate(conteudo.length + 8);
+            buf.putInt(conteudo.length).put(conteudo).putInt((int) c.getValue()).flip();
+            while (buf.hasRemaining()) saida.write(buf);
+            saida.force(true);
+        }
+        Files.move(temporario, arquivoInstantaneo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // --- Codificação dos registros ---
+
+    private int inicioRegistro;
+
+    private void iniciarRegistro(byte tipo) {
+        if (fechado) throw new IllegalStateException("Diário fechado.");
+        garantirEspaco(16);
+        inicioRegistro = pendente.position();
+        pendente.putInt(0); // tamanho, preenchido em concluirRegistro()
+        pendente.put(tipo);
+    }
+
+    private void concluirRegistro() {
+        int tamanhoConteudo = pendente.position() - inicioRegistro - 5;
+        pendente.putInt(inicioRegistro, tamanhoConteudo);
+
+        crc.reset();
+        crc.update(pendente.array(), inicioRegistro + 4, tamanhoConteudo + 1);
+        garantirEspaco(4);
+        pendente.putInt((int) crc.getValue());
+
+        posicaoLogica += pendente.position() - inicioRegistro;
+        notifyAll();
+    }
+
+    // Chamado depois que o evento registrado foi aplicado ao espelho: só então a posição do
+    // espelho avança, e um instantâneo agendado aqui contém o efeito do evento que cobre.
+    private void eventoAplicado() {
+        espelho.setPosicaoDiario(posicaoLogica);
+        if (++eventosDesdeInstantaneo >= eventosPorInstantaneo) agendarInstantaneo();
+    }
+
+    private void colocarByte(int valor) {
+        garantirEspaco(1);
+        pendente.put((byte) valor);
+    }
+
+    private void colocarInt(int valor) {
+        garantirEspaco(4);
+        pendente.putInt(valor);
+    }
+
+    private void colocarTexto(String texto) {
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        colocarInt(bytes.length);
+        garantirEspaco(bytes.length);
+        pendente.put(bytes);
+    }
+
+    private void garantirEspaco(int bytes) {
+        if (pendente.remaining() >= bytes) return;
+        ByteBuffer maior = ByteBuffer.allocate(Math.max(pendente.capacity() * 2, pendente.position() + bytes));
+        pendente.flip();
+        maior.put(pendente);
+        pendente = maior;
+    }
+
+    // --- Recuperação ---
+
+    static Path caminhoInstantaneo(Path arquivo) {
+        return arquivo.resolveSibling(arquivo.getFileName() + ".instantaneo");
+    }
+
+    /**
+     * Reconstrói o estado do jogo: carrega o último instantâneo válido (se houver) e
+     * reaplica apenas os eventos gravados depois dele. Um arquivo inexistente resulta
+     * em um estado vazio.
+     *
+     * @param arquivo Arquivo do diário
+     * @return Estado recuperado, com a posição até onde o diário é válido
+     * @throws IOException se a leitura falhar
+     */
+    public static EstadoJogo recuperar(Path arquivo) throws IOException {
+        EstadoJogo estado = lerInstantaneo(caminhoInstantaneo(arquivo));
+        if (!Files.exists(arquivo)) {
+            estado = new EstadoJogo();
+            estado.setPosicaoDiario(0);
+            return estado;
+        }
+
+        try (FileChannel entrada = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (estado == null || estado.getPosicaoDiario() > entrada.size()) {
+                estado = new EstadoJogo(); // sem instantâneo utilizável: reaplica tudo
+                estado.setPosicaoDiario(0);
+            }
+            long posicao = estado.getPosicaoDiario();
+            entrada.position(posicao);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Channels.newInputStream(entrada), 1 << 16));
+            CRC32 c = new CRC32();
+
+            while (true) {
+                byte[] registro;
+                try {
+                    int tamanho = in.readInt();
+                    if (tamanho < 0 || posicao + 9L + tamanho > entrada.size()) break; // registro incompleto
+                    registro = new byte[tamanho + 1];
+                    in.readFully(registro);
+                    int esperado = in.readInt();
+                    c.reset();
+                    c.update(registro);
+                    if ((int) c.getValue() != esperado) break; // registro corrompido
+                    posicao += 9L + tamanho;
+                } catch (EOFException e) {
+                    break;
+                }
+                aplicar(estado, registro);
+            }
+            estado.setPosicaoDiario(posicao);
+        }
+        return estado;
+    }
+
+    // Reaplica um registro do diário ao estado
+    private static void aplicar(EstadoJogo estado, byte[] registro) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(registro, 1, registro.length - 1));
+        switch (registro[0]) {
+            case JOGO_INICIADO -> {
+                String gm = lerTexto(in);
+                String[] nomes = new String[in.readInt()];
+                for (int i = 0; i < nomes.length; i++) nomes[i] = lerTexto(in);
+                estado.jogoIniciado(gm, nomes);
+            }
+            case RODADA_INICIADA -> estado.rodadaIniciada(in.readInt());
+            case PERGUNTA_CRIADA -> {
+                char correta = (char) in.readByte();
+                String enunciado = lerTexto(in);
+                String[] alternativas = new String[in.readByte()];
+                for (int a = 0; a < alternativas.length; a++) alternativas[a] = lerTexto(in);
+                estado.perguntaCriada(new Pergunta(enunciado, alternativas, correta));
+            }
+            case PERGUNTA_INICIADA -> estado.perguntaIniciada(in.readInt());
+            case RESPOSTA_DADA -> estado.respostaDada(in.readInt());
+            case RESPOSTA_CORRIGIDA -> {
+                int jogador = in.readInt();
+                in.readInt();  // pergunta
+                in.readByte(); // resposta
+                boolean correta = in.readByte() != 0;
+                estado.respostaCorrigida(jogador, correta, in.readInt());
+            }
+            case PULO_USADO -> estado.puloUsado(in.readInt());
+            case ACERTO_REGISTRADO -> estado.acertoRegistrado(in.readInt());
+            case PONTUACAO_ALTERADA -> estado.pontuacaoAlterada(in.readInt(), in.readInt());
+            case RODADA_ENCERRADA -> estado.rodadaEncerrada(in.readInt());
+            case JOGO_ENCERRADO -> estado.jogoEncerrado();
+            default -> throw new IOException("Tipo de evento desconhecido no diário: " + registro[0]);
+        }
+    }
+
+    private static String lerTexto(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Lê o instantâneo; retorna null se não existir ou estiver corrompido
+    private static EstadoJogo lerInstantaneo(Path arquivo) throws IOException {
+        if (!Files.exists(arquivo)) return null;
+        byte[] bytes = Files.readAllBytes(arquivo);
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        if (bytes.length < 8) return null;
+        int tamanho = buf.getInt();
+        if (tamanho < 12 || tamanho + 8 > bytes.length) return null;
+        CRC32 c = new CRC32();
+        c.update(bytes, 4, tamanho);
+        if ((int) c.getValue() != buf.getInt(4 + tamanho)) return null;
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 4, tamanho));
+        if (in.readInt() != MAGIC_INSTANTANEO) return null;
+        long posicao = in.readLong();
+        EstadoJogo estado = EstadoJogo.ler(in);
+        estado.setPosicaoDiario(posicao);
+        return estado;
+    }
+}
@@ -0,0 +1,238 @@
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Estado de um jogo reconstruído a partir dos eventos do DiarioJogo.
+ * O mesmo código aplica os eventos ao vivo (espelho usado nos instantâneos)
+ * e na recuperação após uma queda, garantindo que os dois caminhos concordem.
+ */
+public class EstadoJogo {
+    private String nomeGameMaster;
+    private String[] nomesJogadores = new String[0];
+
+    // Contadores por jogador, na ordem de cadastro
+    private int[] acertosNaRodada = new int[0];
+    private int[] pulosNaRodada = new int[0];
+    private int[] pulosTotal = new int[0];
+    private int[] pontuacaoTotal = new int[0];
+
+    private int rodadaAtual; // 0 = nenhuma rodada iniciada
+    private boolean rodadaEncerrada = true;
+    private final List<Pergunta> perguntasDaRodada = new ArrayList<>(3);
+    private int perguntaAtual = -1; // Índice da pergunta em andamento na rodada
+    private boolean[] respondeuPerguntaAtual = new boolean[0];
+    private boolean encerrado; // Todas as rodadas jogadas
+
+    // Posição do diário (em bytes) coberta por este estado
+    private long posicaoDiario;
+
+    // --- Aplicação de eventos ---
+
+    void jogoIniciado(String nomeGameMaster, String[] nomesJogadores) {
+        int n = nomesJogadores.length;
+        this.nomeGameMaster = nomeGameMaster;
+        this.nomesJogadores = nomesJogadores.clone();
+        this.acertosNaRodada = new int[n];
+        this.pulosNaRodada = new int[n];
+        this.pulosTotal = new int[n];
+        this.pontuacaoTotal = new int[n];
+        this.respondeuPerguntaAtual = new boolean[n];
+    }
+
+    void rodadaIniciada(int rodada) {
+        rodadaAtual = rodada;
+        rodadaEncerrada = false;
+        perguntasDaRodada.clear();
+        perguntaAtual = -1;
+        Arrays.fill(acertosNaRodada, 0);
+        Arrays.fill(pulosNaRodada, 0);
+        Arrays.fill(respondeuPerguntaAtual, false);
+    }
+
+    void perguntaCriada(Pergunta pergunta) {
+        perguntasDaRodada.add(pergunta);
+    }
+
+    void perguntaIniciada(int indice) {
+        perguntaAtual = indice;
+        Arrays.fill(respondeuPerguntaAtual, false);
+    }
+
+    void respostaDada(int jogador) {
+        if (perguntaAtual >= 0) respondeuPerguntaAtual[jogador] = true;
+    }
+
+    // Uma resposta corrigida: conta como dada, com o acerto e a pontuação que valeu
+    void respostaCorrigida(int jogador, boolean correta, int delta) {
+        respostaDada(jogador);
+        if (correta) acertoRegistrado(jogador);
+        pontuacaoAlterada(jogador, delta);
+    }
+
+    void puloUsado(int jogador) {
+        pulosNaRodada[jogador]++;
+        pulosTotal[jogador]++;
+        respostaDada(jogador);
+    }
+
+    void acertoRegistrado(int jogador) {
+        acertosNaRodada[jogador]++;
+    }
+
+    void pontuacaoAlterada(int jogador, int delta) {
+        pontuacaoTotal[jogador] += delta;
+    }
+
+    void rodadaEncerrada(int rodada) {
+        rodadaAtual = rodada;
+        rodadaEncerrada = true;
+        perguntaAtual = -1;
+    }
+
+    void jogoEncerrado() {
+        encerrado = true;
+    }
+
+    void setPosicaoDiario(long posicao) {
+        this.posicaoDiario = posicao;
+    }
+
+    /**
+     * Copia os contadores recuperados para os jogadores (mesma ordem de cadastro).
+     *
+     * @param jogadores Jogadores recriados a partir de getNomesJogadores()
+     */
+    void restaurar(List<Jogador> jogadores) {
+        for (int i = 0; i < jogadores.size(); i++) {
+            jogadores.get(i).restaurarContadores(acertosNaRodada[i], pulosNaRodada[i], pulosTotal[i], pontuacaoTotal[i]);
+        }
+    }
+
+    // --- Consultas ---
+
+    // Indica se o diário já registrou o início do jogo
+    public boolean isIniciado() {
+        return nomeGameMaster != null;
+    }
+
+    // Indica se o diário registrou o fim do jogo (não há o que retomar)
+    public boolean isEncerrado() {
+        return encerrado;
+    }
+
+    public String getNomeGameMaster() {
+        return nomeGameMaster;
+    }
+
+    public List<String> getNomesJogadores() {
+        return List.of(nomesJogadores);
+    }
+
+    public int getRodadaAtual() {
+        return rodadaAtual;
+    }
+
+    public boolean isRodadaEncerrada() {
+        return rodadaEncerrada;
+    }
+
+    // Perguntas já criadas na rodada em andamento
+    public List<Pergunta> getPerguntasDaRodada() {
+        return Collections.unmodifiableList(perguntasDaRodada);
+    }
+
+    public int getPerguntaAtual() {
+        return perguntaAtual;
+    }
+
+    // Jogadores que já responderam (ou pularam) a pergunta em andamento
+    public boolean[] getRespondeuPerguntaAtual() {
+        return respondeuPerguntaAtual.clone();
+    }
+
+    public int getPontuacaoTotal(int jogador) {
+        return pontuacaoTotal[jogador];
+    }
+
+    public int getPulosTotal(int jogador) {
+        return pulosTotal[jogador];
+    }
+
+    public long getPosicaoDiario() {
+        return posicaoDiario;
+    }
+
+    // --- Instantâneos ---
+
+    /**
+     * Serializa o estado completo (usado nos instantâneos do diário).
+     */
+    void gravar(DataOutput out) throws IOException {
+        out.writeBoolean(nomeGameMaster != null);
+        if (nomeGameMaster == null) return;
+        out.writeUTF(nomeGameMaster);
+        out.writeInt(nomesJogadores.length);
+        for (int i = 0; i < nomesJogadores.length; i++) {
+            out.writeUTF(nomesJogadores[i]);
+            out.writeInt(acertosNaRodada[i]);
+            out.writeInt(pulosNaRodada[i]);
+            out.writeInt(pulosTotal[i]);
+            out.writeInt(pontuacaoTotal[i]);
+            out.writeBoolean(respondeuPerguntaAtual[i]);
+        }
+        out.writeInt(rodadaAtual);
+        out.writeBoolean(rodadaEncerrada);
+        out.writeBoolean(encerrado);
+        out.writeInt(perguntaAtual);
+        out.writeInt(perguntasDaRodada.size());
+        for (Pergunta p : perguntasDaRodada) {
+            out.writeByte(p.getRespostaCorreta());
+            out.writeUTF(p.getEnunciado());
+            out.writeByte(p.getQuantidadeAlternativas());
+            for (int a = 0; a < p.getQuantidadeAlternativas(); a++) {
+                out.writeUTF(p.getAlternativa(a));
+            }
+        }
+    }
+
+    /**
+     * Lê um estado serializado por gravar().
+     */
+    static EstadoJogo ler(DataInput in) throws IOException {
+        EstadoJogo e = new EstadoJogo();
+        if (!in.readBoolean()) return e;
+        String gm = in.readUTF();
+        int n = in.readInt();
+        String[] nomes = new String[n];
+        e.jogoIniciado(gm, nomes);
+        for (int i = 0; i < n; i++) {
+            nomes[i] = in.readUTF();
+            e.acertosNaRodada[i] = in.readInt();
+            e.pulosNaRodada[i] = in.readInt();
+            e.pulosTotal[i] = in.readInt();
+            e.pontuacaoTotal[i] = in.readInt();
+            e.respondeuPerguntaAtual[i] = in.readBoolean();
+        }
+        e.nomesJogadores = nomes;
+        e.rodadaAtual = in.readInt();
+        e.rodadaEncerrada = in.readBoolean();
+        e.encerrado = in.readBoolean();
+        e.perguntaAtual = in.readInt();
+        int qtdPerguntas = in.readInt();
+        for (int k = 0; k < qtdPerguntas; k++) {
+            char correta = (char) in.readByte();
+            String enunciado = in.readUTF();
+            String[] alternativas = new String[in.readByte()];
+            for (int a = 0; a < alternativas.length; a++) {
+                alternativas[a] = in.readUTF();
+            }
+            e.perguntasDaRodada.add(new Pergunta(enunciado, alternativas, correta));
+        }
+        return e;
+    }
+}
@@ -0,0 +1,203 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Estatísticas das respostas dadas a uma pergunta: quantas vezes cada alternativa foi
+ * escolhida, pulos, respostas ausentes e o tempo médio de resposta.
+ *
+ * Os contadores são distribuídos, como os LongAdder da Metricas, mas em um único vetor por
+ * pergunta em vez de um LongAdder por contador (cerca de 140 bytes por pergunta jogada, e não
+ * mais de 300): enquanto não há disputa, cada registro é um compareAndSet no vetor base; na
+ * primeira colisão entre threads são criadas faixas (uma linha do vetor por faixa, espaçadas
+ * para não dividir linhas de cache) e cada thread passa a somar na faixa escolhida pelo seu id.
+ * Assim milhares de sessões respondendo à mesma pergunta não disputam uma única variável.
+ * A leitura soma a base e as faixas e, com registros em andamento, é apenas aproximada.
+ */
+public final class EstatisticasPergunta {
+    // Dificuldade de uma pergunta sem nenhuma tentativa registrada
+    public static final double DIFICULDADE_INICIAL = 0.5;
+
+    // Faixas criadas na primeira disputa: potência de 2 próxima do número de processadores
+    private static final int FAIXAS = Math.min(64,
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+
+    private static final AtomicReferenceFieldUpdater<EstatisticasPergunta, AtomicLongArray> FAIXAS_CRIADAS =
+            AtomicReferenceFieldUpdater.newUpdater(EstatisticasPergunta.class, AtomicLongArray.class, "faixas");
+
+    private final char respostaCorreta;
+    private final int alternativas;
+
+    // Posições no vetor: 0..alternativas-1 → escolhas de 'a', 'b', ...; depois os contadores abaixo
+    private final int pulos;
+    private final int semResposta;
+    private final int tempoTotalNanos;
+    private final int respostasCronometradas;
+    private final int passo; // Distância entre as linhas de duas faixas (múltiplo de 16 longs = 128 bytes)
+
+    private final AtomicLongArray base;
+    private volatile AtomicLongArray faixas; // null até a primeira disputa
+
+    /**
+     * Cria as estatísticas de uma pergunta (normalmente via Pergunta.getEstatisticas()).
+     *
+     * @param pergunta Pergunta cujas respostas serão registradas
+     */
+    EstatisticasPergunta(Pergunta pergunta) {
+        this.respostaCorreta = pergunta.getRespostaCorreta();
+        this.alternativas = pergunta.getQuantidadeAlternativas();
+        this.pulos = alternativas;
+        this.semResposta = alternativas + 1;
+        this.tempoTotalNanos = alternativas + 2;
+        this.respostasCronometradas = alternativas + 3;
+        this.passo = (alternativas + 4 + 15) & ~15;
+        this.base = new AtomicLongArray(alternativas + 4);
+    }
+
+    // Soma no contador: na base enquanto não há disputa, senão na faixa da thread
+    private void somar(int contador, long valor) {
+        AtomicLongArray f = faixas;
+        if (f == null) {
+            long atual = base.get(contador);
+            if (base.compareAndSet(contador, atual, atual + valor)) return;
+            f = criarFaixas();
+        }
+        f.getAndAdd(faixaDaThread() * passo + contador, valor);
+    }
+
+    private AtomicLongArray criarFaixas() {
+        FAIXAS_CRIADAS.compareAndSet(this, null, new AtomicLongArray(FAIXAS * passo));
+        return faixas;
+    }
+
+    // Faixa da thread atual (espalhamento do id; threads virtuais também têm ids distintos)
+    private static int faixaDaThread() {
+        int h = (int) Thread.currentThread().threadId() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (FAIXAS - 1);
+    }
+
+    // Valor atual do contador: base mais todas as faixas
+    private long valor(int contador) {
+        long total = base.get(contador);
+        AtomicLongArray f = faixas;
+        if (f != null) {
+            for (int i = contador; i < f.length(); i += passo) total += f.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Registra a escolha de uma alternativa. Letras fora das alternativas são ignoradas.
+     *
+     * @param letra Letra escolhida
+     */
+    public void registrarEscolha(char letra) {
+        int i = Pergunta.indiceDaLetra(letra);
+        if (i >= 0 && i < alternativas) somar(i, 1);
+    }
+
+    // Registra um pulo usado nesta pergunta
+    public void registrarPulo() {
+        somar(pulos, 1);
+    }
+
+    // Registra uma resposta ausente (prazo ou tentativas esgotados)
+    public void registrarSemResposta() {
+        somar(semResposta, 1);
+    }
+
+    /**
+     * Registra o tempo que um jogador levou para chegar a uma resposta.
+     *
+     * @param nanos Duração em nanossegundos
+     */
+    public void registrarTempo(long nanos) {
+        somar(tempoTotalNanos, Math.max(0, nanos));
+        somar(respostasCronometradas, 1);
+    }
+
+    /**
+     * Registra de uma vez as respostas de um lote de jogadores (PontuacaoEmLote).
+     *
+     * @param escolhasPorLetra Escolhas de cada alternativa, no índice da letra
+     * @param pulos Pulos usados
+     * @param semResposta Respostas ausentes ou inválidas
+     */
+    void registrarLote(int[] escolhasPorLetra, long pulos, long semResposta) {
+        for (int i = 0; i < alternativas && i < escolhasPorLetra.length; i++) {
+            if (escolhasPorLetra[i] != 0) somar(i, escolhasPorLetra[i]);
+        }
+        if (pulos != 0) somar(this.pulos, pulos);
+        if (semResposta != 0) somar(this.semResposta, semResposta);
+    }
+
+    // Vezes em que a alternativa foi escolhida (0 para letras fora das alternativas)
+    public long getEscolhas(char letra) {
+        int i = Pergunta.indiceDaLetra(letra);
+        return i >= 0 && i < alternativas ? valor(i) : 0;
+    }
+
+    // Respostas com uma alternativa escolhida (certas ou erradas)
+    public long getRespostas() {
+        long total = 0;
+        for (int i = 0; i < alternativas; i++) total += valor(i);
+        return total;
+    }
+
+    // Respostas certas
+    public long getAcertos() {
+        return valor(respostaCorreta - 'a');
+    }
+
+    // Pulos usados nesta pergunta
+    public long getPulos() {
+        return valor(pulos);
+    }
+
+    // Respostas ausentes
+    public long getSemResposta() {
+        return valor(semResposta);
+    }
+
+    // Todas as vezes em que a pergunta foi apresentada: respostas, pulos e ausências
+    public long getTentativas() {
+        return getRespostas() + getPulos() + getSemResposta();
+    }
+
+    // Fração das respostas com alternativa que estavam certas (0 sem respostas)
+    public double getTaxaAcerto() {
+        long respostas = getRespostas();
+        return respostas == 0 ? 0 : (double) getAcertos() / respostas;
+    }
+
+    // Tempo médio até a resposta, em nanossegundos (0 se nenhum foi medido)
+    public long getTempoMedioNanos() {
+        long n = valor(respostasCronometradas);
+        return n == 0 ? 0 : valor(tempoTotalNanos) / n;
+    }
+
+    /**
+     * Dificuldade estimada, de 0 (todos acertam) a 1 (ninguém acerta): a fração das tentativas
+     * sem acerto (erros, pulos e ausências), com uma tentativa certa e uma errada fictícias
+     * (estimador de Laplace). Sem tentativas vale DIFICULDADE_INICIAL, e poucas tentativas
+     * não levam a dificuldade aos extremos.
+     *
+     * @return Dificuldade entre 0 e 1
+     */
+    public double getDificuldade() {
+        long tentativas = getTentativas();
+        return (tentativas - getAcertos() + 1.0) / (tentativas + 2.0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(96);
+        for (int i = 0; i < alternativas; i++) {
+            sb.append((char) ('a' + i)).append('=').append(valor(i)).append(' ');
+        }
+        return sb.append("p=").append(getPulos())
+                .append(" sem=").append(getSemResposta())
+                .append(String.format(" | dificuldade %.2f, tempo médio %d ms",
+                        getDificuldade(), getTempoMedioNanos() / 1_000_000))
+                .toString();
+    }
+}
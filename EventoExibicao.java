@@ -0,0 +1,177 @@
+import java.util.List;
+
+/**
+ * Eventos de exibição emitidos pelo jogo.
+ * O código do jogo cria apenas o evento (com os valores do momento); o texto e as cores ANSI
+ * são montados pelo terminal de destino, que decide se usa cores e quando escreve.
+ * Em um TerminalAssincrono essa montagem acontece na thread escritora, fora do laço do jogo.
+ */
+public sealed interface EventoExibicao {
+    // Códigos ANSI para colorir o terminal
+    String ANSI_RESET = "\u001B[0m";
+    String ANSI_GREEN = "\u001B[32m";
+    String ANSI_RED = "\u001B[31m";
+    String ANSI_YELLOW = "\u001B[33m";
+    String ANSI_CYAN = "\u001B[36m";
+
+    /**
+     * Acrescenta o texto do evento ao destino.
+     *
+     * @param destino Onde o texto é montado
+     * @param cores true para incluir os códigos ANSI
+     */
+    void renderizar(StringBuilder destino, boolean cores);
+
+    // Acrescenta um texto, colorido apenas se o destino usar cores
+    private static StringBuilder colorir(StringBuilder destino, boolean cores, String ansi, String texto) {
+        if (cores) return destino.append(ansi).append(texto).append(ANSI_RESET);
+        return destino.append(texto);
+    }
+
+    private static StringBuilder novaLinha(StringBuilder destino) {
+        return destino.append(System.lineSeparator());
+    }
+
+    /**
+     * Texto livre (prompts, avisos e mensagens sem estrutura própria).
+     */
+    record Texto(String texto, boolean quebraLinha) implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            destino.append(texto);
+            if (quebraLinha) novaLinha(destino);
+        }
+    }
+
+    /**
+     * Pergunta apresentada a um jogador, com o cabeçalho ("Vez de: ", "Pergunta para: ").
+     */
+    record PerguntaExibida(String cabecalho, String jogador, Pergunta pergunta) implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            novaLinha(destino);
+            if (cores) destino.append(ANSI_CYAN);
+            destino.append(cabecalho).append(jogador);
+            if (cores) destino.append(ANSI_RESET);
+            novaLinha(destino);
+            colorir(destino, cores, ANSI_YELLOW, pergunta.toString());
+            novaLinha(destino);
+        }
+    }
+
+    /**
+     * Aviso exibido antes do veredito de uma resposta.
+     */
+    record VerificandoResposta() implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            novaLinha(destino.append("🤔 Verificando resposta..."));
+        }
+    }
+
+    /**
+     * Veredito de uma resposta e a pontuação do jogador logo após a correção.
+     */
+    record RespostaCorrigida(String jogador, boolean correta, String mensagem, int pontuacao)
+            implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            novaLinha(colorir(destino, cores, correta ? ANSI_GREEN : ANSI_RED, mensagem));
+            novaLinha(destino.append("Pontuação total de ").append(jogador).append(": ").append(pontuacao));
+        }
+    }
+
+    /**
+     * Jogador que pulou a pergunta.
+     */
+    record PuloUsado(String jogador) implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            novaLinha(destino.append(jogador).append(" optou por PULAR a pergunta."));
+        }
+    }
+
+    /**
+     * Início (ou retomada) de uma rodada.
+     */
+    record InicioRodada(int rodada, boolean retomada) implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            destino.append("\n---- RODADA ").append(rodada);
+            if (retomada) destino.append(" (retomada)");
+            novaLinha(destino.append(" ----"));
+        }
+    }
+
+    /**
+     * Resultado de uma rodada; vencedor null indica empate.
+     */
+    record ResultadoRodada(String vencedor, int acertos) implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            if (vencedor == null) {
+                destino.append("\n=> Resultado da rodada: EMPATE\n");
+            } else {
+                destino.append("\n=> Vencedor da rodada: ").append(vencedor)
+                        .append(" (acertos: ").append(acertos).append(")\n");
+            }
+            novaLinha(destino);
+        }
+    }
+
+    /**
+     * Cabeçalho da correção em lote de uma pergunta no modo simultâneo.
+     */
+    record CorrecaoSimultanea(String enunciado) implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            novaLinha(destino);
+            novaLinha(destino.append("Resultado: ").append(enunciado));
+        }
+    }
+
+    /**
+     * Resultado de um jogador na correção em lote do modo simultâneo.
+     */
+    record ResultadoSimultaneo(String jogador, String resultado, int pontuacao) implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            novaLinha(destino.append("- ").append(jogador).append(": ").append(resultado)
+                    .append(" | Pontuação: ").append(pontuacao));
+        }
+    }
+
+    /**
+     * Linha do placar final.
+     */
+    record LinhaPlacar(String jogador, int pontos, int pulos) {
+    }
+
+    /**
+     * Placar final (melhores colocados), quantidade de jogadores omitidos e vencedor(es).
+     */
+    record ResultadoFinal(List<LinhaPlacar> placar, int omitidos, List<String> vencedores)
+            implements EventoExibicao {
+        @Override
+        public void renderizar(StringBuilder destino, boolean cores) {
+            novaLinha(destino.append("\n==== RESULTADO FINAL ===="));
+            for (LinhaPlacar l : placar) {
+                novaLinha(destino.append("- ").append(l.jogador()).append(" | Pontos: ").append(l.pontos())
+                        .append(" | Pulos totais: ").append(l.pulos()));
+            }
+            if (omitidos > 0) {
+                novaLinha(destino.append("  ... e mais ").append(omitidos).append(" jogadores"));
+            }
+
+            if (vencedores.size() == 1) {
+                novaLinha(destino.append("\n🏆 Vencedor do jogo: ").append(vencedores.get(0)));
+            } else {
+                novaLinha(destino.append("\n🤝 Jogo terminou em EMPATE entre:"));
+                for (String v : vencedores) {
+                    novaLinha(destino.append(" - ").append(v));
+                }
+            }
+            novaLinha(destino.append("==== FIM ===="));
+        }
+    }
+}
@@ -0,0 +1,228 @@
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Perguntas do GameMaster lidas em fluxo de um arquivo ou pipe, em vez do cadastro
+ * interativo (enunciado, alternativas e letra correta digitados a cada pergunta).
+ *
+ * Formato: uma pergunta por linha, campos separados por '|':
+ * {@code enunciado|alternativa a|alternativa b|...|letra correta}
+ * com a quantidade de alternativas da configuração. Linhas vazias e linhas iniciadas
+ * por '#' são ignoradas.
+ *
+ * Uma thread produtora lê, valida (pelas regras do GameMaster) e coloca as perguntas em
+ * uma fila limitada; o jogo apenas as retira. Com a capacidade padrão (duas rodadas),
+ * as perguntas da próxima rodada já estão prontas enquanto a rodada atual é jogada.
+ *
+ * A produtora é dona do leitor e o fecha ao terminar. close() não espera por ela: uma leitura
+ * parada em um pipe ocioso segura a trava do leitor, então close() fecha diretamente a origem
+ * dos bytes (o canal do arquivo ou o fluxo de bytes), o que libera a produtora.
+ */
+public class FluxoPerguntas implements FontePerguntas, AutoCloseable {
+    // Separador de campos de uma linha
+    public static final char SEPARADOR = '|';
+
+    // Marca o fim do fluxo (ou uma falha) na fila
+    private static final Pergunta FIM = new Pergunta("fim", new String[]{"-", "-"}, 'a');
+
+    private final BufferedReader leitor;
+    private final Closeable origem; // Fechada por close() sem a trava do leitor (null = só o leitor)
+    private final GameMaster gameMaster;
+    private final ConfiguracaoJogo configuracao;
+    private final BlockingQueue<Pergunta> fila;
+    private final Thread produtora;
+
+    private volatile RuntimeException falha; // Erro de leitura ou pergunta inválida
+    private volatile boolean fechado;
+    private boolean esgotado;                // Consumidor já recebeu o FIM
+
+    /**
+     * Cria o fluxo com capacidade para duas rodadas de perguntas.
+     *
+     * @param entrada Texto no formato de linhas
+     * @param gameMaster GameMaster que cria (e valida) as perguntas
+     * @param configuracao Configuração do jogo (alternativas por pergunta)
+     */
+    public FluxoPerguntas(Reader entrada, GameMaster gameMaster, ConfiguracaoJogo configuracao) {
+        this(entrada, gameMaster, configuracao, 2 * configuracao.getPerguntasPorRodada());
+    }
+
+    /**
+     * Cria o fluxo e inicia a leitura em segundo plano.
+     * O Reader é fechado pela produtora quando ela termina; se uma leitura estiver parada,
+     * close() retorna sem esperar por ela (a produtora é daemon).
+     *
+     * @param entrada Texto no formato de linhas
+     * @param gameMaster GameMaster que cria (e valida) as perguntas
+     * @param configuracao Configuração do jogo (alternativas por pergunta)
+     * @param capacidade Perguntas prontas mantidas à frente do jogo
+     */
+    public FluxoPerguntas(Reader entrada, GameMaster gameMaster, ConfiguracaoJogo configuracao, int capacidade) {
+        this(entrada, null, gameMaster, configuracao, capacidade);
+    }
+
+    private FluxoPerguntas(Reader entrada, Closeable origem, GameMaster gameMaster, ConfiguracaoJogo configuracao,
+                           int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("A capacidade deve ser positiva.");
+        }
+        Objects.requireNonNull(entrada, "Entrada não pode ser nula");
+        this.leitor = entrada instanceof BufferedReader b ? b : new BufferedReader(entrada);
+        this.origem = origem;
+        this.gameMaster = Objects.requireNonNull(gameMaster, "GameMaster não pode ser nulo");
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+
+        this.produtora = new Thread(this::produzir, "fluxo-perguntas");
+        this.produtora.setDaemon(true);
+        this.produtora.start();
+    }
+
+    /**
+     * Abre um arquivo (ou pipe nomeado) de perguntas.
+     *
+     * @param arquivo Caminho do arquivo
+     * @param gameMaster GameMaster que cria as perguntas
+     * @param configuracao Configuração do jogo
+     * @return Fluxo já lendo em segundo plano
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    public static FluxoPerguntas abrir(Path arquivo, GameMaster gameMaster, ConfiguracaoJogo configuracao)
+            throws IOException {
+        FileChannel canal = FileChannel.open(arquivo);
+        return new FluxoPerguntas(Channels.newReader(canal, StandardCharsets.UTF_8), canal, gameMaster, configuracao,
+                2 * configuracao.getPerguntasPorRodada());
+    }
+
+    /**
+     * Lê as perguntas de um fluxo de bytes, como o stdin de um pipe.
+     *
+     * @param entrada Fluxo de entrada (UTF-8)
+     * @param gameMaster GameMaster que cria as perguntas
+     * @param configuracao Configuração do jogo
+     * @return Fluxo já lendo em segundo plano
+     */
+    public static FluxoPerguntas de(InputStream entrada, GameMaster gameMaster, ConfiguracaoJogo configuracao) {
+        return new FluxoPerguntas(new InputStreamReader(entrada, StandardCharsets.UTF_8), entrada, gameMaster,
+                configuracao, 2 * configuracao.getPerguntasPorRodada());
+    }
+
+    /**
+     * Retira a próxima pergunta, esperando se a produtora ainda não a tiver lido.
+     *
+     * @return Pergunta validada
+     * @throws NoSuchElementException se o fluxo terminou
+     * @throws IllegalArgumentException se o fluxo tinha uma pergunta inválida
+     */
+    @Override
+    public Pergunta proximaPergunta() {
+        if (!esgotado) {
+            Pergunta p;
+            try {
+                p = fila.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Leitura de perguntas interrompida.", e);
+            }
+            if (p != FIM) return p;
+            esgotado = true;
+        }
+        if (falha != null) throw falha;
+        throw new NoSuchElementException("Fluxo de perguntas esgotado.");
+    }
+
+    // Perguntas já validadas e prontas na fila
+    public int getDisponiveis() {
+        return fila.size();
+    }
+
+    /**
+     * Interrompe a leitura e fecha a origem das perguntas, sem esperar por uma leitura em andamento.
+     */
+    @Override
+    public void close() throws IOException {
+        fechado = true;
+        produtora.interrupt();
+        if (origem != null) {
+            origem.close(); // libera um readLine() parado sem disputar a trava do leitor
+        }
+    }
+
+    // Laço da thread produtora: lê, valida e enfileira até o fim da entrada
+    private void produzir() {
+        List<String> campos = new ArrayList<>(configuracao.getAlternativasPorPergunta() + 2);
+        int numeroLinha = 0;
+        try {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                numeroLinha++;
+                String s = linha.strip();
+                if (s.isEmpty() || s.charAt(0) == '#') continue;
+                fila.put(criar(numeroLinha, s, campos));
+            }
+        } catch (InterruptedException e) {
+            fecharLeitor();
+            return; // fechado
+        } catch (IOException e) {
+            if (!fechado) falha = new UncheckedIOException("Erro ao ler perguntas na linha " + numeroLinha, e);
+        } catch (IllegalArgumentException e) {
+            falha = e;
+        }
+        fecharLeitor();
+
+        try {
+            fila.put(FIM);
+        } catch (InterruptedException e) {
+            // fechado
+        }
+    }
+
+    private void fecharLeitor() {
+        try {
+            leitor.close();
+        } catch (IOException e) {
+            // a origem já pode ter sido fechada por close()
+        }
+    }
+
+    // Separa os campos e cria a pergunta pelas regras do GameMaster, indicando a linha em caso de erro
+    private Pergunta criar(int numeroLinha, String linha, List<String> campos) {
+        campos.clear();
+        int inicio = 0;
+        for (int i = linha.indexOf(SEPARADOR); i >= 0; i = linha.indexOf(SEPARADOR, inicio)) {
+            campos.add(linha.substring(inicio, i).strip());
+            inicio = i + 1;
+        }
+        campos.add(linha.substring(inicio).strip());
+
+        int esperados = configuracao.getAlternativasPorPergunta() + 2;
+        try {
+            if (campos.size() != esperados) {
+                throw new IllegalArgumentException("esperados " + esperados + " campos, encontrados " + campos.size());
+            }
+            String correta = campos.get(esperados - 1);
+            if (correta.isEmpty()) {
+                throw new IllegalArgumentException("Resposta correta ausente.");
+            }
+            String[] alternativas = campos.subList(1, esperados - 1).toArray(new String[0]);
+            return gameMaster.criarPergunta(campos.get(0), alternativas, correta.charAt(0), configuracao);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Linha " + numeroLinha + " inválida: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Fonte de perguntas prontas para as rodadas, usada no lugar do cadastro
+ * interativo pelo GameMaster (ex.: um banco de perguntas em disco).
+ */
+public interface FontePerguntas {
+
+    /**
+     * Fornece a próxima pergunta a ser usada em uma rodada.
+     *
+     * @return Pergunta pronta
+     * @throws java.util.NoSuchElementException se não houver mais perguntas
+     */
+    Pergunta proximaPergunta();
+}
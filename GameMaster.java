@@ -3,9 +3,23 @@ import java.util.Objects;
 /**
  * Representa o GameMaster (mestre do jogo), responsável por criar perguntas.
  * Herda de Usuario.
+ * Opcionalmente verifica cada pergunta criada em um IndiceDuplicatas, rejeitando
+ * ou apenas sinalizando (nas métricas) as duplicadas e as semelhantes.
  */
 public class GameMaster extends Usuario {
 
+    /**
+     * O que fazer com uma pergunta repetida.
+     */
+    public enum PoliticaDuplicatas {
+        REJEITAR,           // duplicadas e semelhantes: criarPergunta lança IllegalArgumentException
+        REJEITAR_IDENTICAS, // só as duplicadas são rejeitadas; as semelhantes são sinalizadas
+        SINALIZAR           // a pergunta é criada e contada nas métricas como repetida
+    }
+
+    private IndiceDuplicatas indiceDuplicatas; // null = sem verificação
+    private PoliticaDuplicatas politicaDuplicatas = PoliticaDuplicatas.REJEITAR;
+
     /**
      * Construtor do GameMaster.
      *
@@ -15,6 +29,23 @@ public class GameMaster extends Usuario {
         super(nome);
     }
 
+    /**
+     * Passa a verificar as perguntas criadas em um índice de duplicatas.
+     * O índice pode ser compartilhado entre GameMasters (ex.: todas as perguntas de um jogo).
+     *
+     * @param indice Índice das perguntas já criadas (null desliga a verificação)
+     * @param politica Rejeitar ou apenas sinalizar as repetidas
+     */
+    public void setIndiceDuplicatas(IndiceDuplicatas indice, PoliticaDuplicatas politica) {
+        this.indiceDuplicatas = indice;
+        this.politicaDuplicatas = Objects.requireNonNull(politica, "Política não pode ser nula");
+    }
+
+    // Índice de duplicatas em uso (null se desligado)
+    public IndiceDuplicatas getIndiceDuplicatas() {
+        return indiceDuplicatas;
+    }
+
     /**
      * Cria uma nova pergunta com enunciado, 4 alternativas e a letra da resposta correta.
      *
@@ -24,22 +55,56 @@ public class GameMaster extends Usuario {
      * @return Instância de Pergunta criada
      */
     public Pergunta criarPergunta(String enunciado, String[] alternativas, char respostaCorreta) {
+        return criarPergunta(enunciado, alternativas, respostaCorreta, ConfiguracaoJogo.PADRAO);
+    }
+
+    /**
+     * Cria uma nova pergunta com a quantidade de alternativas definida na configuração do jogo.
+     *
+     * @param enunciado Texto da pergunta
+     * @param alternativas Vetor com as alternativas, na ordem a, b, c, ...
+     * @param respostaCorreta Letra da alternativa correta
+     * @param configuracao Configuração do jogo
+     * @return Instância de Pergunta criada
+     */
+    public Pergunta criarPergunta(String enunciado, String[] alternativas, char respostaCorreta,
+                                  ConfiguracaoJogo configuracao) {
         // Validações básicas para evitar valores nulos
         Objects.requireNonNull(enunciado, "Enunciado não pode ser nulo");
         Objects.requireNonNull(alternativas, "Alternativas não podem ser nulas");
 
-        // Garante que existam exatamente 4 alternativas
-        if (alternativas.length != 4) {
-            throw new IllegalArgumentException("Devem existir exatamente 4 alternativas (a, b, c, d).");
+        // Garante a quantidade de alternativas do jogo
+        if (alternativas.length != configuracao.getAlternativasPorPergunta()) {
+            throw new IllegalArgumentException("Devem existir exatamente "
+                    + configuracao.getAlternativasPorPergunta() + " alternativas.");
         }
 
-        // Valida se a letra da resposta correta está entre 'a' e 'd'
+        // Valida se a letra da resposta correta está entre 'a' e a última alternativa
         char letra = Character.toLowerCase(respostaCorreta);
-        if (letra < 'a' || letra > 'd') {
-            throw new IllegalArgumentException("A resposta correta deve ser uma letra entre 'a' e 'd'.");
+        if (letra < 'a' || letra > configuracao.getUltimaLetra()) {
+            throw new IllegalArgumentException("A resposta correta deve ser uma letra entre 'a' e '"
+                    + configuracao.getUltimaLetra() + "'.");
+        }
+
+        // Cria a nova pergunta
+        Pergunta pergunta = new Pergunta(enunciado, alternativas, letra);
+
+        // Repetição de uma pergunta já criada (mesmo texto normalizado ou muito semelhante)
+        if (indiceDuplicatas != null) {
+            boolean aceitarSemelhante = politicaDuplicatas != PoliticaDuplicatas.REJEITAR;
+            IndiceDuplicatas.Verificacao v = indiceDuplicatas.registrar(pergunta, aceitarSemelhante);
+            if (v.isRepetida()) {
+                boolean rejeitar = politicaDuplicatas == PoliticaDuplicatas.REJEITAR
+                        || (politicaDuplicatas == PoliticaDuplicatas.REJEITAR_IDENTICAS
+                        && v.situacao() == IndiceDuplicatas.Situacao.DUPLICADA);
+                if (rejeitar) {
+                    throw new IllegalArgumentException(v.descricao());
+                }
+                Metricas.perguntaDuplicada();
+            }
         }
 
-        // Cria e retorna a nova pergunta
-        return new Pergunta(enunciado, alternativas, letra);
+        Metricas.perguntaCriada();
+        return pergunta;
     }
 }
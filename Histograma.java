@@ -0,0 +1,111 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de valores não negativos (ex.: durações em nanossegundos), no estilo HDR:
+ * faixas logarítmicas (uma por potência de 2) divididas em 32 sub-faixas lineares,
+ * o que dá ~3% de precisão relativa em qualquer ordem de grandeza.
+ *
+ * Registrar é livre de travas e não aloca: um incremento atômico na faixa e
+ * dois acumuladores distribuídos (soma e máximo).
+ */
+public class Histograma {
+    // Bits de sub-faixa: 2^5 = 32 sub-faixas por potência de 2
+    private static final int BITS_SUBFAIXA = 5;
+    private static final int SUBFAIXAS = 1 << BITS_SUBFAIXA;
+
+    // Valores abaixo de 32 têm faixa própria; acima, uma linha de 32 faixas por expoente até 2^62
+    private static final int FAIXAS = (63 - BITS_SUBFAIXA + 1) * SUBFAIXAS;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(FAIXAS);
+    private final LongAdder soma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra um valor. Valores negativos são tratados como zero.
+     *
+     * @param valor Valor a registrar
+     */
+    public void registrar(long valor) {
+        if (valor < 0) valor = 0;
+        contagens.getAndIncrement(faixa(valor));
+        soma.add(valor);
+        maximo.accumulate(valor);
+    }
+
+    // Índice da faixa de um valor
+    static int faixa(long valor) {
+        if (valor < SUBFAIXAS) return (int) valor;
+        int expoente = 63 - Long.numberOfLeadingZeros(valor); // >= BITS_SUBFAIXA
+        int deslocamento = expoente - BITS_SUBFAIXA;
+        return ((deslocamento + 1) << BITS_SUBFAIXA) | (int) ((valor >>> deslocamento) & (SUBFAIXAS - 1));
+    }
+
+    // Menor valor que cai na faixa
+    static long inicioDaFaixa(int faixa) {
+        if (faixa < SUBFAIXAS) return faixa;
+        int deslocamento = (faixa >>> BITS_SUBFAIXA) - 1;
+        return (long) (SUBFAIXAS | (faixa & (SUBFAIXAS - 1))) << deslocamento;
+    }
+
+    // Largura da faixa (quantos valores ela cobre)
+    static long larguraDaFaixa(int faixa) {
+        return faixa < SUBFAIXAS ? 1 : 1L << ((faixa >>> BITS_SUBFAIXA) - 1);
+    }
+
+    /**
+     * Fotografia do histograma. Como os registros continuam em paralelo, a fotografia
+     * não é atômica, mas cada faixa é lida uma única vez (os percentis são coerentes entre si).
+     *
+     * @return Contagem, média, percentis e máximo
+     */
+    public Instantaneo instantaneo() {
+        long[] copia = new long[FAIXAS];
+        long total = 0;
+        for (int i = 0; i < FAIXAS; i++) {
+            copia[i] = contagens.get(i);
+            total += copia[i];
+        }
+        long somaValores = soma.sum();
+        long max = maximo.get();
+        return new Instantaneo(total, total == 0 ? 0 : (double) somaValores / total,
+                percentil(copia, total, 0.50, max), percentil(copia, total, 0.90, max),
+                percentil(copia, total, 0.99, max), percentil(copia, total, 0.999, max), max);
+    }
+
+    // Valor do percentil: ponto médio da faixa onde a contagem acumulada o alcança
+    private static long percentil(long[] contagens, long total, double fracao, long max) {
+        if (total == 0) return 0;
+        long alvo = Math.max(1, (long) Math.ceil(total * fracao));
+        long acumulado = 0;
+        for (int i = 0; i < contagens.length; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= alvo) {
+                return Math.min(max, inicioDaFaixa(i) + larguraDaFaixa(i) / 2);
+            }
+        }
+        return max;
+    }
+
+    // Zera o histograma (registros simultâneos podem ficar de fora ou entrar parcialmente)
+    public void zerar() {
+        for (int i = 0; i < FAIXAS; i++) contagens.set(i, 0);
+        soma.reset();
+        maximo.reset();
+    }
+
+    /**
+     * Fotografia de um histograma.
+     *
+     * @param contagem Quantidade de valores registrados
+     * @param media Média dos valores
+     * @param p50 Mediana
+     * @param p90 Percentil 90
+     * @param p99 Percentil 99
+     * @param p999 Percentil 99,9
+     * @param maximo Maior valor registrado
+     */
+    public record Instantaneo(long contagem, double media, long p50, long p90, long p99, long p999, long maximo) {
+    }
+}
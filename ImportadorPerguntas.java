@@ -0,0 +1,358 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Importa perguntas de CSV ou JSON para o formato binário do BancoPerguntas.
+ * A leitura é feita em fluxo: nenhum dos formatos é carregado inteiro na memória.
+ *
+ * CSV: uma pergunta por registro, campos {@code enunciado,a,b,c,d,correta}, com uma coluna por
+ * alternativa (aspas duplas permitem vírgulas e quebras de linha; um cabeçalho iniciado por
+ * "enunciado" é ignorado).
+ *
+ * JSON: vetor de objetos
+ * {@code [{"enunciado": "...", "alternativas": ["..", "..", "..", ".."], "correta": "a"}]}
+ *
+ * Perguntas duplicadas de outra já importada (mesmo texto a menos de acentos, maiúsculas,
+ * pontuação e ordem das alternativas) não são gravadas; as semelhantes são gravadas e contadas.
+ * Ambas as quantidades são informadas ao final.
+ *
+ * Todas as perguntas de um banco têm a mesma quantidade de alternativas (padrão 4); um registro
+ * com outra quantidade interrompe a importação. Uma importação interrompida não altera o arquivo
+ * de saída.
+ *
+ * Uso: java ImportadorPerguntas entrada.(csv|json) saida.bin [alternativas]
+ */
+public class ImportadorPerguntas {
+    private static final GameMaster IMPORTADOR = new GameMaster("Importador");
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 3) {
+            System.err.println("Uso: java ImportadorPerguntas entrada.(csv|json) saida.bin [alternativas]");
+            System.exit(2);
+        }
+        int alternativas = args.length == 3 ? Integer.parseInt(args[2])
+                : ConfiguracaoJogo.PADRAO.getAlternativasPorPergunta();
+        long inicio = System.nanoTime();
+        IndiceDuplicatas indice = new IndiceDuplicatas();
+        int n = importar(Paths.get(args[0]), Paths.get(args[1]), indice, alternativas);
+        System.out.printf("%d perguntas importadas em %.2f s (%d duplicadas descartadas, %d semelhantes sinalizadas)%n",
+                n, (System.nanoTime() - inicio) / 1e9, indice.getDuplicadas(), indice.getSemelhantes());
+    }
+
+    /**
+     * Importa um arquivo, escolhendo o formato pela extensão (.json ou CSV).
+     *
+     * @param entrada Arquivo CSV ou JSON
+     * @param saida Arquivo binário do banco
+     * @return Quantidade de perguntas importadas
+     * @throws IOException se a leitura ou a escrita falhar
+     */
+    public static int importar(Path entrada, Path saida) throws IOException {
+        return importar(entrada, saida, null);
+    }
+
+    /**
+     * Importa um arquivo descartando as perguntas duplicadas.
+     *
+     * @param entrada Arquivo CSV ou JSON
+     * @param saida Arquivo binário do banco
+     * @param indice Índice das perguntas já importadas (null grava todas)
+     * @return Quantidade de perguntas importadas
+     * @throws IOException se a leitura ou a escrita falhar
+     */
+    public static int importar(Path entrada, Path saida, IndiceDuplicatas indice) throws IOException {
+        return importar(entrada, saida, indice, ConfiguracaoJogo.PADRAO.getAlternativasPorPergunta());
+    }
+
+    /**
+     * Importa um arquivo de perguntas com a quantidade de alternativas informada.
+     *
+     * @param entrada Arquivo CSV ou JSON
+     * @param saida Arquivo binário do banco
+     * @param indice Índice das perguntas já importadas (null grava todas)
+     * @param alternativasPorPergunta Alternativas de todas as perguntas (2 a 15)
+     * @return Quantidade de perguntas importadas
+     * @throws IOException se a leitura ou a escrita falhar, ou um registro for inválido
+     */
+    public static int importar(Path entrada, Path saida, IndiceDuplicatas indice, int alternativasPorPergunta)
+            throws IOException {
+        boolean json = entrada.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json");
+        try (BufferedReader leitor = Files.newBufferedReader(entrada, StandardCharsets.UTF_8);
+             BancoPerguntas.Escritor escritor = new BancoPerguntas.Escritor(saida, alternativasPorPergunta)) {
+            try {
+                if (json) {
+                    importarJson(leitor, escritor, indice);
+                } else {
+                    importarCsv(leitor, escritor, indice);
+                }
+            } catch (IOException | RuntimeException e) {
+                escritor.descartar(); // uma importação interrompida não deixa um banco truncado
+                throw e;
+            }
+            return escritor.quantidade();
+        }
+    }
+
+    /**
+     * Lê perguntas em CSV e grava no banco.
+     */
+    public static void importarCsv(BufferedReader leitor, BancoPerguntas.Escritor escritor) throws IOException {
+        importarCsv(leitor, escritor, null);
+    }
+
+    /**
+     * Lê perguntas em CSV e grava no banco as que não forem duplicadas.
+     */
+    public static void importarCsv(BufferedReader leitor, BancoPerguntas.Escritor escritor, IndiceDuplicatas indice)
+            throws IOException {
+        ConfiguracaoJogo regras = regrasDe(escritor);
+        int esperados = regras.getAlternativasPorPergunta() + 2;
+        List<String> campos = new ArrayList<>(esperados);
+        int registro = 0;
+        while (lerRegistroCsv(leitor, campos)) {
+            registro++;
+            if (campos.size() == 1 && campos.get(0).isBlank()) continue; // linha vazia
+            if (registro == 1 && campos.get(0).strip().equalsIgnoreCase("enunciado")) continue;
+            if (campos.size() != esperados) {
+                throw new IOException("Registro CSV " + registro + ": esperados " + esperados
+                        + " campos, encontrados " + campos.size());
+            }
+            gravar(escritor, indice, criar(registro, campos.get(0),
+                    campos.subList(1, esperados - 1).toArray(new String[0]), campos.get(esperados - 1), regras));
+        }
+    }
+
+    // Lê um registro CSV (RFC 4180); retorna false no fim do arquivo
+    private static boolean lerRegistroCsv(BufferedReader leitor, List<String> campos) throws IOException {
+        campos.clear();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+        boolean leuAlgo = false;
+        int c;
+        while ((c = leitor.read()) != -1) {
+            leuAlgo = true;
+            if (entreAspas) {
+                if (c == '"') {
+                    leitor.mark(1);
+                    if (leitor.read() == '"') {
+                        campo.append('"'); // aspas escapadas
+                    } else {
+                        leitor.reset();
+                        entreAspas = false;
+                    }
+                } else {
+                    campo.append((char) c);
+                }
+            } else if (c == '"') {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                campo.append((char) c);
+            }
+        }
+        if (!leuAlgo) return false;
+        campos.add(campo.toString());
+        return true;
+    }
+
+    /**
+     * Lê perguntas em JSON e grava no banco, um objeto por vez.
+     */
+    public static void importarJson(Reader leitor, BancoPerguntas.Escritor escritor) throws IOException {
+        importarJson(leitor, escritor, null);
+    }
+
+    /**
+     * Lê perguntas em JSON e grava no banco as que não forem duplicadas.
+     */
+    public static void importarJson(Reader leitor, BancoPerguntas.Escritor escritor, IndiceDuplicatas indice)
+            throws IOException {
+        ConfiguracaoJogo regras = regrasDe(escritor);
+        LeitorJson json = new LeitorJson(leitor);
+        json.esperar('[');
+        if (json.consumirSe(']')) return;
+
+        int registro = 0;
+        do {
+            json.registro = ++registro;
+            String enunciado = null;
+            String correta = null;
+            List<String> alternativas = new ArrayList<>(regras.getAlternativasPorPergunta());
+
+            json.esperar('{');
+            if (!json.consumirSe('}')) {
+                do {
+                    String chave = json.lerTexto();
+                    json.esperar(':');
+                    switch (chave) {
+                        case "enunciado" -> enunciado = json.lerTexto();
+                        case "correta" -> correta = json.lerTexto();
+                        case "alternativas" -> {
+                            json.esperar('[');
+                            if (!json.consumirSe(']')) {
+                                do {
+                                    alternativas.add(json.lerTexto());
+                                } while (json.consumirSe(','));
+                                json.esperar(']');
+                            }
+                        }
+                        default -> json.ignorarValor();
+                    }
+                } while (json.consumirSe(','));
+                json.esperar('}');
+            }
+            gravar(escritor, indice, criar(registro, enunciado, alternativas.toArray(new String[0]), correta, regras));
+        } while (json.consumirSe(','));
+        json.registro = 0;
+        json.esperar(']');
+    }
+
+    // Grava a pergunta, a menos que duplique uma já importada
+    private static void gravar(BancoPerguntas.Escritor escritor, IndiceDuplicatas indice, Pergunta pergunta)
+            throws IOException {
+        if (indice == null
+                || indice.registrar(pergunta, true).situacao() != IndiceDuplicatas.Situacao.DUPLICADA) {
+            escritor.adicionar(pergunta);
+        }
+    }
+
+    // Regras de validação das perguntas do banco: só a quantidade de alternativas difere do padrão
+    private static ConfiguracaoJogo regrasDe(BancoPerguntas.Escritor escritor) {
+        ConfiguracaoJogo p = ConfiguracaoJogo.PADRAO;
+        int alternativas = escritor.alternativasPorPergunta();
+        return alternativas == p.getAlternativasPorPergunta() ? p : new ConfiguracaoJogo(p.getRodadas(),
+                p.getPerguntasPorRodada(), alternativas, p.getPontosAcerto(), p.getPontosErro(), p.getPulosPorRodada());
+    }
+
+    // Valida e cria a pergunta pelas regras do GameMaster, indicando o registro em caso de erro
+    private static Pergunta criar(int registro, String enunciado, String[] alternativas, String correta,
+                                  ConfiguracaoJogo regras) throws IOException {
+        try {
+            if (correta == null || correta.isBlank()) {
+                throw new IllegalArgumentException("Resposta correta ausente.");
+            }
+            return IMPORTADOR.criarPergunta(enunciado, alternativas, correta.strip().charAt(0), regras);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IOException("Registro " + registro + " inválido: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Leitor JSON mínimo, suficiente para o formato de importação.
+     */
+    private static final class LeitorJson {
+        private final Reader leitor;
+        private int atual = -2; // -2: nenhum caractere lido ainda
+        int registro;           // Registro em leitura, citado nos erros (0: fora de um registro)
+
+        LeitorJson(Reader leitor) {
+            this.leitor = leitor;
+        }
+
+        // Próximo caractere significativo, sem consumi-lo
+        private int espiar() throws IOException {
+            if (atual == -2) atual = leitor.read();
+            while (atual == ' ' || atual == '\n' || atual == '\r' || atual == '\t') {
+                atual = leitor.read();
+            }
+            return atual;
+        }
+
+        private int ler() throws IOException {
+            int c = espiar();
+            atual = leitor.read();
+            return c;
+        }
+
+        void esperar(char c) throws IOException {
+            int lido = ler();
+            if (lido != c) {
+                throw erro("esperado '" + c + "', encontrado "
+                        + (lido < 0 ? "fim do arquivo" : "'" + (char) lido + "'"));
+            }
+        }
+
+        boolean consumirSe(char c) throws IOException {
+            if (espiar() != c) return false;
+            ler();
+            return true;
+        }
+
+        String lerTexto() throws IOException {
+            esperar('"');
+            StringBuilder sb = new StringBuilder();
+            while (true) {
+                int c = atual == -2 ? leitor.read() : atual;
+                atual = leitor.read();
+                if (c < 0) throw erro("texto não terminado.");
+                if (c == '"') return sb.toString();
+                if (c != '\\') {
+                    sb.append((char) c);
+                    continue;
+                }
+                int e = atual;
+                atual = leitor.read();
+                switch (e) {
+                    case 'n' -> sb.append('\n');
+                    case 't' -> sb.append('\t');
+                    case 'r' -> sb.append('\r');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'u' -> {
+                        int valor = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digito = atual >= 0 && atual < 0x80 ? Character.digit(atual, 16) : -1;
+                            if (digito < 0) throw erro("escape \\u exige 4 dígitos hexadecimais.");
+                            valor = valor << 4 | digito;
+                            atual = leitor.read();
+                        }
+                        sb.append((char) valor);
+                    }
+                    default -> sb.append((char) e); // \" \\ \/
+                }
+            }
+        }
+
+        private IOException erro(String mensagem) {
+            return new IOException(registro > 0
+                    ? "JSON inválido no registro " + registro + ": " + mensagem
+                    : "JSON inválido: " + mensagem);
+        }
+
+        // Ignora um valor de uma chave desconhecida (texto, número, literal, vetor ou objeto)
+        void ignorarValor() throws IOException {
+            int c = espiar();
+            if (c == '"') {
+                lerTexto();
+            } else if (c == '[' || c == '{') {
+                char fecha = c == '[' ? ']' : '}';
+                ler();
+                if (consumirSe(fecha)) return;
+                do {
+                    if (fecha == '}') {
+                        lerTexto();
+                        esperar(':');
+                    }
+                    ignorarValor();
+                } while (consumirSe(','));
+                esperar(fecha);
+            } else {
+                while (c != ',' && c != '}' && c != ']' && c >= 0) {
+                    ler();
+                    c = espiar();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Índice das perguntas ordenado pela dificuldade estimada (EstatisticasPergunta), usado para
+ * montar rodadas com uma dificuldade alvo.
+ *
+ * As perguntas ficam em um ConcurrentSkipListMap cuja chave é a dificuldade quantizada nos bits
+ * altos e o número da pergunta no índice nos bits baixos (para desempatar). Montar uma rodada
+ * é uma busca O(log n) pela posição do alvo seguida de uma caminhada para os dois lados,
+ * sempre pela pergunta mais próxima do alvo; reindexar uma pergunta depois de respondida
+ * (remover a chave antiga e inserir a nova) também custa O(log n).
+ *
+ * Sessões simultâneas podem montar rodadas e reindexar perguntas sem trava global.
+ */
+public class IndiceDificuldade {
+    // Resolução da dificuldade na chave: 2^-24
+    private static final int BITS_DIFICULDADE = 24;
+
+    private final ConcurrentSkipListMap<Long, Pergunta> porDificuldade = new ConcurrentSkipListMap<>();
+    private final ConcurrentHashMap<Pergunta, Long> chaves = new ConcurrentHashMap<>(); // Chave atual de cada pergunta
+    private final AtomicInteger numeracao = new AtomicInteger();
+
+    /**
+     * Cria um índice com todas as perguntas de um banco, carregadas em memória
+     * (as estatísticas ficam nas instâncias, que precisam durar o jogo inteiro).
+     *
+     * @param banco Banco de perguntas
+     * @return Índice com as perguntas do banco
+     */
+    public static IndiceDificuldade de(BancoPerguntas banco) {
+        IndiceDificuldade indice = new IndiceDificuldade();
+        for (int i = 0; i < banco.quantidade(); i++) {
+            indice.adicionar(banco.obter(i));
+        }
+        return indice;
+    }
+
+    /**
+     * Adiciona uma pergunta com a sua dificuldade atual. Adicionar de novo a mesma instância
+     * apenas a reindexa.
+     *
+     * @param pergunta Pergunta a adicionar
+     */
+    public void adicionar(Pergunta pergunta) {
+        Objects.requireNonNull(pergunta, "Pergunta não pode ser nula");
+        chaves.compute(pergunta, (p, antiga) -> {
+            long numero = antiga != null ? antiga & 0xFFFFFFFFL : numeracao.getAndIncrement() & 0xFFFFFFFFL;
+            return reposicionar(p, antiga, numero);
+        });
+    }
+
+    /**
+     * Atualiza a posição de uma pergunta com a dificuldade estimada pelas respostas registradas.
+     * Perguntas que não estão no índice são ignoradas.
+     *
+     * @param pergunta Pergunta já respondida
+     */
+    public void reindexar(Pergunta pergunta) {
+        chaves.computeIfPresent(pergunta, (p, antiga) -> reposicionar(p, antiga, antiga & 0xFFFFFFFFL));
+    }
+
+    // Troca a chave da pergunta no mapa ordenado (chamado dentro do compute da própria pergunta)
+    private Long reposicionar(Pergunta pergunta, Long antiga, long numero) {
+        long nova = chave(pergunta.getDificuldade(), numero);
+        if (antiga != null) {
+            if (antiga == nova) return antiga;
+            porDificuldade.remove(antiga);
+        }
+        porDificuldade.put(nova, pergunta);
+        return nova;
+    }
+
+    // Dificuldade nos bits altos, número da pergunta nos 32 bits baixos
+    private static long chave(double dificuldade, long numero) {
+        long d = Math.round(Math.min(1, Math.max(0, dificuldade)) * (1 << BITS_DIFICULDADE));
+        return d << 32 | numero;
+    }
+
+    // Dificuldade registrada em uma chave
+    private static double dificuldadeDa(long chave) {
+        return (double) (chave >>> 32) / (1 << BITS_DIFICULDADE);
+    }
+
+    /**
+     * Monta uma rodada com as perguntas de dificuldade mais próxima do alvo.
+     *
+     * @param alvo Dificuldade desejada (0 a 1)
+     * @param quantidade Perguntas da rodada
+     * @return Até quantidade perguntas, da mais próxima do alvo para a mais distante
+     */
+    public List<Pergunta> montarRodada(double alvo, int quantidade) {
+        return selecionar(alvo, quantidade, Set.of());
+    }
+
+    /**
+     * Seleciona as perguntas mais próximas do alvo, pulando as excluídas.
+     * Custa O(log n) para achar o alvo mais um passo por pergunta examinada.
+     */
+    List<Pergunta> selecionar(double alvo, int quantidade, Set<Pergunta> excluidas) {
+        if (alvo < 0 || alvo > 1) {
+            throw new IllegalArgumentException("A dificuldade alvo deve estar entre 0 e 1.");
+        }
+        long posicao = chave(alvo, 0);
+        Iterator<Map.Entry<Long, Pergunta>> acima = porDificuldade.tailMap(posicao, true).entrySet().iterator();
+        Iterator<Map.Entry<Long, Pergunta>> abaixo =
+                porDificuldade.headMap(posicao, false).descendingMap().entrySet().iterator();
+        Map.Entry<Long, Pergunta> proximaAcima = acima.hasNext() ? acima.next() : null;
+        Map.Entry<Long, Pergunta> proximaAbaixo = abaixo.hasNext() ? abaixo.next() : null;
+
+        List<Pergunta> selecionadas = new ArrayList<>(quantidade);
+        while (selecionadas.size() < quantidade && (proximaAcima != null || proximaAbaixo != null)) {
+            // Mais próxima do alvo entre as duas candidatas (empate: a mais fácil)
+            boolean usarAbaixo = proximaAcima == null || (proximaAbaixo != null
+                    && alvo - dificuldadeDa(proximaAbaixo.getKey()) <= dificuldadeDa(proximaAcima.getKey()) - alvo);
+            Pergunta p;
+            if (usarAbaixo) {
+                p = proximaAbaixo.getValue();
+                proximaAbaixo = abaixo.hasNext() ? abaixo.next() : null;
+            } else {
+                p = proximaAcima.getValue();
+                proximaAcima = acima.hasNext() ? acima.next() : null;
+            }
+            // Uma pergunta reindexada durante a caminhada pode aparecer nas duas posições
+            if (!excluidas.contains(p) && !selecionadas.contains(p)) selecionadas.add(p);
+        }
+        return selecionadas;
+    }
+
+    /**
+     * Cria a fonte de perguntas de um jogo: cada rodada recebe as perguntas mais próximas do alvo,
+     * sem repetir nenhuma pergunta dentro do jogo. Ao montar uma rodada, as perguntas da rodada
+     * anterior (já respondidas) são reindexadas com a dificuldade atualizada.
+     *
+     * @param alvo Dificuldade desejada (0 a 1)
+     * @param perguntasPorRodada Perguntas de cada rodada
+     * @return Fonte de uso exclusivo de um jogo
+     */
+    public FontePerguntas novaFonte(double alvo, int perguntasPorRodada) {
+        if (alvo < 0 || alvo > 1) {
+            throw new IllegalArgumentException("A dificuldade alvo deve estar entre 0 e 1.");
+        }
+        if (perguntasPorRodada < 1) {
+            throw new IllegalArgumentException("Cada rodada precisa de pelo menos 1 pergunta.");
+        }
+        return new Fonte(alvo, perguntasPorRodada);
+    }
+
+    // Fonte de um único jogo (não sincronizada)
+    private final class Fonte implements FontePerguntas {
+        private final double alvo;
+        private final int perguntasPorRodada;
+        private final Set<Pergunta> usadas = new HashSet<>();
+        private final ArrayDeque<Pergunta> rodada = new ArrayDeque<>();
+        private final List<Pergunta> respondidas = new ArrayList<>();
+
+        Fonte(double alvo, int perguntasPorRodada) {
+            this.alvo = alvo;
+            this.perguntasPorRodada = perguntasPorRodada;
+        }
+
+        @Override
+        public Pergunta proximaPergunta() {
+            if (rodada.isEmpty()) {
+                for (Pergunta p : respondidas) reindexar(p);
+                respondidas.clear();
+                List<Pergunta> selecionadas = selecionar(alvo, perguntasPorRodada, usadas);
+                if (selecionadas.isEmpty()) {
+                    throw new NoSuchElementException("Todas as " + quantidade()
+                            + " perguntas do índice já foram usadas neste jogo.");
+                }
+                rodada.addAll(selecionadas);
+                usadas.addAll(selecionadas);
+                respondidas.addAll(selecionadas);
+            }
+            return rodada.poll();
+        }
+    }
+
+    // Quantidade de perguntas no índice
+    public int quantidade() {
+        return chaves.size();
+    }
+}
@@ -0,0 +1,460 @@
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Índice em memória para detectar perguntas duplicadas ou quase duplicadas
+ * (mesmo enunciado e alternativas, a menos de acentos, maiúsculas, pontuação,
+ * ordem das alternativas ou pequenas alterações no texto).
+ *
+ * O texto de cada pergunta é normalizado (minúsculas, sem acentos nem pontuação) e:
+ * <ul>
+ *   <li>o hash de 64 bits do texto normalizado, com as alternativas em ordem alfabética,
+ *       detecta duplicatas exatas em uma tabela de espalhamento;</li>
+ *   <li>uma assinatura MinHash de 32 valores de 16 bits sobre os trechos de 4 caracteres (shingles)
+ *       estima a similaridade de Jaccard; as assinaturas são divididas em 8 faixas de 4 valores
+ *       e um índice invertido por faixa (LSH) encontra as candidatas sem comparar com todas.</li>
+ * </ul>
+ * Com o limiar padrão (0,7), "Quem escreveu Dom Casmurro?" e "Quem escreveu o livro Dom Casmurro?"
+ * (mesmas alternativas) são semelhantes; "Quanto é 2+2?" e "Quanto é 2+3?" não.
+ * Tudo fica em vetores de tipos primitivos (sem um objeto por pergunta): cerca de 250 bytes
+ * por pergunta indexada. Uma consulta custa alguns microssegundos, independentemente
+ * da quantidade de perguntas no índice.
+ *
+ * A duplicata exata é certa; a semelhança é uma estimativa, que em textos curtos varia alguns
+ * pontos para mais ou para menos (perguntas que diferem só por um número podem passar do limiar).
+ * Por isso o chamador escolhe se as semelhantes são indexadas (registrar(p, true)) e o que fazer
+ * com elas (ver GameMaster.PoliticaDuplicatas).
+ *
+ * Os métodos são sincronizados: o índice pode ser compartilhado, mas as inserções são serializadas.
+ */
+public class IndiceDuplicatas {
+    // Similaridade estimada a partir da qual uma pergunta é considerada quase duplicada
+    public static final double LIMIAR_PADRAO = 0.7;
+
+    // Tamanho dos shingles, em caracteres
+    static final int TAMANHO_SHINGLE = 4;
+
+    // Assinatura MinHash: FAIXAS × LINHAS valores
+    static final int FAIXAS = 8;
+    static final int LINHAS = 4;
+    static final int VALORES = FAIXAS * LINHAS;
+
+    // Candidatas examinadas por faixa, no máximo (limita consultas a textos muito comuns)
+    static final int MAX_CANDIDATAS = 64;
+
+    // Coeficientes das funções de hash da assinatura: v = (a·x + b) >>> 48, com a ímpar
+    private static final long[] A = new long[VALORES];
+    private static final long[] B = new long[VALORES];
+
+    static {
+        long s = 0x2545F4914F6CDD1DL;
+        for (int i = 0; i < VALORES; i++) {
+            A[i] = misturar(s += 0x9E3779B97F4A7C15L) | 1;
+            B[i] = misturar(s += 0x9E3779B97F4A7C15L);
+        }
+    }
+
+    /**
+     * Situação de uma pergunta em relação às já indexadas.
+     */
+    public enum Situacao {
+        NOVA, DUPLICADA, SEMELHANTE
+    }
+
+    /**
+     * Resultado de uma verificação.
+     *
+     * @param situacao Nova, duplicada (mesmo texto normalizado) ou semelhante (similaridade acima do limiar)
+     * @param pergunta Número da pergunta indexada semelhante (ou da nova pergunta, se indexada; -1 se não)
+     * @param similaridade Similaridade de Jaccard estimada com a pergunta semelhante (0 se nova)
+     */
+    public record Verificacao(Situacao situacao, int pergunta, double similaridade) {
+
+        // Indica se a pergunta repete (exata ou aproximadamente) uma já indexada
+        public boolean isRepetida() {
+            return situacao != Situacao.NOVA;
+        }
+
+        // Texto da verificação, para mensagens de erro
+        public String descricao() {
+            return switch (situacao) {
+                case NOVA -> "Pergunta nova.";
+                case DUPLICADA -> "Pergunta duplicada da pergunta nº " + (pergunta + 1) + ".";
+                case SEMELHANTE -> String.format("Pergunta semelhante (%.0f%%) à pergunta nº %d.",
+                        similaridade * 100, pergunta + 1);
+            };
+        }
+    }
+
+    private final double limiar;
+
+    // Duplicatas exatas: hash do texto normalizado → número da pergunta (0 = posição livre)
+    private long[] hashesExatos = new long[32];
+    private int[] perguntasExatas = new int[32];
+
+    // Assinaturas: VALORES valores de 16 bits por pergunta, em sequência
+    private char[] assinaturas = new char[VALORES * 16];
+
+    // Índice invertido das faixas: chave da faixa → primeira pergunta + 1 (0 = livre);
+    // as demais perguntas com a mesma chave seguem em proximas[pergunta * FAIXAS + faixa]
+    private int[] chavesFaixa = new int[256];
+    private int[] cabecasFaixa = new int[256];
+    private int[] proximas = new int[FAIXAS * 16];
+    // (tamanhos iniciais para 16 perguntas, ~4 KB: um índice por jogo é barato; os vetores dobram ao encher)
+    private int faixasOcupadas;
+
+    private int quantidade;
+    private long duplicadas;  // Registros recusados por repetir o texto normalizado de outra pergunta
+    private long semelhantes; // Registros semelhantes a outra pergunta (indexados ou não)
+
+    // Áreas de trabalho reaproveitadas entre chamadas (protegidas pelo monitor do índice)
+    private final StringBuilder texto = new StringBuilder(256);
+    private final int[] assinatura = new int[VALORES];
+    private long hashExato; // Hash exato da última pergunta consultada
+    private String[] alternativas = new String[ConfiguracaoJogo.MAX_ALTERNATIVAS];
+
+    // Índice com o limiar padrão
+    public IndiceDuplicatas() {
+        this(LIMIAR_PADRAO);
+    }
+
+    /**
+     * Cria o índice.
+     *
+     * @param limiar Similaridade estimada (0 a 1) a partir da qual uma pergunta é semelhante a outra
+     */
+    public IndiceDuplicatas(double limiar) {
+        if (!(limiar > 0 && limiar <= 1)) {
+            throw new IllegalArgumentException("O limiar deve estar entre 0 (exclusive) e 1.");
+        }
+        this.limiar = limiar;
+    }
+
+    /**
+     * Verifica a pergunta e, se for nova, indexa-a.
+     *
+     * @param pergunta Pergunta a verificar
+     * @return Resultado; para uma pergunta nova, o número que ela recebeu no índice
+     */
+    public Verificacao registrar(Pergunta pergunta) {
+        return registrar(pergunta, false);
+    }
+
+    /**
+     * Verifica a pergunta e indexa-a se for nova ou, quando aceita, semelhante a outra.
+     * Uma duplicada (mesmo texto normalizado) nunca é indexada: o índice já a encontra.
+     *
+     * @param pergunta Pergunta a verificar
+     * @param indexarSemelhante true para indexar também uma pergunta semelhante (aceita pelo chamador)
+     * @return Resultado da verificação
+     */
+    public synchronized Verificacao registrar(Pergunta pergunta, boolean indexarSemelhante) {
+        Verificacao v = consultar(pergunta);
+        if (v.situacao() == Situacao.DUPLICADA) {
+            duplicadas++;
+        } else if (v.situacao() == Situacao.SEMELHANTE) {
+            semelhantes++;
+            if (indexarSemelhante) adicionarConsultada();
+        } else {
+            v = new Verificacao(Situacao.NOVA, adicionarConsultada(), 0);
+        }
+        return v;
+    }
+
+    /**
+     * Verifica a pergunta sem indexá-la.
+     *
+     * @param pergunta Pergunta a verificar
+     * @return Resultado (pergunta -1 se for nova)
+     */
+    public synchronized Verificacao verificar(Pergunta pergunta) {
+        return consultar(pergunta);
+    }
+
+    /**
+     * Indexa a pergunta sem verificá-la (ex.: uma duplicata aceita que também deve ser encontrada).
+     *
+     * @param pergunta Pergunta a indexar
+     * @return Número da pergunta no índice
+     */
+    public synchronized int adicionar(Pergunta pergunta) {
+        consultar(pergunta);
+        return adicionarConsultada();
+    }
+
+    // Quantidade de perguntas indexadas
+    public synchronized int quantidade() {
+        return quantidade;
+    }
+
+    // Perguntas registradas com o mesmo texto normalizado de uma já indexada
+    public synchronized long getDuplicadas() {
+        return duplicadas;
+    }
+
+    // Perguntas registradas semelhantes a uma já indexada
+    public synchronized long getSemelhantes() {
+        return semelhantes;
+    }
+
+    // Similaridade a partir da qual uma pergunta é semelhante a outra
+    public double getLimiar() {
+        return limiar;
+    }
+
+    // Memória ocupada pelos vetores do índice, em bytes
+    public synchronized long bytesOcupados() {
+        return 8L * hashesExatos.length + 4L * perguntasExatas.length + 2L * assinaturas.length
+                + 4L * chavesFaixa.length + 4L * cabecasFaixa.length + 4L * proximas.length;
+    }
+
+    // Normaliza a pergunta, calcula o hash exato e a assinatura e procura duplicatas e semelhantes
+    private Verificacao consultar(Pergunta pergunta) {
+        Objects.requireNonNull(pergunta, "Pergunta não pode ser nula");
+        montarTexto(pergunta);
+        hashExato = hash(texto);
+        calcularAssinatura();
+
+        int exata = procurarExata(hashExato);
+        if (exata >= 0) return new Verificacao(Situacao.DUPLICADA, exata, 1.0);
+
+        int melhor = -1;
+        int melhoresIguais = 0;
+        int minimoIguais = (int) Math.ceil(limiar * VALORES);
+        for (int f = 0; f < FAIXAS; f++) {
+            int chave = chaveFaixa(assinatura, 0, f);
+            int candidata = cabecaFaixa(chave) - 1;
+            for (int examinadas = 0; candidata >= 0 && examinadas < MAX_CANDIDATAS; examinadas++) {
+                int iguais = valoresIguais(candidata);
+                if (iguais > melhoresIguais) {
+                    melhoresIguais = iguais;
+                    melhor = candidata;
+                }
+                candidata = proximas[candidata * FAIXAS + f] - 1;
+            }
+        }
+        if (melhor >= 0 && melhoresIguais >= minimoIguais) {
+            return new Verificacao(Situacao.SEMELHANTE, melhor, (double) melhoresIguais / VALORES);
+        }
+        return new Verificacao(Situacao.NOVA, -1, 0);
+    }
+
+    // Indexa a pergunta cuja consulta acabou de ser feita (hash e assinatura já calculados)
+    private int adicionarConsultada() {
+        int id = quantidade++;
+        if ((id + 1) * VALORES > assinaturas.length) {
+            assinaturas = Arrays.copyOf(assinaturas, assinaturas.length * 2);
+            proximas = Arrays.copyOf(proximas, proximas.length * 2);
+        }
+        for (int i = 0, base = id * VALORES; i < VALORES; i++) {
+            assinaturas[base + i] = (char) assinatura[i];
+        }
+
+        inserirExata(hashExato, id);
+        for (int f = 0; f < FAIXAS; f++) {
+            inserirFaixa(chaveFaixa(assinatura, 0, f), id, f);
+        }
+        return id;
+    }
+
+    // Valores iguais entre a assinatura consultada e a da pergunta indexada
+    private int valoresIguais(int pergunta) {
+        int base = pergunta * VALORES;
+        int iguais = 0;
+        for (int i = 0; i < VALORES; i++) {
+            if (assinaturas[base + i] == assinatura[i]) iguais++;
+        }
+        return iguais;
+    }
+
+    // --- Normalização ---
+
+    // Monta o texto normalizado: enunciado e alternativas em ordem alfabética, separados por '|'
+    private void montarTexto(Pergunta pergunta) {
+        texto.setLength(0);
+        normalizar(pergunta.getEnunciado(), texto);
+
+        int n = pergunta.getQuantidadeAlternativas();
+        if (alternativas.length < n) alternativas = new String[n];
+        for (int i = 0; i < n; i++) {
+            int inicio = texto.length();
+            normalizar(pergunta.getAlternativa(i), texto);
+            alternativas[i] = texto.substring(inicio);
+            texto.setLength(inicio);
+        }
+        Arrays.sort(alternativas, 0, n);
+        for (int i = 0; i < n; i++) {
+            texto.append('|').append(alternativas[i]);
+            alternativas[i] = null;
+        }
+    }
+
+    /**
+     * Acrescenta o texto normalizado ao destino: minúsculas, sem acentos, com cada sequência
+     * de pontuação e espaços reduzida a um único espaço e sem espaços nas pontas.
+     *
+     * @param original Texto original
+     * @param destino Onde o texto normalizado é acrescentado
+     */
+    static void normalizar(String original, StringBuilder destino) {
+        String s = original;
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 0x80) { // acentos: decompõe para descartar as marcas
+                s = Normalizer.normalize(s, Normalizer.Form.NFD);
+                break;
+            }
+        }
+
+        int inicio = destino.length();
+        boolean espaco = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                    // já normalizado
+                } else if (c >= 'A' && c <= 'Z') {
+                    c = (char) (c + ('a' - 'A'));
+                } else {
+                    espaco = true;
+                    continue;
+                }
+            } else if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            } else if (Character.isLetterOrDigit(c)) {
+                c = Character.toLowerCase(c);
+            } else {
+                espaco = true;
+                continue;
+            }
+            if (espaco && destino.length() > inicio) destino.append(' ');
+            espaco = false;
+            destino.append(c);
+        }
+    }
+
+    // --- Hashes ---
+
+    // Finalizador do SplitMix64: espalha todos os bits da entrada
+    private static long misturar(long x) {
+        x = (x ^ (x >>> 30)) * 0xBF58476D1CE4E5B9L;
+        x = (x ^ (x >>> 27)) * 0x94D049BB133111EBL;
+        return x ^ (x >>> 31);
+    }
+
+    // Hash de 64 bits do texto inteiro
+    private static long hash(CharSequence s) {
+        long h = 0x84222325CBF29CE4L;
+        for (int i = 0; i < s.length(); i++) {
+            h = (h ^ s.charAt(i)) * 0x100000001B3L;
+        }
+        return misturar(h);
+    }
+
+    // Assinatura MinHash dos shingles do texto (um texto mais curto que o shingle é um shingle só)
+    private void calcularAssinatura() {
+        Arrays.fill(assinatura, Integer.MAX_VALUE);
+        int n = texto.length();
+        int fim = Math.max(1, n - TAMANHO_SHINGLE + 1);
+        for (int i = 0; i < fim; i++) {
+            long h = 0;
+            for (int j = i, limite = Math.min(n, i + TAMANHO_SHINGLE); j < limite; j++) {
+                h = h * 31 + texto.charAt(j);
+            }
+            long x = misturar(h);
+            for (int k = 0; k < VALORES; k++) {
+                int v = (int) ((A[k] * x + B[k]) >>> 48);
+                if (v < assinatura[k]) assinatura[k] = v;
+            }
+        }
+    }
+
+    // Chave de uma faixa da assinatura (nunca 0, que marca posição livre)
+    private static int chaveFaixa(int[] assinatura, int base, int faixa) {
+        long h = faixa;
+        for (int i = 0; i < LINHAS; i++) {
+            h = h * 0x9E3779B97F4A7C15L + assinatura[base + faixa * LINHAS + i];
+        }
+        int chave = (int) (misturar(h) >>> 32);
+        return chave == 0 ? 1 : chave;
+    }
+
+    // --- Tabelas de espalhamento (endereçamento aberto, ocupação até 50%) ---
+
+    private int procurarExata(long hash) {
+        long chave = hash == 0 ? 1 : hash;
+        int mascara = hashesExatos.length - 1;
+        for (int i = (int) chave & mascara; ; i = (i + 1) & mascara) {
+            long h = hashesExatos[i];
+            if (h == chave) return perguntasExatas[i];
+            if (h == 0) return -1;
+        }
+    }
+
+    private void inserirExata(long hash, int pergunta) {
+        if ((quantidade) * 2 > hashesExatos.length) {
+            long[] antigosHashes = hashesExatos;
+            int[] antigasPerguntas = perguntasExatas;
+            hashesExatos = new long[antigosHashes.length * 2];
+            perguntasExatas = new int[antigosHashes.length * 2];
+            for (int i = 0; i < antigosHashes.length; i++) {
+                if (antigosHashes[i] != 0) colocarExata(antigosHashes[i], antigasPerguntas[i]);
+            }
+        }
+        colocarExata(hash == 0 ? 1 : hash, pergunta);
+    }
+
+    private void colocarExata(long chave, int pergunta) {
+        int mascara = hashesExatos.length - 1;
+        int i = (int) chave & mascara;
+        while (hashesExatos[i] != 0) i = (i + 1) & mascara;
+        hashesExatos[i] = chave;
+        perguntasExatas[i] = pergunta;
+    }
+
+    // Primeira pergunta + 1 com a chave de faixa (0 se nenhuma)
+    private int cabecaFaixa(int chave) {
+        int mascara = chavesFaixa.length - 1;
+        for (int i = chave & mascara; ; i = (i + 1) & mascara) {
+            int c = chavesFaixa[i];
+            if (c == chave) return cabecasFaixa[i];
+            if (c == 0) return 0;
+        }
+    }
+
+    // Coloca a pergunta no início da lista da chave
+    private void inserirFaixa(int chave, int pergunta, int faixa) {
+        int mascara = chavesFaixa.length - 1;
+        for (int i = chave & mascara; ; i = (i + 1) & mascara) {
+            int c = chavesFaixa[i];
+            if (c == chave) {
+                proximas[pergunta * FAIXAS + faixa] = cabecasFaixa[i];
+                cabecasFaixa[i] = pergunta + 1;
+                return;
+            }
+            if (c == 0) {
+                chavesFaixa[i] = chave;
+                cabecasFaixa[i] = pergunta + 1;
+                proximas[pergunta * FAIXAS + faixa] = 0;
+                if (++faixasOcupadas * 2 > chavesFaixa.length) crescerFaixas();
+                return;
+            }
+        }
+    }
+
+    private void crescerFaixas() {
+        int[] antigasChaves = chavesFaixa;
+        int[] antigasCabecas = cabecasFaixa;
+        chavesFaixa = new int[antigasChaves.length * 2];
+        cabecasFaixa = new int[antigasChaves.length * 2];
+        int mascara = chavesFaixa.length - 1;
+        for (int j = 0; j < antigasChaves.length; j++) {
+            int chave = antigasChaves[j];
+            if (chave == 0) continue;
+            int i = chave & mascara;
+            while (chavesFaixa[i] != 0) i = (i + 1) & mascara;
+            chavesFaixa[i] = chave;
+            cabecasFaixa[i] = antigasCabecas[j];
+        }
+    }
+}
@@ -1,11 +1,33 @@
-import java.util.Scanner;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * Representa um jogador do jogo de perguntas e respostas.
- * Herda de Usuario e implementa a interface Respondente.
+ * Herda de Usuario e guarda o estado de pontuação; as respostas vêm de um
+ * Respondente (console, roteiro, arquivo ou bot).
+ * Os contadores são sincronizados, permitindo rodadas com respostas simultâneas.
  */
-public class Jogador extends Usuario implements Respondente {
-    private static final Scanner SC = new Scanner(System.in);
+public class Jogador extends Usuario {
+    /**
+     * Estados da obtenção de uma resposta:
+     * AGUARDANDO_ENTRADA → VALIDADA → CORRIGIDA, ou → PULADA, ou → ESGOTADA
+     * (tentativas ou prazo da configuração esgotados; conta como erro).
+     */
+    public enum EstadoResposta {
+        AGUARDANDO_ENTRADA, VALIDADA, PULADA, CORRIGIDA, ESGOTADA
+    }
+
+    // Fonte das respostas do jogador
+    private final Respondente respondente;
+
+    // Terminal onde as mensagens do jogador são exibidas
+    private final Terminal terminal;
+
+    // Regras do jogo em curso: pontos por acerto/erro e pulos por rodada
+    private ConfiguracaoJogo configuracao = ConfiguracaoJogo.PADRAO;
+
+    // Ouvintes dos eventos do jogador (cópia na escrita; normalmente vazio)
+    private OuvinteJogador[] ouvintes = new OuvinteJogador[0];
 
     // Contadores de desempenho do jogador
     private int acertosNaRodada;
@@ -19,7 +41,41 @@ public class Jogador extends Usuario implements Respondente {
      * @param nome Nome do jogador
      */
     public Jogador(String nome) {
+        this(nome, Terminal.console());
+    }
+
+    /**
+     * Construtor do jogador ligado a um terminal de sessão.
+     * As respostas são lidas do próprio terminal.
+     *
+     * @param nome Nome do jogador
+     * @param terminal Terminal de onde as respostas são lidas
+     */
+    public Jogador(String nome, Terminal terminal) {
+        this(nome, new RespondenteTerminal(terminal), terminal);
+    }
+
+    /**
+     * Construtor do jogador sem terminal (bots, roteiros e simulações).
+     *
+     * @param nome Nome do jogador
+     * @param respondente Fonte das respostas
+     */
+    public Jogador(String nome, Respondente respondente) {
+        this(nome, respondente, Terminal.nulo());
+    }
+
+    /**
+     * Construtor completo do jogador.
+     *
+     * @param nome Nome do jogador
+     * @param respondente Fonte das respostas
+     * @param terminal Terminal onde as mensagens são exibidas
+     */
+    public Jogador(String nome, Respondente respondente, Terminal terminal) {
         super(nome);
+        this.respondente = Objects.requireNonNull(respondente, "Respondente não pode ser nulo");
+        this.terminal = Objects.requireNonNull(terminal, "Terminal não pode ser nulo");
         this.acertosNaRodada = 0;
         this.pulosNaRodada = 0;
         this.pulosTotal = 0;
@@ -29,116 +85,333 @@ public class Jogador extends Usuario implements Respondente {
     /**
      * Método que permite ao jogador responder uma pergunta.
      * Trata entrada do usuário, validação, pulo e pontuação.
+     * Entradas inválidas e pulos recusados consomem tentativas (sem recursão); esgotadas
+     * as tentativas, a resposta conta como erro, e vencido o prazo da configuração vale a
+     * regra de expiração (erro ou pulo).
      *
      * @param pergunta A pergunta a ser respondida
+     * @return Estado final: CORRIGIDA, PULADA ou ESGOTADA
      */
-    @Override
-    public void responderPergunta(Pergunta pergunta) {
-        // Códigos ANSI para colorir o terminal
-        final String ANSI_RESET = "\u001B[0m";
-        final String ANSI_GREEN = "\u001B[32m";
-        final String ANSI_RED = "\u001B[31m";
-        final String ANSI_YELLOW = "\u001B[33m";
-        final String ANSI_CYAN = "\u001B[36m";
+    public EstadoResposta responderPergunta(Pergunta pergunta) {
+        return responderPergunta(pergunta, 0);
+    }
 
+    /**
+     * Responde uma pergunta dentro do prazo da rodada (além do prazo de cada resposta).
+     *
+     * @param pergunta A pergunta a ser respondida
+     * @param limiteRodada System.nanoTime() em que a rodada acaba (0 = sem prazo de rodada)
+     * @return Estado final: CORRIGIDA, PULADA ou ESGOTADA
+     */
+    EstadoResposta responderPergunta(Pergunta pergunta, long limiteRodada) {
         // Exibe o nome do jogador e a pergunta
-        System.out.println();
-        System.out.println(ANSI_CYAN + "Vez de: " + getNome() + ANSI_RESET);
-        System.out.println(ANSI_YELLOW + pergunta + ANSI_RESET);
-
-        // Lê e valida a resposta do jogador
-        char resposta;
-        while (true) {
-            System.out.print("Digite sua resposta (a/b/c/d) ou 'p' para pular: ");
-            String linha = SC.nextLine().trim();
-            if (linha.isEmpty()) continue;
-            resposta = Character.toLowerCase(linha.charAt(0));
-            if (pergunta.isRespostaValida(resposta)) break;
-            System.out.println("Entrada inválida. Tente novamente.");
-        }
+        exibirPergunta("Vez de: ", pergunta);
+
+        // Obtém uma resposta válida (o pulo, se aceito, já é consumido)
+        ConfiguracaoJogo c = getConfiguracao();
+        char resposta = adquirirResposta(pergunta, true, limiteRodada);
 
-        // Trata o pulo de pergunta
         if (resposta == 'p') {
-            boolean pulou = incrementarPulos(); // só pode pular uma vez por rodada
-            if (!pulou) {
-                System.out.println("Você já usou seu pulo nesta rodada. Responda a pergunta.");
-                responderPergunta(pergunta); // força o jogador a responder
-                return;
+            pergunta.getEstatisticas().registrarPulo();
+            terminal.exibir(new EventoExibicao.PuloUsado(getNome()));
+            return EstadoResposta.PULADA; // pulo não altera pontuação
+        }
+        if (resposta == Rodada.SEM_RESPOSTA) {
+            registrarSemResposta(pergunta);
+            terminal.exibir(new EventoExibicao.RespostaCorrigida(getNome(), false,
+                    c.getMensagemEsgotada(), getPontuacaoTotal()));
+            return EstadoResposta.ESGOTADA;
+        }
+
+        // Corrige e pontua imediatamente; a pausa abaixo é apenas visual
+        boolean correta = corrigirResposta(pergunta, resposta);
+        terminal.exibir(new EventoExibicao.VerificandoResposta());
+        if (terminal.isInterativo() && Apresentacao.getAtrasoVerificacaoMs() > 0) {
+            // Só espera a saída quando há pausa para o jogador ver a mensagem
+            terminal.descarregar();
+            Apresentacao.pausarVerificacao();
+        }
+
+        // Exibe o veredito e a pontuação atual do jogador
+        terminal.exibir(new EventoExibicao.RespostaCorrigida(getNome(), correta,
+                correta ? c.getMensagemAcerto() : c.getMensagemErro(), getPontuacaoTotal()));
+        return EstadoResposta.CORRIGIDA;
+    }
+
+    /**
+     * Coleta a resposta do jogador sem pontuar (modo de rodada simultânea).
+     * Um 'p' só é aceito se o pulo ainda estiver disponível nesta rodada;
+     * a pontuação é aplicada depois, pela Rodada, em uma única passada.
+     *
+     * @param pergunta A pergunta a ser respondida
+     * @return Letra escolhida, 'p' para pular ou Rodada.SEM_RESPOSTA se o orçamento se esgotou
+     */
+    public char coletarResposta(Pergunta pergunta) {
+        return coletarResposta(pergunta, 0);
+    }
+
+    /**
+     * Coleta a resposta até um limite (o prazo da pergunta simultânea ou da rodada).
+     *
+     * @param pergunta A pergunta a ser respondida
+     * @param limite System.nanoTime() em que a coleta desiste (0 = só o prazo da configuração)
+     * @return Letra escolhida, 'p' para pular ou Rodada.SEM_RESPOSTA se o orçamento se esgotou
+     */
+    char coletarResposta(Pergunta pergunta, long limite) {
+        exibirPergunta("Pergunta para: ", pergunta);
+        return adquirirResposta(pergunta, false, limite);
+    }
+
+    /**
+     * Máquina de estados da obtenção da resposta, em um laço de profundidade constante.
+     * Cada entrada consome uma tentativa; uma letra inválida ou um pulo recusado voltam
+     * para AGUARDANDO_ENTRADA. Com prazo, cada entrada é pedida com o tempo restante (o terminal
+     * desiste da espera quando ele acaba) e o prazo vencido aplica a regra de expiração.
+     *
+     * @param pergunta A pergunta a ser respondida
+     * @param consumirPulo true para já registrar o pulo aceito (modo sequencial)
+     * @param limiteExterno System.nanoTime() de um prazo maior que o da resposta (0 = nenhum)
+     * @return Letra válida, 'p' (pulo aceito) ou Rodada.SEM_RESPOSTA (orçamento esgotado)
+     */
+    private char adquirirResposta(Pergunta pergunta, boolean consumirPulo, long limiteExterno) {
+        ConfiguracaoJogo c = getConfiguracao();
+        int tentativasRestantes = c.getTentativasPorResposta();
+        long prazo = c.getPrazoResposta().toNanos();
+        long limite = prazo > 0 ? System.nanoTime() + prazo : 0;
+        if (limiteExterno != 0 && (limite == 0 || limiteExterno - limite < 0)) {
+            limite = limiteExterno;
+        }
+        boolean cronometrar = Metricas.isTemposAtivos();
+        long inicio = cronometrar ? System.nanoTime() : 0;
+
+        EstadoResposta estado = EstadoResposta.AGUARDANDO_ENTRADA;
+        char resposta = Rodada.SEM_RESPOSTA;
+        while (estado == EstadoResposta.AGUARDANDO_ENTRADA) {
+            if (tentativasRestantes-- == 0) {
+                estado = EstadoResposta.ESGOTADA;
+                resposta = Rodada.SEM_RESPOSTA;
+                break;
+            }
+            long restante = limite != 0 ? limite - System.nanoTime() : 0;
+            if (limite != 0 && restante <= 0) {
+                // Prazo vencido: vale como pulo (se a regra permitir e ainda houver) ou como erro
+                boolean pulo = c.isExpiracaoComoPulo() && (consumirPulo ? incrementarPulos() : podePular());
+                estado = pulo ? EstadoResposta.PULADA : EstadoResposta.ESGOTADA;
+                resposta = pulo ? 'p' : Rodada.SEM_RESPOSTA;
+                break;
+            }
+
+            resposta = obterResposta(pergunta, restante);
+            if (!pergunta.isRespostaValida(resposta)) {
+                // Linha vazia só repete o prompt; outra entrada inválida recebe aviso
+                Metricas.entradaInvalida();
+                if (resposta != Rodada.SEM_RESPOSTA) {
+                    terminal.imprimirLinha("Entrada inválida. Tente novamente.");
+                }
+            } else if (resposta != 'p') {
+                estado = EstadoResposta.VALIDADA;
+            } else if (consumirPulo ? incrementarPulos() : podePular()) {
+                estado = EstadoResposta.PULADA;
             } else {
-                System.out.println(getNome() + " optou por PULAR a pergunta.");
-                return; // pulo não altera pontuação
+                Metricas.entradaInvalida();
+                terminal.imprimirLinha(c.getMensagemSemPulos());
             }
         }
+        if (cronometrar && estado == EstadoResposta.VALIDADA) {
+            // Tempo até a resposta final da pergunta, somando as tentativas inválidas
+            pergunta.getEstatisticas().registrarTempo(System.nanoTime() - inicio);
+        }
+        return resposta;
+    }
 
-        // Verifica se a resposta está correta
-        boolean correta = pergunta.verificarResposta(resposta);
-        System.out.println("🤔 Verificando resposta...");
-        try { Thread.sleep(1000); } catch (InterruptedException e) {}
+    // Exibe o cabeçalho com o nome do jogador e a pergunta (o texto é montado pelo terminal)
+    private void exibirPergunta(String cabecalho, Pergunta pergunta) {
+        terminal.exibir(new EventoExibicao.PerguntaExibida(cabecalho, getNome(), pergunta));
+    }
+
+    // Pede uma entrada ao respondente (medindo o tempo de resposta), em minúscula; a validação fica com quem chama
+    private char obterResposta(Pergunta pergunta, long prazoNanos) {
+        boolean podePular = podePular();
+        if (!Metricas.isTemposAtivos()) {
+            return Character.toLowerCase(pedirResposta(pergunta, podePular, prazoNanos));
+        }
+        long inicio = System.nanoTime();
+        char resposta = pedirResposta(pergunta, podePular, prazoNanos);
+        Metricas.tempoResposta(System.nanoTime() - inicio);
+        return Character.toLowerCase(resposta);
+    }
+
+    // Sem prazo (0), a chamada de sempre; com prazo, a que desiste da espera quando ele acaba
+    private char pedirResposta(Pergunta pergunta, boolean podePular, long prazoNanos) {
+        return prazoNanos > 0 ? respondente.escolherResposta(pergunta, podePular, prazoNanos)
+                : respondente.escolherResposta(pergunta, podePular);
+    }
+
+    // Retorna a fonte de respostas do jogador
+    public Respondente getRespondente() {
+        return respondente;
+    }
+
+    /**
+     * Define as regras de pontuação e de pulos do jogo em que o jogador está.
+     * Chamado pelo Jogo na construção; o padrão é ConfiguracaoJogo.PADRAO.
+     *
+     * @param configuracao Configuração do jogo
+     */
+    public synchronized void setConfiguracao(ConfiguracaoJogo configuracao) {
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
+    }
+
+    // Retorna a configuração do jogo em que o jogador está
+    public synchronized ConfiguracaoJogo getConfiguracao() {
+        return configuracao;
+    }
 
+    /**
+     * Corrige a resposta e atualiza a pontuação, sem nenhuma saída ou pausa.
+     * Acerto soma os pontos de acerto da configuração (padrão +1) e conta como acerto na rodada;
+     * erro soma os pontos de erro (padrão -1).
+     *
+     * @param pergunta A pergunta respondida
+     * @param resposta Letra escolhida
+     * @return true se a resposta estava correta
+     */
+    public synchronized boolean corrigirResposta(Pergunta pergunta, char resposta) {
+        boolean correta = pergunta.verificarResposta(resposta);
+        Metricas.respostaCorrigida(correta);
+        pergunta.getEstatisticas().registrarEscolha(resposta);
+        for (OuvinteJogador o : ouvintes) o.respostaCorrigida(this, pergunta, resposta, correta);
         if (correta) {
             incrementarAcertos();
-            incrementarPontuacao(+1);
-            System.out.println(ANSI_GREEN + "✅ Resposta correta! (+1 ponto)" + ANSI_RESET);
+            incrementarPontuacao(configuracao.getPontosAcerto());
         } else {
-            incrementarPontuacao(-1);
-            System.out.println(ANSI_RED + "❌ Resposta errada! (-1 ponto)" + ANSI_RESET);
+            incrementarPontuacao(configuracao.getPontosErro());
         }
+        return correta;
+    }
 
-        // Exibe a pontuação atual do jogador
-        System.out.println("Pontuação total de " + getNome() + ": " + pontuacaoTotal);
+    /**
+     * Registra que o jogador ficou sem resposta (prazo ou tentativas esgotados):
+     * vale como erro e conta como resposta dada à pergunta.
+     *
+     * @param pergunta A pergunta não respondida
+     */
+    public synchronized void registrarSemResposta(Pergunta pergunta) {
+        Metricas.semResposta();
+        pergunta.getEstatisticas().registrarSemResposta();
+        for (OuvinteJogador o : ouvintes) o.respostaCorrigida(this, pergunta, Rodada.SEM_RESPOSTA, false);
+        incrementarPontuacao(configuracao.getPontosErro());
     }
 
     // Incrementa o número de acertos na rodada
-    public void incrementarAcertos() {
+    public synchronized void incrementarAcertos() {
         acertosNaRodada++;
+        for (OuvinteJogador o : ouvintes) o.acertoRegistrado(this);
     }
 
     // Retorna o número de acertos na rodada atual
-    public int getAcertosNaRodada() {
+    public synchronized int getAcertosNaRodada() {
         return acertosNaRodada;
     }
 
     // Reinicia o contador de acertos da rodada
-    public void resetarAcertos() {
+    public synchronized void resetarAcertos() {
         acertosNaRodada = 0;
+        for (OuvinteJogador o : ouvintes) o.acertosReiniciados(this);
     }
 
     /**
-     * Tenta usar o pulo na rodada.
+     * Tenta usar um pulo na rodada.
      *
-     * @return true se o pulo foi permitido; false se já foi usado
+     * @return true se o pulo foi permitido; false se os pulos da rodada já foram usados
      */
-    public boolean incrementarPulos() {
-        if (pulosNaRodada >= 1) {
+    public synchronized boolean incrementarPulos() {
+        if (pulosNaRodada >= configuracao.getPulosPorRodada()) {
             return false;
         }
         pulosNaRodada++;
         pulosTotal++;
+        Metricas.puloUsado();
+        for (OuvinteJogador o : ouvintes) o.puloUsado(this);
         return true;
     }
 
+    // Indica se ainda há pulo disponível nesta rodada
+    public synchronized boolean podePular() {
+        return pulosNaRodada < configuracao.getPulosPorRodada();
+    }
+
     // Reinicia o contador de pulos da rodada
-    public void resetarPulos() {
+    public synchronized void resetarPulos() {
         pulosNaRodada = 0;
     }
 
     // Retorna o total de pulos usados no jogo
-    public int getPulosTotal() {
+    public synchronized int getPulosTotal() {
         return pulosTotal;
     }
 
     // Altera a pontuação total do jogador
-    public void incrementarPontuacao(int valor) {
+    public synchronized void incrementarPontuacao(int valor) {
         pontuacaoTotal += valor;
+        for (OuvinteJogador o : ouvintes) o.pontuacaoAlterada(this, valor);
     }
 
     // Retorna a pontuação total acumulada
-    public int getPontuacaoTotal() {
+    public synchronized int getPontuacaoTotal() {
         return pontuacaoTotal;
     }
 
     // Getter opcional para pulos na rodada atual
-    public int getPulosNaRodada() {
+    public synchronized int getPulosNaRodada() {
         return pulosNaRodada;
     }
+
+    /**
+     * Zera todos os contadores (pontuação, pulos e acertos) para reutilizar o jogador em um novo jogo.
+     * Os ouvintes continuam registrados e são avisados por contadoresReiniciados.
+     */
+    public synchronized void reiniciar() {
+        acertosNaRodada = 0;
+        pulosNaRodada = 0;
+        pulosTotal = 0;
+        pontuacaoTotal = 0;
+        for (OuvinteJogador o : ouvintes) o.contadoresReiniciados(this);
+    }
+
+    // Restaura os contadores a partir de um estado recuperado do diário, sem gerar eventos
+    synchronized void restaurarContadores(int acertosNaRodada, int pulosNaRodada, int pulosTotal, int pontuacaoTotal) {
+        this.acertosNaRodada = acertosNaRodada;
+        this.pulosNaRodada = pulosNaRodada;
+        this.pulosTotal = pulosTotal;
+        this.pontuacaoTotal = pontuacaoTotal;
+    }
+
+    /**
+     * Registra um ouvinte para os eventos deste jogador.
+     *
+     * @param ouvinte Ouvinte a registrar
+     */
+    public synchronized void adicionarOuvinte(OuvinteJogador ouvinte) {
+        OuvinteJogador[] novos = Arrays.copyOf(ouvintes, ouvintes.length + 1);
+        novos[ouvintes.length] = Objects.requireNonNull(ouvinte, "Ouvinte não pode ser nulo");
+        ouvintes = novos;
+    }
+
+    /**
+     * Remove um ouvinte registrado.
+     *
+     * @param ouvinte Ouvinte a remover
+     */
+    public synchronized void removerOuvinte(OuvinteJogador ouvinte) {
+        for (int i = 0; i < ouvintes.length; i++) {
+            if (ouvintes[i] == ouvinte) {
+                OuvinteJogador[] novos = new OuvinteJogador[ouvintes.length - 1];
+                System.arraycopy(ouvintes, 0, novos, 0, i);
+                System.arraycopy(ouvintes, i + 1, novos, i, novos.length - i);
+                ouvintes = novos;
+                return;
+            }
+        }
+    }
 }
@@ -1,20 +1,34 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Scanner;
 
 /**
  * Classe principal que gerencia o fluxo do jogo de perguntas e respostas.
- * Envolve o GameMaster, os jogadores, e até 5 rodadas com 3 perguntas cada.
+ * Envolve o GameMaster, os jogadores e as rodadas definidas na ConfiguracaoJogo
+ * (padrão: 5 rodadas com 3 perguntas cada).
  */
 public class Jogo {
-    // Scanner compartilhado para entrada de dados no terminal
-    private static final Scanner SC = new Scanner(System.in);
+    // Quantidade máxima de jogadores exibidos no placar final
+    static final int TAMANHO_PLACAR = 10;
 
     private final GameMaster gameMaster; // Responsável por cadastrar perguntas
     private final List<Jogador> jogadores; // Lista de jogadores participantes
-    private int rodadaAtual = 0; // Número da rodada atual (máximo 5)
+    private final List<Jogador> visaoJogadores; // Visão imutável de jogadores, compartilhada com a rodada
+    private final Terminal terminal; // Entrada e saída da sessão
+    private final ConfiguracaoJogo configuracao; // Rodadas, perguntas, alternativas, pontuação e pulos
+    private int rodadaAtual = 0; // Número da rodada atual (máximo configuracao.getRodadas())
+    private Duration prazoSimultaneo; // Prazo por pergunta em rodadas simultâneas (null = sequencial)
+    private Placar placarAoVivo; // Criado sob demanda em getPlacarAoVivo()
+    private FontePerguntas fontePerguntas; // Origem das perguntas (null = cadastro pelo GameMaster)
+    private DiarioJogo diario; // Diário de eventos para recuperação após queda (opcional)
+    private TransmissaoJogo transmissao; // Transmissão para espectadores (opcional)
+    private EstadoJogo retomada; // Estado recuperado a ser continuado no próximo iniciar()
+    private Rodada rodadaReciclada; // Reciclada a cada rodada e a cada partida (criada na primeira)
 
     /**
      * Construtor do jogo.
@@ -23,7 +37,33 @@ public class Jogo {
      * @param jogadores Lista com pelo menos 2 jogadores
      */
     public Jogo(GameMaster gameMaster, List<Jogador> jogadores) {
+        this(gameMaster, jogadores, Terminal.console());
+    }
+
+    /**
+     * Construtor do jogo com um terminal próprio (ex.: uma conexão do servidor).
+     *
+     * @param gameMaster Instância do GameMaster
+     * @param jogadores Lista com pelo menos 2 jogadores
+     * @param terminal Terminal da sessão
+     */
+    public Jogo(GameMaster gameMaster, List<Jogador> jogadores, Terminal terminal) {
+        this(gameMaster, jogadores, terminal, ConfiguracaoJogo.PADRAO);
+    }
+
+    /**
+     * Construtor do jogo com uma configuração própria.
+     * A configuração já vem validada; os jogadores passam a usar as suas regras de pontuação e pulos.
+     *
+     * @param gameMaster Instância do GameMaster
+     * @param jogadores Lista com pelo menos 2 jogadores
+     * @param terminal Terminal da sessão
+     * @param configuracao Configuração do jogo
+     */
+    public Jogo(GameMaster gameMaster, List<Jogador> jogadores, Terminal terminal, ConfiguracaoJogo configuracao) {
+        this.terminal = Objects.requireNonNull(terminal, "Terminal não pode ser nulo");
         this.gameMaster = Objects.requireNonNull(gameMaster, "GameMaster não pode ser nulo");
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
 
         if (jogadores == null || jogadores.size() < 2) {
             throw new IllegalArgumentException("Devem existir pelo menos 2 jogadores.");
@@ -31,73 +71,190 @@ public class Jogo {
 
         // Cria uma cópia da lista para evitar modificações externas
         this.jogadores = new ArrayList<>(jogadores);
+        this.visaoJogadores = Collections.unmodifiableList(this.jogadores);
+        for (Jogador j : this.jogadores) {
+            j.setConfiguracao(configuracao);
+        }
     }
 
     /**
-     * Inicia o jogo com até 5 rodadas.
-     * Em cada rodada, o GameMaster cadastra 3 perguntas e os jogadores respondem.
+     * Inicia o jogo com as rodadas da configuração.
+     * Em cada rodada, o GameMaster cadastra as perguntas e os jogadores respondem.
      */
     public void iniciar() {
-        System.out.println("\n==== INÍCIO DO JOGO ====");
+        terminal.imprimirLinha("\n==== INÍCIO DO JOGO ====");
 
-        for (int r = 1; r <= 5; r++) {
+        // Jogo recuperado do diário: continua da rodada interrompida (ou da seguinte).
+        // Os dados são copiados porque o estado continua sendo atualizado pelo diário.
+        int primeira = 1;
+        int rodadaInterrompida = 0;
+        List<Pergunta> perguntasRecuperadas = List.of();
+        int perguntaInterrompida = -1;
+        boolean[] jaResponderam = null;
+        if (retomada != null && retomada.getRodadaAtual() > 0) {
+            if (retomada.isRodadaEncerrada()) {
+                primeira = retomada.getRodadaAtual() + 1;
+            } else {
+                primeira = rodadaInterrompida = retomada.getRodadaAtual();
+                perguntasRecuperadas = new ArrayList<>(retomada.getPerguntasDaRodada());
+                perguntaInterrompida = retomada.getPerguntaAtual();
+                jaResponderam = retomada.getRespondeuPerguntaAtual();
+            }
+        }
+        retomada = null;
+
+        int rodadas = configuracao.getRodadas();
+        int perguntasPorRodada = configuracao.getPerguntasPorRodada();
+        for (int r = primeira; r <= rodadas; r++) {
             this.rodadaAtual = r;
-            System.out.println("\n---- RODADA " + r + " ----");
-            System.out.println("(GM " + gameMaster.getNome() + ") Cadastre 3 perguntas:");
+            boolean continuando = r == rodadaInterrompida;
+            terminal.exibir(new EventoExibicao.InicioRodada(r, continuando));
+            if (diario != null && !continuando) {
+                diario.rodadaIniciada(r);
+            }
 
-            Rodada rodada = new Rodada(jogadores);
+            Rodada rodada = proximaRodada();
+            rodada.setDiario(diario);
+            rodada.setTransmissao(transmissao, r);
+            if (prazoSimultaneo != null) {
+                rodada.setModoSimultaneo(prazoSimultaneo);
+            }
 
-            // Cadastro de 3 perguntas pelo GameMaster
-            for (int i = 1; i <= 3; i++) {
-                System.out.println("📢 Cadastro de pergunta");
-                System.out.println("\n[Cadastro] Pergunta " + i + " da Rodada " + r);
+            int criadas = 0;
+            if (continuando) {
+                // Perguntas que já tinham sido criadas antes da interrupção
+                for (Pergunta p : perguntasRecuperadas) {
+                    rodada.adicionarPergunta(p);
+                    criadas++;
+                }
+            }
 
-                String enunciado = lerLinhaObrigatoria("Enunciado: ");
+            if (fontePerguntas != null) {
+                // Perguntas prontas (ex.: banco em disco), sem espera pelo GameMaster
+                for (int i = criadas + 1; i <= perguntasPorRodada; i++) {
+                    rodada.adicionarPergunta(registrarPergunta(fontePerguntas.proximaPergunta()));
+                }
+            } else if (criadas < perguntasPorRodada) {
+                terminal.imprimirLinha("(GM " + gameMaster.getNome() + ") Cadastre "
+                        + perguntasPorRodada + (perguntasPorRodada == 1 ? " pergunta:" : " perguntas:"));
 
-                String[] alternativas = new String[4];
-                alternativas[0] = lerLinhaObrigatoria("Alternativa a): ");
-                alternativas[1] = lerLinhaObrigatoria("Alternativa b): ");
-                alternativas[2] = lerLinhaObrigatoria("Alternativa c): ");
-                alternativas[3] = lerLinhaObrigatoria("Alternativa d): ");
+                // Cadastro das perguntas pelo GameMaster
+                for (int i = criadas + 1; i <= perguntasPorRodada; i++) {
+                    rodada.adicionarPergunta(registrarPergunta(cadastrarPergunta(r, i)));
+                }
+            }
 
-                char correta = lerAlternativaCorreta();
+            // Inicia a rodada: todos os jogadores respondem às mesmas perguntas
+            if (continuando) {
+                rodada.retomar(perguntaInterrompida, jaResponderam);
+            } else {
+                rodada.iniciar();
+            }
 
-                Pergunta p = gameMaster.criarPergunta(enunciado, alternativas, correta);
-                rodada.adicionarPergunta(p);
+            if (diario != null) {
+                diario.rodadaEncerrada(r);
+                diario.sincronizar(); // fim de rodada sempre durável
             }
+        }
 
-            // Inicia a rodada: todos os jogadores respondem às mesmas 3 perguntas
-            rodada.iniciar();
+        if (diario != null) {
+            diario.jogoEncerrado();
+            diario.sincronizar();
         }
 
-        // Exibe o resultado final após as 5 rodadas
+        // Exibe o resultado final após a última rodada
         exibirResultadoFinal();
+        if (transmissao != null) {
+            transmissao.jogoEncerrado();
+        }
+    }
+
+    // A rodada do jogo, sem perguntas: criada na primeira vez e depois reciclada
+    private Rodada proximaRodada() {
+        if (rodadaReciclada == null) {
+            rodadaReciclada = Rodada.doJogo(visaoJogadores, terminal, configuracao);
+        } else {
+            rodadaReciclada.reciclar();
+        }
+        return rodadaReciclada;
+    }
+
+    /**
+     * Prepara o jogo para uma nova partida com os mesmos jogadores, terminal e configuração,
+     * reaproveitando os objetos em vez de criar outro Jogo: os contadores dos jogadores voltam
+     * a zero (o placar ao vivo é avisado por eles), a transmissão deixa de marcar o jogo como
+     * encerrado e a rodada é reciclada.
+     * Um jogo com diário não pode ser reiniciado, pois o diário registra uma única partida.
+     */
+    public void reiniciar() {
+        if (diario != null) {
+            throw new IllegalStateException("Um jogo com diário não pode ser reiniciado.");
+        }
+        rodadaAtual = 0;
+        retomada = null;
+        if (transmissao != null) {
+            transmissao.reiniciar();
+        }
+        for (Jogador j : jogadores) {
+            j.reiniciar();
+        }
+    }
+
+    // Registra a pergunta criada no diário, se houver
+    private Pergunta registrarPergunta(Pergunta p) {
+        if (diario != null) {
+            diario.perguntaCriada(p);
+        }
+        return p;
+    }
+
+    /**
+     * Cadastro interativo de uma pergunta pelo GameMaster.
+     */
+    private Pergunta cadastrarPergunta(int r, int i) {
+        while (true) {
+            terminal.imprimirLinha("📢 Cadastro de pergunta");
+            terminal.imprimirLinha("\n[Cadastro] Pergunta " + i + " da Rodada " + r);
+
+            String enunciado = lerLinhaObrigatoria("Enunciado: ");
+
+            String[] alternativas = new String[configuracao.getAlternativasPorPergunta()];
+            for (int a = 0; a < alternativas.length; a++) {
+                alternativas[a] = lerLinhaObrigatoria(configuracao.getPromptAlternativa(a));
+            }
+
+            char correta = lerAlternativaCorreta();
+
+            try {
+                return gameMaster.criarPergunta(enunciado, alternativas, correta, configuracao);
+            } catch (IllegalArgumentException e) {
+                // Ex.: pergunta repetida, recusada pelo índice de duplicatas do GameMaster
+                terminal.imprimirLinha("⚠ " + e.getMessage() + " Cadastre outra pergunta.");
+            }
+        }
     }
 
     /**
      * Lê uma linha obrigatória do terminal, garantindo que não esteja vazia.
      */
-    private static String lerLinhaObrigatoria(String prompt) {
-        System.out.print(prompt);
+    private String lerLinhaObrigatoria(String prompt) {
+        terminal.imprimir(prompt);
         while (true) {
-            String s = SC.nextLine().trim();
+            String s = terminal.lerLinha().trim();
             if (!s.isBlank()) return s;
-            System.out.print("Entrada vazia. Tente novamente: ");
+            terminal.imprimir("Entrada vazia. Tente novamente: ");
         }
     }
 
     /**
-     * Lê a letra da alternativa correta, garantindo que seja 'a', 'b', 'c' ou 'd'.
+     * Lê a letra da alternativa correta, garantindo que seja uma das alternativas do jogo.
      */
-    private static char lerAlternativaCorreta() {
-        System.out.print("Letra da alternativa correta (a/b/c/d): ");
+    private char lerAlternativaCorreta() {
+        terminal.imprimir(configuracao.getPromptRespostaCorreta());
         while (true) {
-            String s = SC.nextLine().trim();
-            if (!s.isEmpty()) {
-                char c = Character.toLowerCase(s.charAt(0));
-                if (c >= 'a' && c <= 'd') return c;
-            }
-            System.out.print("Inválido. Digite 'a', 'b', 'c' ou 'd': ");
+            char c = Character.toLowerCase(terminal.lerCaractere());
+            if (c >= 'a' && c <= configuracao.getUltimaLetra()) return c;
+            terminal.imprimir(configuracao.getMensagemRespostaCorretaInvalida());
         }
     }
 
@@ -110,62 +267,242 @@ public class Jogo {
      * @return Lista com 1 ou mais jogadores vencedores
      */
     public List<Jogador> verificarVencedorFinal() {
-        // Primeiro critério: maior pontuação
-        int maxPontos = jogadores.stream()
-                .mapToInt(Jogador::getPontuacaoTotal)
-                .max()
-                .orElse(Integer.MIN_VALUE);
+        // Passada única: compara (maior pontuação, menor número de pulos) e guarda os empatados
+        int maxPontos = Integer.MIN_VALUE;
+        int minPulos = Integer.MAX_VALUE;
+        List<Jogador> vencedores = new ArrayList<>(2);
 
-        List<Jogador> candidatos = new ArrayList<>();
         for (Jogador j : jogadores) {
-            if (j.getPontuacaoTotal() == maxPontos) {
-                candidatos.add(j);
+            int pontos = j.getPontuacaoTotal();
+            if (pontos < maxPontos) continue;
+
+            int pulos = j.getPulosTotal();
+            if (pontos > maxPontos || pulos < minPulos) {
+                // Novo líder: descarta os empatados anteriores
+                maxPontos = pontos;
+                minPulos = pulos;
+                vencedores.clear();
+                vencedores.add(j);
+            } else if (pulos == minPulos) {
+                vencedores.add(j);
             }
         }
 
-        // Se só há um com maior pontuação, ele é o vencedor
-        if (candidatos.size() == 1) return candidatos;
+        return vencedores; // Pode haver empate completo
+    }
 
-        // Segundo critério: menor número de pulos
-        int minPulos = candidatos.stream()
-                .mapToInt(Jogador::getPulosTotal)
-                .min()
-                .orElse(Integer.MAX_VALUE);
+    /**
+     * Seleciona os k jogadores com maior pontuação, sem ordenar a lista inteira.
+     * Usa um heap de tamanho k (O(n log k)); empates mantêm a ordem de cadastro.
+     *
+     * @param k Quantidade de jogadores desejada
+     * @return Até k jogadores, em ordem decrescente de pontuação
+     */
+    public List<Jogador> topJogadores(int k) {
+        int n = jogadores.size();
+        k = Math.min(k, n);
+        if (k <= 0) return List.of();
 
-        List<Jogador> finalistas = new ArrayList<>();
-        for (Jogador j : candidatos) {
-            if (j.getPulosTotal() == minPulos) {
-                finalistas.add(j);
+        // Heap de índices com o "pior" dos selecionados no topo
+        int[] heap = new int[k];
+        int[] pontos = new int[k];
+        int tamanho = 0;
+        for (int i = 0; i < n; i++) {
+            int p = jogadores.get(i).getPontuacaoTotal();
+            if (tamanho < k) {
+                heap[tamanho] = i;
+                pontos[tamanho] = p;
+                subirNoHeap(heap, pontos, tamanho++);
+            } else if (p > pontos[0]) { // empate não substitui: quem veio antes fica
+                heap[0] = i;
+                pontos[0] = p;
+                descerNoHeap(heap, pontos, tamanho);
             }
         }
 
-        return finalistas; // Pode haver empate completo
+        // Retira do pior para o melhor, preenchendo o resultado de trás para frente
+        Jogador[] top = new Jogador[tamanho];
+        for (int t = tamanho; t > 0; t--) {
+            top[t - 1] = jogadores.get(heap[0]);
+            heap[0] = heap[t - 1];
+            pontos[0] = pontos[t - 1];
+            descerNoHeap(heap, pontos, t - 1);
+        }
+        return Arrays.asList(top);
+    }
+
+    // true se o elemento a é "pior" que b: menos pontos ou, no empate, cadastrado depois
+    private static boolean pior(int[] heap, int[] pontos, int a, int b) {
+        return pontos[a] < pontos[b] || (pontos[a] == pontos[b] && heap[a] > heap[b]);
+    }
+
+    private static void subirNoHeap(int[] heap, int[] pontos, int i) {
+        while (i > 0) {
+            int pai = (i - 1) >>> 1;
+            if (!pior(heap, pontos, i, pai)) return;
+            trocar(heap, pontos, i, pai);
+            i = pai;
+        }
+    }
+
+    private static void descerNoHeap(int[] heap, int[] pontos, int tamanho) {
+        int i = 0;
+        while (true) {
+            int esq = 2 * i + 1;
+            if (esq >= tamanho) return;
+            int menor = esq;
+            if (esq + 1 < tamanho && pior(heap, pontos, esq + 1, esq)) menor = esq + 1;
+            if (!pior(heap, pontos, menor, i)) return;
+            trocar(heap, pontos, i, menor);
+            i = menor;
+        }
+    }
+
+    private static void trocar(int[] heap, int[] pontos, int a, int b) {
+        int h = heap[a];
+        heap[a] = heap[b];
+        heap[b] = h;
+        int p = pontos[a];
+        pontos[a] = pontos[b];
+        pontos[b] = p;
     }
 
     /**
      * Exibe o placar final e o(s) vencedor(es) do jogo.
      */
     public void exibirResultadoFinal() {
-        System.out.println("\n==== RESULTADO FINAL ====");
-
-        // Exibe todos os jogadores ordenados por pontuação decrescente
-        jogadores.stream()
-                .sorted(Comparator.comparingInt(Jogador::getPontuacaoTotal).reversed())
-                .forEach(j -> System.out.printf("- %s | Pontos: %d | Pulos totais: %d%n",
-                        j.getNome(), j.getPontuacaoTotal(), j.getPulosTotal()));
+        // Melhores colocados em ordem decrescente de pontuação (seleção parcial, sem ordenar todos)
+        List<Jogador> top = topJogadores(TAMANHO_PLACAR);
+        List<EventoExibicao.LinhaPlacar> placar = new ArrayList<>(top.size());
+        for (Jogador j : top) {
+            placar.add(new EventoExibicao.LinhaPlacar(j.getNome(), j.getPontuacaoTotal(), j.getPulosTotal()));
+        }
 
-        // Determina e exibe o(s) vencedor(es)
+        // Determina o(s) vencedor(es)
         List<Jogador> vencedores = verificarVencedorFinal();
-        if (vencedores.size() == 1) {
-            System.out.println("\n🏆 Vencedor do jogo: " + vencedores.get(0).getNome());
-        } else {
-            System.out.println("\n🤝 Jogo terminou em EMPATE entre:");
-            for (Jogador j : vencedores) {
-                System.out.println(" - " + j.getNome());
-            }
+        List<String> nomesVencedores = new ArrayList<>(vencedores.size());
+        for (Jogador j : vencedores) {
+            nomesVencedores.add(j.getNome());
+        }
+
+        terminal.exibir(new EventoExibicao.ResultadoFinal(placar,
+                Math.max(0, jogadores.size() - TAMANHO_PLACAR), nomesVencedores));
+    }
+
+    /**
+     * Passa a registrar todos os eventos do jogo no diário informado.
+     * Em um diário novo, registra também o início do jogo com os nomes dos participantes.
+     *
+     * @param diario Diário do jogo
+     */
+    public void setDiario(DiarioJogo diario) {
+        this.diario = Objects.requireNonNull(diario, "Diário não pode ser nulo");
+        if (!diario.getEstado().isIniciado()) {
+            List<String> nomes = new ArrayList<>(jogadores.size());
+            for (Jogador j : jogadores) nomes.add(j.getNome());
+            diario.jogoIniciado(gameMaster.getNome(), nomes);
+        }
+        for (int i = 0; i < jogadores.size(); i++) {
+            jogadores.get(i).adicionarOuvinte(diario.ouvinteDe(i));
+        }
+    }
+
+    // Retorna o diário do jogo (null se não houver)
+    public DiarioJogo getDiario() {
+        return diario;
+    }
+
+    /**
+     * Reconstrói um jogo interrompido reaplicando o seu diário (a partir do último instantâneo).
+     * O jogo devolvido continua registrando no mesmo diário; iniciar() retoma do ponto da interrupção.
+     *
+     * @param arquivoDiario Arquivo do diário
+     * @param terminal Terminal da sessão retomada
+     * @return Jogo com o estado exato do momento da interrupção
+     * @throws IOException se o diário não puder ser lido
+     */
+    public static Jogo recuperar(Path arquivoDiario, Terminal terminal) throws IOException {
+        return recuperar(arquivoDiario, terminal, ConfiguracaoJogo.PADRAO);
+    }
+
+    /**
+     * Reconstrói um jogo interrompido que usava uma configuração própria.
+     * A configuração deve ser a mesma do jogo original.
+     *
+     * @param arquivoDiario Arquivo do diário
+     * @param terminal Terminal da sessão retomada
+     * @param configuracao Configuração do jogo original
+     * @return Jogo com o estado exato do momento da interrupção
+     * @throws IOException se o diário não puder ser lido
+     */
+    public static Jogo recuperar(Path arquivoDiario, Terminal terminal, ConfiguracaoJogo configuracao)
+            throws IOException {
+        EstadoJogo estado = DiarioJogo.recuperar(arquivoDiario);
+        if (!estado.isIniciado()) {
+            throw new IOException("O diário não contém um jogo: " + arquivoDiario);
+        }
+
+        List<Jogador> jogadores = new ArrayList<>();
+        for (String nome : estado.getNomesJogadores()) {
+            jogadores.add(new Jogador(nome, terminal));
+        }
+        estado.restaurar(jogadores);
+
+        Jogo jogo = new Jogo(new GameMaster(estado.getNomeGameMaster()), jogadores, terminal, configuracao);
+        jogo.rodadaAtual = estado.getRodadaAtual();
+        jogo.retomada = estado;
+        jogo.setDiario(new DiarioJogo(arquivoDiario, estado));
+        return jogo;
+    }
+
+    /**
+     * Faz as rodadas usarem perguntas prontas em vez do cadastro interativo.
+     *
+     * @param fontePerguntas Fonte das perguntas (null volta ao cadastro pelo GameMaster)
+     */
+    public void setFontePerguntas(FontePerguntas fontePerguntas) {
+        this.fontePerguntas = fontePerguntas;
+    }
+
+    /**
+     * Faz todas as rodadas do jogo usarem respostas simultâneas.
+     *
+     * @param prazoPorPergunta Tempo máximo para responder cada pergunta
+     */
+    public void setRodadasSimultaneas(Duration prazoPorPergunta) {
+        this.prazoSimultaneo = Objects.requireNonNull(prazoPorPergunta, "Prazo não pode ser nulo");
+    }
+
+    /**
+     * Retorna o placar ao vivo do jogo (pontuação total, depois menos pulos).
+     * É criado na primeira chamada; a partir daí cada resposta o atualiza em O(log n).
+     *
+     * @return Placar ao vivo dos jogadores
+     */
+    public synchronized Placar getPlacarAoVivo() {
+        if (placarAoVivo == null) {
+            placarAoVivo = Placar.de(Placar.Criterio.PONTUACAO_TOTAL, jogadores);
         }
+        return placarAoVivo;
+    }
+
+    /**
+     * Retorna a transmissão do jogo para espectadores (pergunta atual, quem respondeu e placar).
+     * É criada na primeira chamada, que deve vir antes de iniciar(); quem a obtém aceita os
+     * espectadores e a fecha ao fim do jogo.
+     *
+     * @return Transmissão do jogo
+     */
+    public synchronized TransmissaoJogo getTransmissao() {
+        if (transmissao == null) {
+            transmissao = new TransmissaoJogo(jogadores);
+        }
+        return transmissao;
+    }
 
-        System.out.println("==== FIM ====");
+    // Retorna a configuração do jogo
+    public ConfiguracaoJogo getConfiguracao() {
+        return configuracao;
     }
 
     // Getter para a rodada atual (pode ser útil para exibição ou lógica externa)
@@ -0,0 +1,201 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Leitor de linhas UTF-8 sobre um canal ou fluxo de bytes, com um único buffer.
+ *
+ * Substitui o BufferedReader + InputStreamReader do TerminalFluxo: as linhas são procuradas
+ * direto nos bytes (sem decodificar o buffer inteiro para caracteres) e só a linha devolvida
+ * vira String. Para as respostas de uma letra, lerCaractere() nem cria a String.
+ *
+ * Como o buffer lê adiante, cada origem deve ter um único leitor: o System.in do processo
+ * é lido sempre pelo leitor de entradaPadrao(), compartilhado por todos os terminais do console.
+ * Cada chamada consome uma linha inteira sob uma trava (ReentrantLock, e não synchronized,
+ * para não prender a thread portadora quando threads virtuais esperam pela entrada).
+ *
+ * Uma linha maior que MAX_BYTES_LINHA encerra a leitura com UncheckedIOException, para que
+ * um cliente que nunca envia '\n' não faça o buffer crescer até esgotar o heap.
+ */
+public class LeitorLinhas {
+    // Tamanho padrão do buffer, em bytes
+    public static final int TAMANHO_PADRAO = 8192;
+
+    // Maior linha aceita, em bytes (respostas e cadastros cabem com folga)
+    public static final int MAX_BYTES_LINHA = 64 * 1024;
+
+    // Leitor único do System.in (criado sob demanda)
+    private static LeitorLinhas entradaPadrao;
+
+    private final ReadableByteChannel canal; // Origem quando é um canal
+    private final InputStream fluxo;         // Origem quando é um fluxo
+    private final ReentrantLock trava = new ReentrantLock();
+
+    private byte[] buffer;
+    private ByteBuffer envoltorio; // buffer visto como ByteBuffer, para leituras do canal
+    private int posicao; // Próximo byte não consumido
+    private int limite;  // Fim dos bytes válidos
+    private boolean fim; // Origem esgotada (ou abandonada por uma linha longa demais)
+
+    /**
+     * Cria o leitor sobre um canal.
+     *
+     * @param canal Canal de entrada
+     * @param tamanhoBuffer Tamanho inicial do buffer, em bytes (cresce para linhas maiores)
+     */
+    public LeitorLinhas(ReadableByteChannel canal, int tamanhoBuffer) {
+        this(Objects.requireNonNull(canal, "Canal não pode ser nulo"), null, tamanhoBuffer);
+    }
+
+    /**
+     * Cria o leitor sobre um fluxo.
+     *
+     * @param fluxo Fluxo de entrada
+     * @param tamanhoBuffer Tamanho inicial do buffer, em bytes (cresce para linhas maiores)
+     */
+    public LeitorLinhas(InputStream fluxo, int tamanhoBuffer) {
+        this(null, Objects.requireNonNull(fluxo, "Fluxo não pode ser nulo"), tamanhoBuffer);
+    }
+
+    private LeitorLinhas(ReadableByteChannel canal, InputStream fluxo, int tamanhoBuffer) {
+        if (tamanhoBuffer <= 0) {
+            throw new IllegalArgumentException("O tamanho do buffer deve ser positivo.");
+        }
+        this.canal = canal;
+        this.fluxo = fluxo;
+        this.buffer = new byte[tamanhoBuffer];
+        if (canal != null) this.envoltorio = ByteBuffer.wrap(buffer);
+    }
+
+    /**
+     * Retorna o leitor do System.in, o mesmo para todo o processo.
+     *
+     * @return Leitor da entrada padrão
+     */
+    public static synchronized LeitorLinhas entradaPadrao() {
+        if (entradaPadrao == null) {
+            entradaPadrao = new LeitorLinhas(System.in, TAMANHO_PADRAO);
+        }
+        return entradaPadrao;
+    }
+
+    /**
+     * Lê a próxima linha, sem o terminador ("\n" ou "\r\n").
+     *
+     * @return Linha lida
+     * @throws NoSuchElementException se a entrada terminou
+     * @throws UncheckedIOException se a linha exceder MAX_BYTES_LINHA
+     */
+    public String lerLinha() {
+        trava.lock();
+        try {
+            int fimLinha = procurarFimDaLinha();
+            int inicio = posicao;
+            int tamanho = fimLinha - inicio;
+            if (tamanho > 0 && buffer[fimLinha - 1] == '\r') tamanho--;
+            consumir(fimLinha);
+            return new String(buffer, inicio, tamanho, StandardCharsets.UTF_8);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    /**
+     * Lê a próxima linha e retorna apenas o seu primeiro caractere visível, sem criar a String
+     * da linha. Equivale a lerLinha().trim().charAt(0).
+     *
+     * @return Primeiro caractere da linha, ou Rodada.SEM_RESPOSTA para uma linha em branco
+     * @throws NoSuchElementException se a entrada terminou
+     * @throws UncheckedIOException se a linha exceder MAX_BYTES_LINHA
+     */
+    public char lerCaractere() {
+        trava.lock();
+        try {
+            int fimLinha = procurarFimDaLinha();
+            int i = posicao;
+            while (i < fimLinha && (buffer[i] & 0xFF) <= ' ') i++; // mesmos espaços que trim()
+            char c = i < fimLinha ? decodificar(i, fimLinha) : Rodada.SEM_RESPOSTA;
+            consumir(fimLinha);
+            return c;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    // Decodifica o caractere UTF-8 que começa em i (letras ASCII no caminho comum)
+    private char decodificar(int i, int fimLinha) {
+        int b = buffer[i];
+        if (b >= 0) return (char) b;
+        int tamanho = (b & 0xE0) == 0xC0 ? 2 : (b & 0xF0) == 0xE0 ? 3 : 4;
+        return new String(buffer, i, Math.min(tamanho, fimLinha - i), StandardCharsets.UTF_8).charAt(0);
+    }
+
+    // Avança depois do '\n' da linha (se houver: a última linha pode não ter terminador)
+    private void consumir(int fimLinha) {
+        posicao = fimLinha < limite ? fimLinha + 1 : fimLinha;
+    }
+
+    // Índice do '\n' da próxima linha (ou do fim dos dados, na última linha), lendo mais bytes se preciso
+    private int procurarFimDaLinha() {
+        int procurado = posicao;
+        while (true) {
+            for (int i = procurado; i < limite; i++) {
+                if (buffer[i] == '\n') return i;
+            }
+            int examinados = limite - posicao;
+            if (examinados > MAX_BYTES_LINHA) {
+                // A entrada é abandonada: as próximas leituras veem o fim
+                fim = true;
+                posicao = limite;
+                throw new UncheckedIOException(new IOException("Linha excede " + MAX_BYTES_LINHA + " bytes."));
+            }
+            if (fim || !preencher()) {
+                if (posicao == limite) throw new NoSuchElementException("Fim da entrada.");
+                return limite; // última linha sem terminador
+            }
+            procurado = posicao + examinados; // preencher() pode ter movido a linha para o início
+        }
+    }
+
+    /**
+     * Lê mais bytes para o buffer, movendo a linha parcial para o início ou dobrando o buffer.
+     *
+     * @return false se a origem terminou
+     */
+    private boolean preencher() {
+        if (posicao > 0) {
+            System.arraycopy(buffer, posicao, buffer, 0, limite - posicao);
+            limite -= posicao;
+            posicao = 0;
+        }
+        if (limite == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            if (canal != null) envoltorio = ByteBuffer.wrap(buffer);
+        }
+
+        int lidos;
+        try {
+            if (canal != null) {
+                envoltorio.limit(buffer.length).position(limite);
+                lidos = canal.read(envoltorio);
+            } else {
+                lidos = fluxo.read(buffer, limite, buffer.length - limite);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (lidos < 0) {
+            fim = true;
+            return false;
+        }
+        limite += lidos;
+        return true;
+    }
+}
@@ -1,63 +1,145 @@
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Scanner;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
 
 /**
  * Classe principal que inicializa o jogo no terminal.
- * Responsável por coletar os dados iniciais e iniciar o fluxo do jogo.
+ * Por padrão executa uma sessão no console; com "--servidor [porta]" atende
+ * várias sessões simultâneas via TCP. Com "--banco arquivo" as perguntas de cada jogo são
+ * sorteadas sem repetição de um banco gerado pelo ImportadorPerguntas (por um cache compartilhado
+ * entre as sessões do servidor); com "--perguntas arquivo" são lidas em fluxo de um
+ * arquivo de linhas "enunciado|alternativas...|letra" (ou de um pipe nomeado), validadas em segundo
+ * plano enquanto a rodada anterior é jogada; com "--diario arquivo" o jogo é registrado
+ * em um diário e, se o arquivo já tiver um jogo interrompido, ele é retomado.
+ * Com "--banco arquivo --dificuldade alvo" (alvo de 0 a 1) cada rodada recebe as perguntas do banco
+ * cuja dificuldade, estimada pelas respostas já dadas, está mais próxima do alvo.
+ * Com "--config rodadas=5,perguntas=3,alternativas=4,acerto=1,erro=-1,pulos=1,tentativas=10,prazo=0" as regras
+ * do jogo são alteradas (chaves omitidas mantêm o padrão); "prazo=20,prazoRodada=60,expiracao=pulo" limita
+ * cada resposta e cada rodada (em segundos), e a resposta que não chega a tempo usa um pulo ou vale como erro.
+ * No console a saída é escrita por uma thread própria (TerminalAssincrono); as cores ANSI
+ * são desligadas quando a saída é redirecionada ou com "--sem-cores".
+ * Com "--espectadores porta" o jogo do console é transmitido ao vivo (TransmissaoJogo) a quem
+ * se conectar na porta, por exemplo com "java ClienteEspectadores 1 porta".
+ * Com "--metricas segundos" as métricas são registradas no JMX e despejadas no stderr
+ * no intervalo informado.
+ *
+ * Requer Java 21 (threads virtuais). Compilação e execução a partir da raiz:
+ * <pre>
+ * mvn -B package
+ * java -jar target/quiz-1.0-SNAPSHOT.jar
+ * </pre>
+ * Os micro-benchmarks (JMH) ficam no módulo jmh; veja jmh/pom.xml.
  */
 public class Main {
-    private static final Scanner SC = new Scanner(System.in);
-
-    public static void main(String[] args) {
-        // Exibe o título do jogo
-        System.out.println("╔════════════════════════════╗");
-        System.out.println(" ║    🎉 QUIZ TERMINAL 🎉   ║");
-        System.out.println("╚════════════════════════════╝");
-
-        // Cadastro do Game Master
-        System.out.print("Nome do Game Master: ");
-        String nomeGM = lerNaoVazio();
-        GameMaster gm = new GameMaster(nomeGM);
-
-        // Cadastro da quantidade de jogadores (mínimo 2)
-        int qtdJogadores = 0;
-        while (qtdJogadores < 2) {
-            System.out.print("Quantidade de jogadores (>=2): ");
-            String line = SC.nextLine().trim();
-            try {
-                qtdJogadores = Integer.parseInt(line);
-                if (qtdJogadores < 2) {
-                    System.out.println("É necessário pelo menos 2 jogadores.");
+
+    public static void main(String[] args) throws IOException {
+        Integer porta = null;
+        String banco = null;
+        Double dificuldade = null;
+        String arquivoPerguntas = null;
+        String diario = null;
+        Integer espectadores = null;
+        ConfiguracaoJogo configuracao = ConfiguracaoJogo.PADRAO;
+        boolean cores = System.console() != null; // sem cores em saída redirecionada
+
+        for (int i = 0; i < args.length; i++) {
+            // Modo headless: sem pausas visuais (simulações e execuções em lote)
+            if ("--headless".equals(args[i])) {
+                Apresentacao.setHeadless(true);
+            } else if ("--metricas".equals(args[i]) && i + 1 < args.length) {
+                Metricas.registrarJmx();
+                Metricas.iniciarDespejo(Duration.ofSeconds(Long.parseLong(args[++i])), System.err::println);
+            } else if ("--sem-cores".equals(args[i])) {
+                cores = false;
+            } else if ("--diario".equals(args[i]) && i + 1 < args.length) {
+                diario = args[++i];
+            } else if ("--espectadores".equals(args[i]) && i + 1 < args.length) {
+                espectadores = Integer.parseInt(args[++i]);
+            } else if ("--config".equals(args[i]) && i + 1 < args.length) {
+                // Validada aqui, uma única vez, antes de qualquer sessão começar
+                configuracao = ConfiguracaoJogo.de(args[++i]);
+            } else if ("--banco".equals(args[i]) && i + 1 < args.length) {
+                banco = args[++i];
+            } else if ("--dificuldade".equals(args[i]) && i + 1 < args.length) {
+                dificuldade = Double.parseDouble(args[++i]);
+            } else if ("--perguntas".equals(args[i]) && i + 1 < args.length) {
+                arquivoPerguntas = args[++i];
+            } else if ("--servidor".equals(args[i])) {
+                porta = ServidorQuiz.PORTA_PADRAO;
+                if (i + 1 < args.length && !args[i + 1].startsWith("--")) {
+                    porta = Integer.parseInt(args[++i]);
                 }
-            } catch (NumberFormatException e) {
-                System.out.println("Número inválido.");
             }
         }
 
-        // Cadastro dos jogadores
-        List<Jogador> jogadores = new ArrayList<>();
-        for (int i = 1; i <= qtdJogadores; i++) {
-            System.out.print("Nome do jogador " + i + ": ");
-            String nome = lerNaoVazio();
-            jogadores.add(new Jogador(nome));
+        if (dificuldade != null && banco == null) {
+            throw new IllegalArgumentException("--dificuldade exige um banco de perguntas (--banco).");
+        }
+
+        if (porta != null) {
+            // Servidor multi-sessão: uma thread virtual por conexão
+            try (ServidorQuiz servidor = new ServidorQuiz(porta);
+                 BancoPerguntas perguntas = banco == null ? null : abrirBanco(banco, configuracao)) {
+                servidor.setConfiguracao(configuracao);
+                if (perguntas != null && dificuldade != null) {
+                    servidor.setIndiceDificuldade(IndiceDificuldade.de(perguntas), dificuldade);
+                } else if (perguntas != null) {
+                    servidor.setCachePerguntas(new CachePerguntas(perguntas));
+                }
+                System.out.println("Servidor do quiz ouvindo na porta " + servidor.getPorta());
+                servidor.executar();
+            }
+            return;
         }
 
-        // Criação e início do jogo
-        Jogo jogo = new Jogo(gm, jogadores);
-        jogo.iniciar();
+        // Sessão única no console
+        if (banco != null && arquivoPerguntas != null) {
+            throw new IllegalArgumentException("Use apenas uma fonte de perguntas: --banco ou --perguntas.");
+        }
+        if (arquivoPerguntas != null) {
+            try (FluxoPerguntas perguntas = FluxoPerguntas.abrir(Paths.get(arquivoPerguntas),
+                    new GameMaster("Fluxo"), configuracao)) {
+                executarNoConsole(perguntas, diario, espectadores, configuracao, cores);
+            }
+            return;
+        }
+        if (banco == null) {
+            executarNoConsole(null, diario, espectadores, configuracao, cores);
+            return;
+        }
+        try (BancoPerguntas perguntas = abrirBanco(banco, configuracao)) {
+            FontePerguntas fonte = dificuldade != null
+                    ? IndiceDificuldade.de(perguntas).novaFonte(dificuldade, configuracao.getPerguntasPorRodada())
+                    : new SorteioPerguntas(new CachePerguntas(perguntas));
+            executarNoConsole(fonte, diario, espectadores, configuracao, cores);
+        }
     }
 
-    /**
-     * Lê uma entrada do usuário garantindo que não esteja vazia.
-     *
-     * @return String não vazia
-     */
-    private static String lerNaoVazio() {
-        while (true) {
-            String s = SC.nextLine().trim();
-            if (!s.isBlank()) return s;
-            System.out.print("Entrada vazia. Digite novamente: ");
+    // Abre o banco de perguntas, que deve ter a quantidade de alternativas da configuração
+    private static BancoPerguntas abrirBanco(String arquivo, ConfiguracaoJogo configuracao) throws IOException {
+        BancoPerguntas banco = new BancoPerguntas(Paths.get(arquivo));
+        if (banco.alternativasPorPergunta() != configuracao.getAlternativasPorPergunta()) {
+            banco.close();
+            throw new IllegalArgumentException("O banco " + arquivo + " tem perguntas com "
+                    + banco.alternativasPorPergunta() + " alternativas, mas o jogo usa "
+                    + configuracao.getAlternativasPorPergunta() + ".");
+        }
+        return banco;
+    }
+
+    // Executa uma sessão no console, opcionalmente com fonte de perguntas, diário e espectadores
+    private static void executarNoConsole(FontePerguntas perguntas, String diario, Integer espectadores,
+                                          ConfiguracaoJogo configuracao, boolean cores) {
+        // Saída lenta ou redirecionada não bloqueia o jogo: a escrita fica com a thread do terminal
+        try (Terminal console = new TerminalAssincrono(
+                new TerminalFluxo(LeitorLinhas.entradaPadrao(), System.out, 8192, false, null, cores))) {
+            SessaoQuiz sessao = new SessaoQuiz(console, perguntas);
+            sessao.setConfiguracao(configuracao);
+            if (diario != null) {
+                sessao.setArquivoDiario(Paths.get(diario));
+            }
+            sessao.setPortaEspectadores(espectadores);
+            sessao.run();
         }
     }
 }
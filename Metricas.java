@@ -0,0 +1,319 @@
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Métricas do caminho quente do jogo: perguntas criadas (e duplicadas), respostas corrigidas
+ * (acertos, erros, pulos e sem resposta), entradas inválidas, acertos e faltas do
+ * cache de perguntas, tempo de resposta e duração das rodadas.
+ *
+ * Os contadores são LongAdder (distribuídos entre células, sem disputa entre threads) e
+ * os tempos vão para Histogramas livres de travas; registrar um evento não aloca.
+ * As métricas podem ser lidas por instantaneo(), despejadas periodicamente ou via JMX.
+ */
+public final class Metricas implements MetricasMBean {
+    // Nome JMX das métricas
+    public static final String NOME_JMX = "quiz:type=Metricas";
+
+    private static final LongAdder PERGUNTAS_CRIADAS = new LongAdder();
+    private static final LongAdder ACERTOS = new LongAdder();
+    private static final LongAdder ERROS = new LongAdder();
+    private static final LongAdder PULOS = new LongAdder();
+    private static final LongAdder SEM_RESPOSTA = new LongAdder();
+    private static final LongAdder ENTRADAS_INVALIDAS = new LongAdder();
+    private static final LongAdder PERGUNTAS_DUPLICADAS = new LongAdder();
+    private static final LongAdder CACHE_ACERTOS = new LongAdder();
+    private static final LongAdder CACHE_FALTAS = new LongAdder();
+    private static final Histograma TEMPO_RESPOSTA_NS = new Histograma();
+    private static final Histograma DURACAO_RODADA_NS = new Histograma();
+
+    private static final Metricas INSTANCIA = new Metricas();
+
+    // Medição de tempos de resposta (System.nanoTime custa dezenas de ns em algumas máquinas virtuais)
+    private static volatile boolean temposAtivos = true;
+
+    private Metricas() {
+    }
+
+    // --- Registro (chamado pelo jogo) ---
+
+    // Pergunta criada pelo GameMaster
+    static void perguntaCriada() {
+        PERGUNTAS_CRIADAS.increment();
+    }
+
+    // Pergunta criada apesar de repetir uma já existente (GameMaster com política SINALIZAR)
+    static void perguntaDuplicada() {
+        PERGUNTAS_DUPLICADAS.increment();
+    }
+
+    // Resposta corrigida: acerto ou erro
+    static void respostaCorrigida(boolean correta) {
+        (correta ? ACERTOS : ERROS).increment();
+    }
+
+    // Respostas corrigidas em lote (PontuacaoEmLote)
+    static void respostasCorrigidas(long acertos, long erros, long pulos) {
+        if (acertos > 0) ACERTOS.add(acertos);
+        if (erros > 0) ERROS.add(erros);
+        if (pulos > 0) PULOS.add(pulos);
+    }
+
+    // Pulo aceito
+    static void puloUsado() {
+        PULOS.increment();
+    }
+
+    // Jogador que não respondeu dentro do prazo (modo simultâneo)
+    static void semResposta() {
+        SEM_RESPOSTA.increment();
+    }
+
+    // Entrada rejeitada que obrigou o jogador a responder de novo
+    static void entradaInvalida() {
+        ENTRADAS_INVALIDAS.increment();
+    }
+
+    // Pergunta pedida ao CachePerguntas: encontrada (acerto) ou decodificada do banco (falta)
+    static void cachePerguntas(boolean acerto) {
+        (acerto ? CACHE_ACERTOS : CACHE_FALTAS).increment();
+    }
+
+    /**
+     * Liga ou desliga a medição do tempo de resposta (ligada por padrão).
+     * Simulações com bots, em que as respostas são instantâneas, podem desligá-la.
+     *
+     * @param ativos true para medir
+     */
+    public static void setTemposAtivos(boolean ativos) {
+        temposAtivos = ativos;
+    }
+
+    // Indica se o tempo de resposta deve ser medido
+    static boolean isTemposAtivos() {
+        return temposAtivos;
+    }
+
+    // Tempo entre pedir a resposta e recebê-la
+    static void tempoResposta(long nanos) {
+        TEMPO_RESPOSTA_NS.registrar(nanos);
+    }
+
+    // Duração de uma rodada completa
+    static void duracaoRodada(long nanos) {
+        DURACAO_RODADA_NS.registrar(nanos);
+    }
+
+    // --- Leitura ---
+
+    /**
+     * Fotografia de todas as métricas.
+     *
+     * @return Valores atuais
+     */
+    public static Instantaneo instantaneo() {
+        return new Instantaneo(PERGUNTAS_CRIADAS.sum(), PERGUNTAS_DUPLICADAS.sum(), ACERTOS.sum(), ERROS.sum(), PULOS.sum(),
+                SEM_RESPOSTA.sum(), ENTRADAS_INVALIDAS.sum(), CACHE_ACERTOS.sum(), CACHE_FALTAS.sum(),
+                TEMPO_RESPOSTA_NS.instantaneo(), DURACAO_RODADA_NS.instantaneo());
+    }
+
+    /**
+     * Inicia o despejo periódico das métricas.
+     *
+     * @param intervalo Intervalo entre despejos
+     * @param destino Quem recebe o texto (ex.: System.err::println)
+     * @return Agendador do despejo; shutdown() o interrompe
+     */
+    public static ScheduledExecutorService iniciarDespejo(Duration intervalo, Consumer<String> destino) {
+        if (intervalo.isNegative() || intervalo.isZero()) {
+            throw new IllegalArgumentException("O intervalo deve ser positivo.");
+        }
+        ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metricas-despejo");
+            t.setDaemon(true);
+            return t;
+        });
+        long ms = intervalo.toMillis();
+        agendador.scheduleAtFixedRate(() -> destino.accept(instantaneo().toString()), ms, ms, TimeUnit.MILLISECONDS);
+        return agendador;
+    }
+
+    /**
+     * Registra as métricas no servidor JMX da plataforma (uma vez por processo).
+     */
+    public static synchronized void registrarJmx() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName nome = new ObjectName(NOME_JMX);
+            if (!servidor.isRegistered(nome)) {
+                servidor.registerMBean(INSTANCIA, nome);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Não foi possível registrar as métricas no JMX.", e);
+        }
+    }
+
+    // Zera todas as métricas
+    public static void zerarTodas() {
+        PERGUNTAS_CRIADAS.reset();
+        PERGUNTAS_DUPLICADAS.reset();
+        ACERTOS.reset();
+        ERROS.reset();
+        PULOS.reset();
+        SEM_RESPOSTA.reset();
+        ENTRADAS_INVALIDAS.reset();
+        CACHE_ACERTOS.reset();
+        CACHE_FALTAS.reset();
+        TEMPO_RESPOSTA_NS.zerar();
+        DURACAO_RODADA_NS.zerar();
+    }
+
+    /**
+     * Fotografia das métricas.
+     */
+    public record Instantaneo(long perguntasCriadas, long perguntasDuplicadas, long acertos, long erros, long pulos, long semResposta,
+                              long entradasInvalidas, long cacheAcertos, long cacheFaltas,
+                              Histograma.Instantaneo tempoRespostaNs,
+                              Histograma.Instantaneo duracaoRodadaNs) {
+
+        // Respostas corrigidas: acertos, erros e respostas que não chegaram no prazo
+        public long respostasCorrigidas() {
+            return acertos + erros + semResposta;
+        }
+
+        // Fração de acertos entre as respostas corrigidas
+        public double taxaAcerto() {
+            long total = respostasCorrigidas();
+            return total == 0 ? 0 : (double) acertos / total;
+        }
+
+        // Fração dos pedidos ao cache de perguntas atendida sem decodificar do banco
+        public double taxaAcertoCache() {
+            long total = cacheAcertos + cacheFaltas;
+            return total == 0 ? 0 : (double) cacheAcertos / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT,
+                    "perguntas=%d duplicadas=%d respostas=%d acertos=%d erros=%d pulos=%d semResposta=%d invalidas=%d"
+                            + " taxaAcerto=%.3f | cache acertos=%d faltas=%d taxa=%.3f | resposta(us) p50=%d p99=%d max=%d n=%d"
+                            + " | rodada(ms) p50=%d p99=%d max=%d n=%d",
+                    perguntasCriadas, perguntasDuplicadas, respostasCorrigidas(), acertos, erros, pulos, semResposta, entradasInvalidas,
+                    taxaAcerto(), cacheAcertos, cacheFaltas, taxaAcertoCache(), tempoRespostaNs.p50() / 1_000, tempoRespostaNs.p99() / 1_000,
+                    tempoRespostaNs.maximo() / 1_000, tempoRespostaNs.contagem(),
+                    duracaoRodadaNs.p50() / 1_000_000, duracaoRodadaNs.p99() / 1_000_000,
+                    duracaoRodadaNs.maximo() / 1_000_000, duracaoRodadaNs.contagem());
+        }
+    }
+
+    // --- MBean ---
+
+    @Override
+    public long getPerguntasCriadas() {
+        return PERGUNTAS_CRIADAS.sum();
+    }
+
+    @Override
+    public long getPerguntasDuplicadas() {
+        return PERGUNTAS_DUPLICADAS.sum();
+    }
+
+    @Override
+    public long getRespostasCorrigidas() {
+        return ACERTOS.sum() + ERROS.sum() + SEM_RESPOSTA.sum();
+    }
+
+    @Override
+    public long getAcertos() {
+        return ACERTOS.sum();
+    }
+
+    @Override
+    public long getErros() {
+        return ERROS.sum();
+    }
+
+    @Override
+    public long getPulos() {
+        return PULOS.sum();
+    }
+
+    @Override
+    public long getSemResposta() {
+        return SEM_RESPOSTA.sum();
+    }
+
+    @Override
+    public long getEntradasInvalidas() {
+        return ENTRADAS_INVALIDAS.sum();
+    }
+
+    @Override
+    public double getTaxaAcerto() {
+        return instantaneo().taxaAcerto();
+    }
+
+    @Override
+    public long getCacheAcertos() {
+        return CACHE_ACERTOS.sum();
+    }
+
+    @Override
+    public long getCacheFaltas() {
+        return CACHE_FALTAS.sum();
+    }
+
+    @Override
+    public double getTaxaAcertoCache() {
+        return instantaneo().taxaAcertoCache();
+    }
+
+    @Override
+    public long getTempoRespostaP50Micros() {
+        return TEMPO_RESPOSTA_NS.instantaneo().p50() / 1_000;
+    }
+
+    @Override
+    public long getTempoRespostaP99Micros() {
+        return TEMPO_RESPOSTA_NS.instantaneo().p99() / 1_000;
+    }
+
+    @Override
+    public long getTempoRespostaMaxMicros() {
+        return TEMPO_RESPOSTA_NS.instantaneo().maximo() / 1_000;
+    }
+
+    @Override
+    public long getRodadasConcluidas() {
+        return DURACAO_RODADA_NS.instantaneo().contagem();
+    }
+
+    @Override
+    public long getDuracaoRodadaP50Millis() {
+        return DURACAO_RODADA_NS.instantaneo().p50() / 1_000_000;
+    }
+
+    @Override
+    public long getDuracaoRodadaP99Millis() {
+        return DURACAO_RODADA_NS.instantaneo().p99() / 1_000_000;
+    }
+
+    @Override
+    public String getResumo() {
+        return instantaneo().toString();
+    }
+
+    @Override
+    public void zerar() {
+        zerarTodas();
+    }
+}
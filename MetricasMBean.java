@@ -0,0 +1,47 @@
+/**
+ * Interface JMX das métricas do jogo (registrada como "quiz:type=Metricas").
+ * Tempos de resposta em microssegundos e de rodada em milissegundos.
+ */
+public interface MetricasMBean {
+    long getPerguntasCriadas();
+
+    long getPerguntasDuplicadas();
+
+    long getRespostasCorrigidas();
+
+    long getAcertos();
+
+    long getErros();
+
+    long getPulos();
+
+    long getSemResposta();
+
+    long getEntradasInvalidas();
+
+    double getTaxaAcerto();
+
+    long getCacheAcertos();
+
+    long getCacheFaltas();
+
+    double getTaxaAcertoCache();
+
+    long getTempoRespostaP50Micros();
+
+    long getTempoRespostaP99Micros();
+
+    long getTempoRespostaMaxMicros();
+
+    long getRodadasConcluidas();
+
+    long getDuracaoRodadaP50Millis();
+
+    long getDuracaoRodadaP99Millis();
+
+    // Texto com todas as métricas (o mesmo do despejo periódico)
+    String getResumo();
+
+    // Zera todos os contadores e histogramas
+    void zerar();
+}
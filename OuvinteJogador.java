@@ -0,0 +1,31 @@
+/**
+ * Recebe os eventos de domínio de um Jogador (placar ao vivo, diário do jogo etc.).
+ * Os métodos são chamados com a trava do jogador obtida, logo após a mudança.
+ */
+public interface OuvinteJogador {
+
+    // A pontuação total mudou pelo valor informado
+    default void pontuacaoAlterada(Jogador jogador, int delta) {
+    }
+
+    // Um acerto foi registrado na rodada
+    default void acertoRegistrado(Jogador jogador) {
+    }
+
+    // Os acertos da rodada voltaram a zero
+    default void acertosReiniciados(Jogador jogador) {
+    }
+
+    // O pulo da rodada foi usado
+    default void puloUsado(Jogador jogador) {
+    }
+
+    // Todos os contadores voltaram a zero (jogador reutilizado em um novo jogo)
+    default void contadoresReiniciados(Jogador jogador) {
+    }
+
+    // Uma resposta foi corrigida (o acerto e a pontuação correspondentes são avisados à parte, logo depois);
+    // resposta = Rodada.SEM_RESPOSTA quando o jogador não respondeu no prazo ou nas tentativas
+    default void respostaCorrigida(Jogador jogador, Pergunta pergunta, char resposta, boolean correta) {
+    }
+}
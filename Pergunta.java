@@ -1,25 +1,46 @@
+import java.util.AbstractList;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
- * Representa uma pergunta de múltipla escolha com 4 alternativas ('a' a 'd') e uma resposta correta.
+ * Representa uma pergunta de múltipla escolha com 2 a 15 alternativas ('a' a 'o') e uma resposta correta.
+ * O padrão do jogo são 4 alternativas; a quantidade exigida em cada jogo vem da ConfiguracaoJogo.
+ * O conteúdo é imutável e compacto: o texto de exibição é montado uma única vez no construtor e as
+ * alternativas são apenas intervalos dentro dele, sem um vetor de Strings por pergunta.
+ * Assim uma mesma instância pode ser exibida a muitos jogadores sem novas alocações.
+ * As respostas dadas à pergunta são contadas em um EstatisticasPergunta, criado só na primeira
+ * resposta registrada (perguntas nunca jogadas não pagam pelos contadores); essa é a única
+ * parte mutável da instância.
  */
 public class Pergunta {
-    // Texto da pergunta
-    private final String enunciado;
+    // Separador de linha usado no texto de exibição
+    private static final String SEPARADOR = System.lineSeparator();
 
-    // Vetor com as 4 alternativas. Índices: 0 → 'a', 1 → 'b', 2 → 'c', 3 → 'd'
-    private final String[] alternativas;
+    // Prefixo de cada alternativa no texto de exibição: "  a) "
+    private static final int TAMANHO_PREFIXO = 5;
 
-    // Letra da alternativa correta ('a', 'b', 'c' ou 'd')
+    // Texto de exibição: enunciado seguido das alternativas, uma por linha
+    private final String exibicao;
+
+    // Início de cada alternativa dentro de exibicao. Índices: 0 → 'a', 1 → 'b', 2 → 'c', ...
+    private final int[] inicioAlternativa;
+
+    // Letra da alternativa correta
     private final char respostaCorreta;
 
+    // Estatísticas das respostas (criadas sob demanda, uma única vez, sem trava)
+    private volatile EstatisticasPergunta estatisticas;
+    private static final AtomicReferenceFieldUpdater<Pergunta, EstatisticasPergunta> ESTATISTICAS =
+            AtomicReferenceFieldUpdater.newUpdater(Pergunta.class, EstatisticasPergunta.class, "estatisticas");
+
     /**
      * Construtor da classe Pergunta.
      * Valida os dados de entrada e inicializa os atributos.
      *
      * @param enunciado Texto da pergunta
-     * @param alternativas Vetor com 4 alternativas
-     * @param respostaCorreta Letra da alternativa correta ('a' a 'd')
+     * @param alternativas Vetor com 2 a 15 alternativas
+     * @param respostaCorreta Letra da alternativa correta ('a' até a última alternativa)
      */
     public Pergunta(String enunciado, String[] alternativas, char respostaCorreta) {
         // Validação do enunciado
@@ -28,8 +49,10 @@ public class Pergunta {
         }
 
         // Validação do vetor de alternativas
-        if (alternativas == null || alternativas.length != 4) {
-            throw new IllegalArgumentException("Devem existir exatamente 4 alternativas.");
+        if (alternativas == null || alternativas.length < 2
+                || alternativas.length > ConfiguracaoJogo.MAX_ALTERNATIVAS) {
+            throw new IllegalArgumentException("Devem existir entre 2 e "
+                    + ConfiguracaoJogo.MAX_ALTERNATIVAS + " alternativas.");
         }
 
         // Validação de cada alternativa individualmente
@@ -39,26 +62,89 @@ public class Pergunta {
             }
         }
 
-        // Validação da resposta correta (deve ser 'a', 'b', 'c' ou 'd')
+        // Validação da resposta correta (deve ser a letra de uma das alternativas)
         char letra = Character.toLowerCase(respostaCorreta);
-        if (letra < 'a' || letra > 'd') {
-            throw new IllegalArgumentException("A resposta correta deve ser 'a', 'b', 'c' ou 'd'.");
+        char ultima = (char) ('a' + alternativas.length - 1);
+        if (letra < 'a' || letra > ultima) {
+            throw new IllegalArgumentException("A resposta correta deve ser uma letra entre 'a' e '" + ultima + "'.");
+        }
+
+        // Monta o texto de exibição uma única vez, guardando onde cada alternativa começa
+        int tamanho = enunciado.length() + SEPARADOR.length();
+        for (String alt : alternativas) {
+            tamanho += TAMANHO_PREFIXO + alt.length() + SEPARADOR.length();
+        }
+        StringBuilder sb = new StringBuilder(tamanho);
+        sb.append(enunciado).append(SEPARADOR);
+
+        int[] inicios = new int[alternativas.length];
+        char l = 'a';
+        for (int i = 0; i < alternativas.length; i++) {
+            sb.append("  ").append(l++).append(") ");
+            inicios[i] = sb.length();
+            sb.append(alternativas[i]).append(SEPARADOR);
         }
 
         // Inicialização dos atributos
-        this.enunciado = enunciado;
-        this.alternativas = alternativas.clone(); // Clona para evitar alterações externas
+        this.exibicao = sb.toString();
+        this.inicioAlternativa = inicios;
         this.respostaCorreta = letra;
     }
 
     // Retorna o enunciado da pergunta
     public String getEnunciado() {
-        return enunciado;
+        return exibicao.substring(0, fimDoTexto(-1));
     }
 
     // Retorna uma cópia das alternativas
     public String[] getAlternativas() {
-        return alternativas.clone();
+        String[] copia = new String[inicioAlternativa.length];
+        for (int i = 0; i < copia.length; i++) {
+            copia[i] = getAlternativa(i);
+        }
+        return copia;
+    }
+
+    /**
+     * Retorna o texto de uma alternativa.
+     *
+     * @param indice Índice da alternativa (0 → 'a', 1 → 'b', ...)
+     * @return Texto da alternativa
+     */
+    public String getAlternativa(int indice) {
+        return exibicao.substring(inicioAlternativa[indice], fimDoTexto(indice));
+    }
+
+    // Retorna a quantidade de alternativas
+    public int getQuantidadeAlternativas() {
+        return inicioAlternativa.length;
+    }
+
+    /**
+     * Retorna uma visão somente leitura das alternativas, sem copiar vetores.
+     *
+     * @return Lista imutável das alternativas
+     */
+    public List<String> getListaAlternativas() {
+        return new AbstractList<>() {
+            @Override
+            public String get(int indice) {
+                return getAlternativa(indice);
+            }
+
+            @Override
+            public int size() {
+                return inicioAlternativa.length;
+            }
+        };
+    }
+
+    // Fim do texto do enunciado (indice = -1) ou da alternativa informada dentro de exibicao
+    private int fimDoTexto(int indice) {
+        int proximaLinha = indice + 1 < inicioAlternativa.length
+                ? inicioAlternativa[indice + 1] - TAMANHO_PREFIXO
+                : exibicao.length();
+        return proximaLinha - SEPARADOR.length();
     }
 
     // Retorna a letra da resposta correta
@@ -66,6 +152,36 @@ public class Pergunta {
         return respostaCorreta;
     }
 
+    /**
+     * Retorna as estatísticas das respostas a esta pergunta, criando-as na primeira chamada.
+     *
+     * @return Estatísticas compartilhadas por todos os jogos que usam esta instância
+     */
+    public EstatisticasPergunta getEstatisticas() {
+        EstatisticasPergunta e = estatisticas;
+        if (e == null) {
+            ESTATISTICAS.compareAndSet(this, null, new EstatisticasPergunta(this));
+            e = estatisticas;
+        }
+        return e;
+    }
+
+    /**
+     * Usa estatísticas já existentes desta pergunta (de outra instância com o mesmo conteúdo,
+     * como uma decodificada antes do banco). Só tem efeito antes de as estatísticas serem criadas.
+     *
+     * @param anteriores Estatísticas a continuar
+     */
+    void vincularEstatisticas(EstatisticasPergunta anteriores) {
+        ESTATISTICAS.compareAndSet(this, null, anteriores);
+    }
+
+    // Dificuldade estimada pelas respostas já registradas (EstatisticasPergunta.DIFICULDADE_INICIAL se nenhuma)
+    public double getDificuldade() {
+        EstatisticasPergunta e = estatisticas;
+        return e == null ? EstatisticasPergunta.DIFICULDADE_INICIAL : e.getDificuldade();
+    }
+
     /**
      * Verifica se a resposta fornecida está correta.
      *
@@ -79,7 +195,7 @@ public class Pergunta {
     /**
      * Verifica se a resposta fornecida é válida.
      * Aceita:
-     * - 'a', 'b', 'c', 'd' (alternativas)
+     * - 'a', 'b', 'c', ... até a última alternativa
      * - 'p' como comando de pulo
      *
      * @param resposta Letra da resposta fornecida
@@ -87,37 +203,30 @@ public class Pergunta {
      */
     public boolean isRespostaValida(char resposta) {
         char r = Character.toLowerCase(resposta);
-        return (r >= 'a' && r <= 'd') || r == 'p';
+        return (r >= 'a' && r < 'a' + inicioAlternativa.length) || r == 'p';
     }
 
     /**
-     * Converte uma letra ('a' a 'd') para o índice correspondente (0 a 3).
+     * Converte uma letra ('a' a 'o') para o índice correspondente (0 a 14).
+     * Não verifica se a pergunta tem essa alternativa; use isRespostaValida para isso.
      *
      * @param letra Letra da alternativa
      * @return Índice correspondente ou -1 se inválida
      */
     public static int indiceDaLetra(char letra) {
         char r = Character.toLowerCase(letra);
-        if (r < 'a' || r > 'd') return -1;
+        if (r < 'a' || r >= 'a' + ConfiguracaoJogo.MAX_ALTERNATIVAS) return -1;
         return r - 'a';
     }
 
     /**
      * Retorna uma representação amigável da pergunta e suas alternativas.
+     * O texto é montado uma única vez no construtor.
      *
      * @return String formatada para exibição no terminal
      */
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(enunciado).append(System.lineSeparator());
-
-        char letra = 'a';
-        for (String alt : alternativas) {
-            sb.append("  ").append(letra).append(") ").append(alt).append(System.lineSeparator());
-            letra++;
-        }
-
-        return sb.toString();
+        return exibicao;
     }
 }
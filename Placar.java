@@ -0,0 +1,304 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Placar ao vivo, atualizado incrementalmente a cada mudança de pontuação de um Jogador.
+ * Mantém os jogadores em uma árvore de estatística de ordem (treap com tamanho das subárvores),
+ * o que permite atualizar, consultar a posição de um jogador e listar os k primeiros
+ * em O(log n) (+ k), sem reordenar a lista inteira a cada resposta.
+ *
+ * Empates no critério mantêm a ordem em que os jogadores entraram no placar.
+ */
+public class Placar implements OuvinteJogador {
+
+    /**
+     * Critério de ordenação do placar.
+     */
+    public enum Criterio {
+        // Maior pontuação total e, no empate, menos pulos (mesma regra do vencedor final)
+        PONTUACAO_TOTAL,
+        // Mais acertos na rodada atual (mesma regra do vencedor da rodada)
+        ACERTOS_NA_RODADA
+    }
+
+    // Nó da treap: chave (primaria desc, secundaria asc, sequencia asc)
+    private static final class No {
+        final Jogador jogador;
+        final long sequencia;
+        final int prioridade;
+        int primaria;
+        int secundaria;
+        int tamanho = 1;
+        No esq;
+        No dir;
+
+        No(Jogador jogador, long sequencia, int prioridade) {
+            this.jogador = jogador;
+            this.sequencia = sequencia;
+            this.prioridade = prioridade;
+        }
+    }
+
+    private final Criterio criterio;
+    private final Map<Jogador, No> nos = new IdentityHashMap<>();
+    private final SplittableRandom prioridades = new SplittableRandom(0x5EED);
+    private No raiz;
+    private long proximaSequencia;
+
+    /**
+     * Construtor do placar.
+     *
+     * @param criterio Critério de ordenação
+     */
+    public Placar(Criterio criterio) {
+        this.criterio = Objects.requireNonNull(criterio, "Critério não pode ser nulo");
+    }
+
+    /**
+     * Cria um placar já contendo os jogadores informados.
+     *
+     * @param criterio Critério de ordenação
+     * @param jogadores Jogadores a acompanhar
+     * @return Placar ligado aos jogadores
+     */
+    public static Placar de(Criterio criterio, List<Jogador> jogadores) {
+        Placar placar = new Placar(criterio);
+        for (Jogador j : jogadores) {
+            placar.adicionar(j);
+        }
+        return placar;
+    }
+
+    /**
+     * Passa a acompanhar um jogador; a partir daqui cada alteração dele atualiza o placar.
+     *
+     * @param jogador Jogador a adicionar
+     */
+    public void adicionar(Jogador jogador) {
+        // Mesma ordem de travas das atualizações (Jogador e depois Placar), evitando deadlock
+        synchronized (jogador) {
+            synchronized (this) {
+                if (nos.containsKey(jogador)) return;
+                No no = new No(jogador, proximaSequencia++, prioridades.nextInt());
+                preencherChave(no);
+                nos.put(jogador, no);
+                raiz = inserir(raiz, no);
+            }
+            jogador.adicionarOuvinte(this);
+        }
+    }
+
+    /**
+     * Deixa de acompanhar um jogador.
+     *
+     * @param jogador Jogador a remover
+     */
+    public void remover(Jogador jogador) {
+        synchronized (jogador) {
+            jogador.removerOuvinte(this);
+            synchronized (this) {
+                No no = nos.remove(jogador);
+                if (no != null) raiz = remover(raiz, no);
+            }
+        }
+    }
+
+    @Override
+    public void pontuacaoAlterada(Jogador jogador, int delta) {
+        atualizar(jogador);
+    }
+
+    @Override
+    public void acertoRegistrado(Jogador jogador) {
+        atualizar(jogador);
+    }
+
+    @Override
+    public void acertosReiniciados(Jogador jogador) {
+        atualizar(jogador);
+    }
+
+    @Override
+    public void puloUsado(Jogador jogador) {
+        atualizar(jogador);
+    }
+
+    @Override
+    public void contadoresReiniciados(Jogador jogador) {
+        atualizar(jogador);
+    }
+
+    /**
+     * Reposiciona o jogador após uma mudança nos contadores.
+     * Chamado pelo próprio Jogador, com a trava dele já obtida.
+     */
+    synchronized void atualizar(Jogador jogador) {
+        No no = nos.get(jogador);
+        if (no == null) return;
+
+        int primaria = no.primaria;
+        int secundaria = no.secundaria;
+        preencherChave(no);
+        if (no.primaria == primaria && no.secundaria == secundaria) return; // posição inalterada
+
+        // Remove com a chave antiga e reinsere com a nova
+        int novaPrimaria = no.primaria;
+        int novaSecundaria = no.secundaria;
+        no.primaria = primaria;
+        no.secundaria = secundaria;
+        raiz = remover(raiz, no);
+        no.primaria = novaPrimaria;
+        no.secundaria = novaSecundaria;
+        no.esq = no.dir = null;
+        no.tamanho = 1;
+        raiz = inserir(raiz, no);
+    }
+
+    /**
+     * Retorna a posição do jogador no placar (1 = primeiro lugar).
+     *
+     * @param jogador Jogador consultado
+     * @return Posição, ou -1 se o jogador não estiver no placar
+     */
+    public synchronized int posicaoDe(Jogador jogador) {
+        No alvo = nos.get(jogador);
+        if (alvo == null) return -1;
+
+        int antes = 0;
+        No atual = raiz;
+        while (atual != alvo) {
+            if (comparar(alvo, atual) < 0) {
+                atual = atual.esq;
+            } else {
+                antes += tamanho(atual.esq) + 1;
+                atual = atual.dir;
+            }
+        }
+        return antes + tamanho(alvo.esq) + 1;
+    }
+
+    /**
+     * Retorna os k primeiros colocados, em ordem.
+     *
+     * @param k Quantidade desejada
+     * @return Até k jogadores
+     */
+    public synchronized List<Jogador> top(int k) {
+        List<Jogador> resultado = new ArrayList<>(Math.max(0, Math.min(k, nos.size())));
+        ArrayDeque<No> pilha = new ArrayDeque<>();
+        No atual = raiz;
+        while (resultado.size() < k && (atual != null || !pilha.isEmpty())) {
+            while (atual != null) {
+                pilha.push(atual);
+                atual = atual.esq;
+            }
+            No no = pilha.pop();
+            resultado.add(no.jogador);
+            atual = no.dir;
+        }
+        return resultado;
+    }
+
+    // Quantidade de jogadores no placar
+    public synchronized int tamanho() {
+        return nos.size();
+    }
+
+    // Retorna o critério de ordenação
+    public Criterio getCriterio() {
+        return criterio;
+    }
+
+    // Lê a chave atual do jogador conforme o critério
+    private void preencherChave(No no) {
+        if (criterio == Criterio.PONTUACAO_TOTAL) {
+            no.primaria = no.jogador.getPontuacaoTotal();
+            no.secundaria = no.jogador.getPulosTotal();
+        } else {
+            no.primaria = no.jogador.getAcertosNaRodada();
+            no.secundaria = 0;
+        }
+    }
+
+    // Ordem do placar: primária decrescente, secundária crescente, entrada crescente
+    private static int comparar(No a, No b) {
+        if (a.primaria != b.primaria) return a.primaria > b.primaria ? -1 : 1;
+        if (a.secundaria != b.secundaria) return a.secundaria < b.secundaria ? -1 : 1;
+        return Long.compare(a.sequencia, b.sequencia);
+    }
+
+    private static int tamanho(No no) {
+        return no == null ? 0 : no.tamanho;
+    }
+
+    private static void recalcular(No no) {
+        no.tamanho = 1 + tamanho(no.esq) + tamanho(no.dir);
+    }
+
+    private static No inserir(No raiz, No no) {
+        if (raiz == null) return no;
+        if (no.prioridade > raiz.prioridade) {
+            // O novo nó vira raiz desta subárvore
+            No[] partes = dividir(raiz, no);
+            no.esq = partes[0];
+            no.dir = partes[1];
+            recalcular(no);
+            return no;
+        }
+        if (comparar(no, raiz) < 0) {
+            raiz.esq = inserir(raiz.esq, no);
+        } else {
+            raiz.dir = inserir(raiz.dir, no);
+        }
+        recalcular(raiz);
+        return raiz;
+    }
+
+    private static No remover(No raiz, No no) {
+        if (raiz == null) return null;
+        if (raiz == no) return unir(raiz.esq, raiz.dir);
+        if (comparar(no, raiz) < 0) {
+            raiz.esq = remover(raiz.esq, no);
+        } else {
+            raiz.dir = remover(raiz.dir, no);
+        }
+        recalcular(raiz);
+        return raiz;
+    }
+
+    // Divide a subárvore em (menores que a chave, maiores que a chave)
+    private static No[] dividir(No raiz, No chave) {
+        if (raiz == null) return new No[2];
+        if (comparar(raiz, chave) < 0) {
+            No[] partes = dividir(raiz.dir, chave);
+            raiz.dir = partes[0];
+            recalcular(raiz);
+            partes[0] = raiz;
+            return partes;
+        }
+        No[] partes = dividir(raiz.esq, chave);
+        raiz.esq = partes[1];
+        recalcular(raiz);
+        partes[1] = raiz;
+        return partes;
+    }
+
+    // Une duas subárvores em que todas as chaves de a precedem as de b
+    private static No unir(No a, No b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        if (a.prioridade > b.prioridade) {
+            a.dir = unir(a.dir, b);
+            recalcular(a);
+            return a;
+        }
+        b.esq = unir(a, b.esq);
+        recalcular(b);
+        return b;
+    }
+}
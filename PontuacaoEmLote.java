@@ -0,0 +1,215 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Pontuação em lote para torneios simulados com milhões de jogadores (bots).
+ * Em vez de um objeto Jogador por participante, os contadores ficam em vetores paralelos
+ * (struct-of-arrays) e as respostas de uma pergunta para todos os jogadores são corrigidas
+ * em um único laço.
+ *
+ * As regras são as mesmas do Jogador: acerto soma os pontos de acerto da configuração e conta
+ * como acerto na rodada; erro soma os pontos de erro; 'p' usa um pulo se ainda houver pulos
+ * na rodada. Como as respostas do lote são definitivas, um 'p' sem pulo disponível, uma
+ * resposta ausente ('\0') ou uma letra inválida contam como erro, como na rodada simultânea.
+ * As escolhas são somadas também nas EstatisticasPergunta da pergunta, uma vez por fatia.
+ *
+ * Não é sincronizada: cada pergunta deve ser corrigida por uma única chamada de cada vez.
+ */
+public class PontuacaoEmLote {
+    // Tamanho mínimo de uma fatia na correção paralela
+    static final int LIMIAR_PARALELO = 1 << 14;
+
+    private final ConfiguracaoJogo configuracao;
+
+    // Contadores por jogador, no mesmo índice em todos os vetores
+    private final int[] pontuacaoTotal;
+    private final int[] acertosNaRodada;
+    private final int[] pulosNaRodada;
+    private final int[] pulosTotal;
+
+    /**
+     * Cria o lote com as regras padrão (+1/-1, um pulo por rodada).
+     *
+     * @param jogadores Quantidade de jogadores
+     */
+    public PontuacaoEmLote(int jogadores) {
+        this(jogadores, ConfiguracaoJogo.PADRAO);
+    }
+
+    /**
+     * Cria o lote com as regras de uma configuração.
+     *
+     * @param jogadores Quantidade de jogadores
+     * @param configuracao Configuração do jogo
+     */
+    public PontuacaoEmLote(int jogadores, ConfiguracaoJogo configuracao) {
+        if (jogadores < 1) {
+            throw new IllegalArgumentException("Deve existir pelo menos 1 jogador.");
+        }
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
+        this.pontuacaoTotal = new int[jogadores];
+        this.acertosNaRodada = new int[jogadores];
+        this.pulosNaRodada = new int[jogadores];
+        this.pulosTotal = new int[jogadores];
+    }
+
+    // Reinicia os acertos e pulos da rodada de todos os jogadores
+    public void iniciarRodada() {
+        Arrays.fill(acertosNaRodada, 0);
+        Arrays.fill(pulosNaRodada, 0);
+    }
+
+    /**
+     * Corrige as respostas de todos os jogadores para uma pergunta.
+     *
+     * @param pergunta A pergunta respondida
+     * @param respostas Letra de cada jogador ('p' = pulo), no índice do jogador
+     */
+    public void corrigir(Pergunta pergunta, byte[] respostas) {
+        verificarTamanho(respostas);
+        corrigirFaixa(pergunta, respostas, 0, respostas.length);
+    }
+
+    /**
+     * Corrige as respostas dividindo os jogadores em fatias processadas em paralelo (fork/join).
+     * O resultado é idêntico ao de corrigir(): cada jogador só é tocado pela sua fatia.
+     *
+     * @param pergunta A pergunta respondida
+     * @param respostas Letra de cada jogador ('p' = pulo), no índice do jogador
+     * @param pool Pool onde as fatias são executadas
+     */
+    public void corrigirParalelo(Pergunta pergunta, byte[] respostas, ForkJoinPool pool) {
+        verificarTamanho(respostas);
+        pool.invoke(new Fatia(pergunta, respostas, 0, respostas.length));
+    }
+
+    // Correção paralela no pool comum
+    public void corrigirParalelo(Pergunta pergunta, byte[] respostas) {
+        corrigirParalelo(pergunta, respostas, ForkJoinPool.commonPool());
+    }
+
+    private void verificarTamanho(byte[] respostas) {
+        if (respostas.length != pontuacaoTotal.length) {
+            throw new IllegalArgumentException("Esperadas " + pontuacaoTotal.length
+                    + " respostas, recebidas " + respostas.length + ".");
+        }
+    }
+
+    // Laço de correção sobre os jogadores [inicio, fim); as escolhas são somadas na estatística da pergunta no fim
+    private void corrigirFaixa(Pergunta pergunta, byte[] respostas, int inicio, int fim) {
+        char correta = pergunta.getRespostaCorreta();
+        int[] erradas = new int[128]; // Respostas erradas por caractere (índice: caractere & 0x7F)
+        int acerto = configuracao.getPontosAcerto();
+        int erro = configuracao.getPontosErro();
+        int limitePulos = configuracao.getPulosPorRodada();
+        int[] pontuacao = pontuacaoTotal;
+        int[] acertos = acertosNaRodada;
+        int[] pulos = pulosNaRodada;
+        int[] pulosJogo = pulosTotal;
+        int acertosFaixa = 0;
+        int pulosFaixa = 0;
+
+        for (int i = inicio; i < fim; i++) {
+            int r = respostas[i] | 0x20; // minúscula, como no Jogador
+            if (r == 'p' && pulos[i] < limitePulos) {
+                pulos[i]++;
+                pulosJogo[i]++;
+                pulosFaixa++;
+            } else if (r == correta) {
+                acertos[i]++;
+                pontuacao[i] += acerto;
+                acertosFaixa++;
+            } else {
+                pontuacao[i] += erro;
+                erradas[r & 0x7F]++;
+            }
+        }
+        int errosFaixa = fim - inicio - acertosFaixa - pulosFaixa;
+        Metricas.respostasCorrigidas(acertosFaixa, errosFaixa, pulosFaixa);
+
+        // Alternativas escolhidas; o resto dos erros ('p' sem pulo, ausente, inválida) conta como sem resposta
+        int[] escolhas = new int[pergunta.getQuantidadeAlternativas()];
+        int comAlternativa = 0;
+        for (int a = 0; a < escolhas.length; a++) {
+            escolhas[a] = erradas['a' + a];
+            comAlternativa += escolhas[a];
+        }
+        escolhas[correta - 'a'] = acertosFaixa;
+        pergunta.getEstatisticas().registrarLote(escolhas, pulosFaixa, errosFaixa - comAlternativa);
+    }
+
+    // Tarefa fork/join: divide ao meio até o limiar e corrige cada metade
+    private final class Fatia extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Pergunta pergunta;
+        private final byte[] respostas;
+        private final int inicio;
+        private final int fim;
+
+        Fatia(Pergunta pergunta, byte[] respostas, int inicio, int fim) {
+            this.pergunta = pergunta;
+            this.respostas = respostas;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMIAR_PARALELO) {
+                corrigirFaixa(pergunta, respostas, inicio, fim);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Fatia(pergunta, respostas, inicio, meio), new Fatia(pergunta, respostas, meio, fim));
+        }
+    }
+
+    /**
+     * Copia os contadores do lote para jogadores, por exemplo para exibir o placar
+     * ou decidir o vencedor com as classes do jogo.
+     *
+     * @param jogadores Jogadores na mesma ordem dos índices do lote
+     */
+    public void copiarPara(List<Jogador> jogadores) {
+        if (jogadores.size() != pontuacaoTotal.length) {
+            throw new IllegalArgumentException("A quantidade de jogadores não confere com o lote.");
+        }
+        for (int i = 0; i < pontuacaoTotal.length; i++) {
+            jogadores.get(i).restaurarContadores(acertosNaRodada[i], pulosNaRodada[i], pulosTotal[i], pontuacaoTotal[i]);
+        }
+    }
+
+    // Quantidade de jogadores do lote
+    public int quantidade() {
+        return pontuacaoTotal.length;
+    }
+
+    // Pontuação total do jogador
+    public int getPontuacaoTotal(int jogador) {
+        return pontuacaoTotal[jogador];
+    }
+
+    // Acertos do jogador na rodada atual
+    public int getAcertosNaRodada(int jogador) {
+        return acertosNaRodada[jogador];
+    }
+
+    // Pulos do jogador na rodada atual
+    public int getPulosNaRodada(int jogador) {
+        return pulosNaRodada[jogador];
+    }
+
+    // Total de pulos do jogador no jogo
+    public int getPulosTotal(int jogador) {
+        return pulosTotal[jogador];
+    }
+
+    // Retorna a configuração cujas regras o lote aplica
+    public ConfiguracaoJogo getConfiguracao() {
+        return configuracao;
+    }
+}
@@ -1,3 +1,32 @@
+/**
+ * Fonte das respostas de um jogador.
+ * Separa a obtenção da resposta (console, roteiro, arquivo, bot) da pontuação,
+ * que fica no Jogador.
+ */
 public interface Respondente {
-    void responderPergunta(Pergunta pergunta);
-}
\ No newline at end of file
+
+    /**
+     * Escolhe a resposta para uma pergunta.
+     *
+     * @param pergunta A pergunta a ser respondida
+     * @param podePular true se o pulo ainda está disponível nesta rodada
+     * @return Letra escolhida ou 'p' para pular; uma entrada inválida (ou Rodada.SEM_RESPOSTA)
+     *         consome uma tentativa e o Jogador pede outra
+     * @throws java.util.NoSuchElementException se a fonte não tiver mais respostas
+     */
+    char escolherResposta(Pergunta pergunta, boolean podePular);
+
+    /**
+     * Escolhe a resposta dentro de um prazo. Esgotado o prazo, retorna Rodada.SEM_RESPOSTA
+     * (o Jogador aplica a regra de expiração). O padrão ignora o prazo: roteiros, arquivos
+     * e bots respondem na hora.
+     *
+     * @param pergunta A pergunta a ser respondida
+     * @param podePular true se o pulo ainda está disponível nesta rodada
+     * @param prazoNanos Tempo restante, em nanossegundos
+     * @return Letra escolhida, 'p' para pular ou Rodada.SEM_RESPOSTA
+     */
+    default char escolherResposta(Pergunta pergunta, boolean podePular, long prazoNanos) {
+        return escolherResposta(pergunta, podePular);
+    }
+}
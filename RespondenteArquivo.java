@@ -0,0 +1,54 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * Respondente que reproduz uma transcrição gravada em arquivo.
+ * Formato: uma resposta por linha (primeiro caractere não branco);
+ * linhas vazias e linhas iniciadas por '#' são ignoradas.
+ * O arquivo é lido em fluxo, sem carregá-lo inteiro na memória.
+ */
+public class RespondenteArquivo implements Respondente, AutoCloseable {
+    private final BufferedReader leitor;
+    private int linhaAtual;
+
+    /**
+     * Abre a transcrição para leitura.
+     *
+     * @param arquivo Caminho do arquivo de transcrição
+     * @throws IOException se o arquivo não puder ser aberto
+     */
+    public RespondenteArquivo(Path arquivo) throws IOException {
+        this.leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public char escolherResposta(Pergunta pergunta, boolean podePular) {
+        try {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                linhaAtual++;
+                String s = linha.strip();
+                if (s.isEmpty() || s.charAt(0) == '#') continue;
+
+                char resposta = Character.toLowerCase(s.charAt(0));
+                if (!pergunta.isRespostaValida(resposta)) {
+                    throw new IllegalStateException("Resposta inválida na linha " + linhaAtual + ": " + s);
+                }
+                return resposta;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new NoSuchElementException("Transcrição esgotada na linha " + linhaAtual + ".");
+    }
+
+    @Override
+    public void close() throws IOException {
+        leitor.close();
+    }
+}
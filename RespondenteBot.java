@@ -0,0 +1,54 @@
+import java.util.SplittableRandom;
+
+/**
+ * Respondente probabilístico (bot).
+ * Acerta com probabilidade {@code probAcerto}; quando o pulo está disponível,
+ * pula com probabilidade {@code probPulo}; caso contrário escolhe uma alternativa errada.
+ */
+public class RespondenteBot implements Respondente {
+    private final double probAcerto;
+    private final double probPulo;
+    private SplittableRandom aleatorio;
+
+    /**
+     * Construtor do bot.
+     *
+     * @param probAcerto Probabilidade de acertar (0 a 1)
+     * @param probPulo Probabilidade de pular quando possível (0 a 1)
+     * @param semente Semente do gerador, para execuções reproduzíveis
+     */
+    public RespondenteBot(double probAcerto, double probPulo, long semente) {
+        if (probAcerto < 0 || probAcerto > 1 || probPulo < 0 || probPulo > 1) {
+            throw new IllegalArgumentException("Probabilidades devem estar entre 0 e 1.");
+        }
+        this.probAcerto = probAcerto;
+        this.probPulo = probPulo;
+        this.aleatorio = new SplittableRandom(semente);
+    }
+
+    /**
+     * Recomeça a sequência de respostas com outra semente (bot reutilizado em um novo jogo).
+     *
+     * @param semente Semente do gerador
+     */
+    public void reiniciar(long semente) {
+        this.aleatorio = new SplittableRandom(semente);
+    }
+
+    @Override
+    public char escolherResposta(Pergunta pergunta, boolean podePular) {
+        if (podePular && probPulo > 0 && aleatorio.nextDouble() < probPulo) {
+            return 'p';
+        }
+
+        char correta = pergunta.getRespostaCorreta();
+        if (aleatorio.nextDouble() < probAcerto) {
+            return correta;
+        }
+
+        // Sorteia uma das alternativas erradas
+        int errada = aleatorio.nextInt(pergunta.getQuantidadeAlternativas() - 1);
+        if (errada >= correta - 'a') errada++;
+        return (char) ('a' + errada);
+    }
+}
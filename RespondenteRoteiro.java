@@ -0,0 +1,48 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Respondente roteirizado: devolve as respostas de um vetor, em ordem.
+ * Útil para testes de regressão e geração de carga sem terminal.
+ */
+public class RespondenteRoteiro implements Respondente {
+    private final char[] respostas;
+    private final boolean ciclico; // Recomeça do início ao esgotar o roteiro
+    private int posicao;
+
+    /**
+     * Construtor de um roteiro que se esgota ao final.
+     *
+     * @param respostas Respostas em ordem ('a' a 'd' ou 'p')
+     */
+    public RespondenteRoteiro(char... respostas) {
+        this(false, respostas);
+    }
+
+    /**
+     * Construtor do roteiro.
+     *
+     * @param ciclico true para repetir o roteiro indefinidamente
+     * @param respostas Respostas em ordem ('a' a 'd' ou 'p')
+     */
+    public RespondenteRoteiro(boolean ciclico, char... respostas) {
+        if (respostas == null || respostas.length == 0) {
+            throw new IllegalArgumentException("O roteiro precisa de pelo menos uma resposta.");
+        }
+        this.respostas = respostas.clone();
+        this.ciclico = ciclico;
+    }
+
+    @Override
+    public char escolherResposta(Pergunta pergunta, boolean podePular) {
+        if (posicao == respostas.length) {
+            if (!ciclico) throw new NoSuchElementException("Roteiro de respostas esgotado.");
+            posicao = 0;
+        }
+        return respostas[posicao++];
+    }
+
+    // Quantidade de respostas já consumidas no ciclo atual
+    public int getPosicao() {
+        return posicao;
+    }
+}
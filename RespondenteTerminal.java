@@ -0,0 +1,47 @@
+import java.util.Objects;
+
+/**
+ * Respondente interativo: lê a resposta digitada em um terminal.
+ */
+public class RespondenteTerminal implements Respondente {
+    // Prompts pré-montados por quantidade de alternativas ("Digite sua resposta (a/b/c/d) ou 'p' para pular: ")
+    private static final String[] PROMPTS = new String[ConfiguracaoJogo.MAX_ALTERNATIVAS + 1];
+
+    static {
+        StringBuilder letras = new StringBuilder("a");
+        for (int n = 2; n < PROMPTS.length; n++) {
+            letras.append('/').append((char) ('a' + n - 1));
+            PROMPTS[n] = "Digite sua resposta (" + letras + ") ou 'p' para pular: ";
+        }
+    }
+
+    private final Terminal terminal;
+
+    /**
+     * Construtor do respondente.
+     *
+     * @param terminal Terminal de onde as respostas são lidas
+     */
+    public RespondenteTerminal(Terminal terminal) {
+        this.terminal = Objects.requireNonNull(terminal, "Terminal não pode ser nulo");
+    }
+
+    /**
+     * Exibe o prompt e lê uma única entrada: o primeiro caractere da linha, ou
+     * Rodada.SEM_RESPOSTA para uma linha vazia.
+     * A validação da letra e a regra do pulo ficam com o Jogador, que desconta
+     * cada entrada do orçamento de tentativas e pede outra se necessário.
+     */
+    @Override
+    public char escolherResposta(Pergunta pergunta, boolean podePular) {
+        terminal.imprimir(PROMPTS[pergunta.getQuantidadeAlternativas()]);
+        return Character.toLowerCase(terminal.lerCaractere());
+    }
+
+    // Igual à leitura sem prazo, mas o terminal desiste da espera quando o prazo acaba
+    @Override
+    public char escolherResposta(Pergunta pergunta, boolean podePular, long prazoNanos) {
+        terminal.imprimir(PROMPTS[pergunta.getQuantidadeAlternativas()]);
+        return Character.toLowerCase(terminal.lerCaractere(prazoNanos));
+    }
+}
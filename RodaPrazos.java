@@ -0,0 +1,267 @@
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Roda de temporização hierárquica: agenda ações para quando um prazo vencer (respostas e rodadas).
+ *
+ * Em vez de uma thread ou um ScheduledFuture por jogador, todos os prazos do processo ficam em
+ * 4 níveis de 64 posições cada: o nível 0 tem uma posição por tique; cada nível acima cobre 64 vezes
+ * mais tempo, e as suas posições são redistribuídas para o nível de baixo quando o tempo chega
+ * nelas (com tique de 10 ms, 64^4 tiques são quase 2 dias; prazos maiores são reagendados).
+ * Agendar e cancelar custam O(1) e nenhuma trava: o agendamento entra em uma pilha sem trava e
+ * só a thread da roda mexe nas posições. Cada prazo pendente é um único objeto pequeno; sem prazos
+ * pendentes, a thread dorme até o próximo agendamento.
+ *
+ * A ação roda na thread da roda, no máximo um tique depois do prazo (nunca antes): deve ser curta,
+ * como acordar quem espera. Uma exceção da ação é ignorada para não parar a roda.
+ */
+public final class RodaPrazos implements AutoCloseable {
+    // Resolução da roda compartilhada
+    public static final Duration RESOLUCAO_PADRAO = Duration.ofMillis(10);
+
+    private static final int BITS_NIVEL = 6;
+    private static final int POSICOES = 1 << BITS_NIVEL;
+    private static final int NIVEIS = 4;
+    private static final long ALCANCE = 1L << (BITS_NIVEL * NIVEIS); // Tiques cobertos pelos níveis
+
+    // Roda de todo o processo (criada sob demanda)
+    private static RodaPrazos compartilhada;
+
+    private final long tiqueNanos;
+    private final long origem; // nanoTime do tique 0
+    private final Thread thread;
+
+    // Só a thread da roda usa as posições e o tique atual
+    private final Agendamento[] posicoes = new Agendamento[NIVEIS * POSICOES];
+    private long tiqueAtual;
+
+    // Pilhas sem trava de agendamentos novos e de cancelamentos, esvaziadas pela thread da roda
+    private final AtomicReference<Agendamento> novos = new AtomicReference<>();
+    private final AtomicReference<Agendamento> cancelados = new AtomicReference<>();
+
+    private volatile int pendentes; // Agendamentos nas posições (escrito só pela thread da roda)
+    private volatile boolean dormindo;
+    private volatile boolean fechada;
+
+    /**
+     * Um prazo agendado. Pode ser cancelado por qualquer thread enquanto não venceu.
+     */
+    public final class Agendamento {
+        private static final int PENDENTE = 0;
+        private static final int CANCELADO = 1;
+        private static final int VENCIDO = 2;
+
+        private static final AtomicIntegerFieldUpdater<Agendamento> ESTADO =
+                AtomicIntegerFieldUpdater.newUpdater(Agendamento.class, "estado");
+
+        private final long tique; // Tique do vencimento
+        private final Runnable acao;
+        private volatile int estado;
+        private int posicao = -1; // Posição na roda (-1 = fora da roda)
+        private Agendamento anterior, proximo;            // Lista da posição (thread da roda)
+        private Agendamento proximoNovo, proximoCancelado; // Pilhas de entrada
+
+        private Agendamento(long tique, Runnable acao) {
+            this.tique = tique;
+            this.acao = acao;
+        }
+
+        /**
+         * Cancela o prazo. Depois do cancelamento a ação não roda mais.
+         *
+         * @return true se cancelou; false se o prazo já tinha vencido ou sido cancelado
+         */
+        public boolean cancelar() {
+            if (!ESTADO.compareAndSet(this, PENDENTE, CANCELADO)) return false;
+            Agendamento topo;
+            do {
+                topo = cancelados.get();
+                proximoCancelado = topo;
+            } while (!cancelados.compareAndSet(topo, this));
+            return true;
+        }
+
+        // Indica se a ação já rodou (ou está rodando)
+        public boolean isVencido() {
+            return estado == VENCIDO;
+        }
+    }
+
+    /**
+     * Cria uma roda com a sua própria thread (daemon).
+     *
+     * @param resolucao Duração de um tique (a precisão dos prazos)
+     * @param nome Nome da thread da roda
+     */
+    public RodaPrazos(Duration resolucao, String nome) {
+        if (resolucao == null || resolucao.isNegative() || resolucao.isZero()) {
+            throw new IllegalArgumentException("A resolução deve ser positiva.");
+        }
+        this.tiqueNanos = resolucao.toNanos();
+        this.origem = System.nanoTime();
+        this.thread = new Thread(this::girar, nome);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Retorna a roda compartilhada pelo processo (tique de 10 ms), usada pelos prazos de resposta.
+     *
+     * @return Roda compartilhada
+     */
+    public static synchronized RodaPrazos compartilhada() {
+        if (compartilhada == null) {
+            compartilhada = new RodaPrazos(RESOLUCAO_PADRAO, "roda-prazos");
+        }
+        return compartilhada;
+    }
+
+    /**
+     * Agenda uma ação para depois de um atraso.
+     *
+     * @param atrasoNanos Atraso em nanossegundos (zero ou negativo: no próximo tique)
+     * @param acao Ação curta, executada na thread da roda
+     * @return Agendamento, que pode ser cancelado
+     */
+    public Agendamento agendar(long atrasoNanos, Runnable acao) {
+        if (acao == null) throw new NullPointerException("Ação não pode ser nula");
+        if (fechada) throw new IllegalStateException("A roda de prazos foi fechada.");
+        long desdeOrigem = System.nanoTime() - origem + Math.max(0, atrasoNanos);
+        // Arredonda para cima: o tique t só é processado quando já se passaram t tiques
+        Agendamento a = new Agendamento((desdeOrigem + tiqueNanos - 1) / tiqueNanos, acao);
+        Agendamento topo;
+        do {
+            topo = novos.get();
+            a.proximoNovo = topo;
+        } while (!novos.compareAndSet(topo, a));
+        if (dormindo) LockSupport.unpark(thread);
+        return a;
+    }
+
+    // Laço da thread da roda: processa os tiques vencidos e dorme até o próximo
+    private void girar() {
+        while (!fechada) {
+            long decorridos = (System.nanoTime() - origem) / tiqueNanos;
+            if (pendentes == 0) {
+                tiqueAtual = Math.max(tiqueAtual, decorridos); // Roda vazia: nada a percorrer
+            }
+            while (tiqueAtual < decorridos) {
+                tiqueAtual++;
+                redistribuir();
+                vencer(posicoes[(int) (tiqueAtual & (POSICOES - 1))]);
+            }
+            receberNovos();
+            receberCancelamentos();
+
+            if (pendentes > 0) {
+                LockSupport.parkNanos(this, origem + (tiqueAtual + 1) * tiqueNanos - System.nanoTime());
+            } else {
+                dormindo = true;
+                if (novos.get() == null && !fechada) LockSupport.park(this);
+                dormindo = false;
+            }
+        }
+    }
+
+    // Desce para o nível de baixo as posições dos níveis superiores que começam neste tique
+    private void redistribuir() {
+        for (int nivel = 1; nivel < NIVEIS; nivel++) {
+            int deslocamento = BITS_NIVEL * nivel;
+            if ((tiqueAtual & ((1L << deslocamento) - 1)) != 0) return;
+            int p = nivel * POSICOES + (int) ((tiqueAtual >>> deslocamento) & (POSICOES - 1));
+            Agendamento a = posicoes[p];
+            posicoes[p] = null;
+            while (a != null) {
+                Agendamento seguinte = a.proximo;
+                a.anterior = a.proximo = null;
+                a.posicao = -1;
+                pendentes--;
+                inserir(a);
+                a = seguinte;
+            }
+        }
+    }
+
+    // Executa as ações da posição do nível 0 (todas vencem neste tique)
+    private void vencer(Agendamento a) {
+        if (a == null) return;
+        posicoes[a.posicao] = null;
+        while (a != null) {
+            Agendamento seguinte = a.proximo;
+            a.anterior = a.proximo = null;
+            a.posicao = -1;
+            pendentes--;
+            executar(a);
+            a = seguinte;
+        }
+    }
+
+    private static void executar(Agendamento a) {
+        if (!Agendamento.ESTADO.compareAndSet(a, Agendamento.PENDENTE, Agendamento.VENCIDO)) return;
+        try {
+            a.acao.run();
+        } catch (RuntimeException e) {
+            // Uma ação com falha não pode parar os demais prazos
+        }
+    }
+
+    // Coloca o agendamento no nível cuja faixa contém o seu vencimento (ou executa, se já venceu)
+    private void inserir(Agendamento a) {
+        long falta = a.tique - tiqueAtual;
+        if (falta <= 0) {
+            executar(a);
+            return;
+        }
+        long tique = falta < ALCANCE ? a.tique : tiqueAtual + ALCANCE - 1; // Longe demais: reagendado depois
+        int nivel = 0;
+        while (nivel < NIVEIS - 1 && (falta >>> (BITS_NIVEL * (nivel + 1))) != 0) nivel++;
+        int p = nivel * POSICOES + (int) ((tique >>> (BITS_NIVEL * nivel)) & (POSICOES - 1));
+        a.posicao = p;
+        a.proximo = posicoes[p];
+        if (a.proximo != null) a.proximo.anterior = a;
+        posicoes[p] = a;
+        pendentes++;
+    }
+
+    private void receberNovos() {
+        Agendamento a = novos.getAndSet(null);
+        while (a != null) {
+            Agendamento seguinte = a.proximoNovo;
+            a.proximoNovo = null;
+            if (a.estado == Agendamento.PENDENTE) inserir(a);
+            a = seguinte;
+        }
+    }
+
+    // Tira da roda os agendamentos cancelados (os que nem chegaram a entrar são ignorados)
+    private void receberCancelamentos() {
+        Agendamento a = cancelados.getAndSet(null);
+        while (a != null) {
+            Agendamento seguinte = a.proximoCancelado;
+            a.proximoCancelado = null;
+            if (a.posicao >= 0) {
+                if (a.anterior != null) a.anterior.proximo = a.proximo;
+                else posicoes[a.posicao] = a.proximo;
+                if (a.proximo != null) a.proximo.anterior = a.anterior;
+                a.anterior = a.proximo = null;
+                a.posicao = -1;
+                pendentes--;
+            }
+            a = seguinte;
+        }
+    }
+
+    // Agendamentos pendentes na roda (aproximado enquanto há agendamentos e cancelamentos em curso)
+    public int getPendentes() {
+        return pendentes;
+    }
+
+    // Para a thread da roda; os prazos pendentes não vencem mais
+    @Override
+    public void close() {
+        fechada = true;
+        LockSupport.unpark(thread);
+    }
+}
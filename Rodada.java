@@ -1,41 +1,130 @@
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Representa uma rodada do jogo, contendo 3 perguntas e os jogadores participantes.
+ * Representa uma rodada do jogo, contendo as perguntas definidas na configuração (padrão 3)
+ * e os jogadores participantes.
  * Cada jogador responde às mesmas perguntas, e ao final é possível determinar o vencedor da rodada.
  */
 public class Rodada {
-    // Lista de perguntas da rodada (máximo 3)
-    private final List<Pergunta> perguntas = new ArrayList<>(3);
+    // Marca de "sem resposta dentro do prazo" no modo simultâneo
+    static final char SEM_RESPOSTA = '\0';
+
+    // Tolerância do invokeAll além do prazo, para as coletas desistirem sozinhas (a roda tem tique de 10 ms)
+    private static final long MARGEM_COLETA_NANOS = 2 * RodaPrazos.RESOLUCAO_PADRAO.toNanos();
+
+    // Threads virtuais usadas para coletar respostas em paralelo (compartilhadas entre rodadas)
+    private static final ExecutorService COLETORES = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Regras do jogo: perguntas por rodada e pontuação
+    private final ConfiguracaoJogo configuracao;
+
+    // Lista de perguntas da rodada (no máximo configuracao.getPerguntasPorRodada())
+    private final List<Pergunta> perguntas;
 
     // Lista imutável de jogadores participantes da rodada
     private final List<Jogador> jogadores;
 
+    // Terminal onde o resultado da rodada é exibido
+    private final Terminal terminal;
+
+    // Prazo por pergunta no modo simultâneo (null = modo sequencial)
+    private Duration prazoSimultaneo;
+
+    // Diário onde o andamento da rodada é registrado (opcional)
+    private DiarioJogo diario;
+
+    // Transmissão para espectadores (opcional) e o número desta rodada no jogo
+    private TransmissaoJogo transmissao;
+    private int numero;
+
     /**
      * Construtor da rodada.
      *
      * @param jogadores Lista de jogadores (mínimo 2)
      */
     public Rodada(List<Jogador> jogadores) {
+        this(jogadores, Terminal.console());
+    }
+
+    /**
+     * Construtor da rodada com um terminal próprio.
+     *
+     * @param jogadores Lista de jogadores (mínimo 2)
+     * @param terminal Terminal da sessão
+     */
+    public Rodada(List<Jogador> jogadores, Terminal terminal) {
+        this(jogadores, terminal, ConfiguracaoJogo.PADRAO);
+    }
+
+    /**
+     * Construtor da rodada com terminal e configuração próprios.
+     *
+     * @param jogadores Lista de jogadores (mínimo 2)
+     * @param terminal Terminal da sessão
+     * @param configuracao Configuração do jogo
+     */
+    public Rodada(List<Jogador> jogadores, Terminal terminal, ConfiguracaoJogo configuracao) {
+        this(jogadores, terminal, configuracao, false);
+    }
+
+    // compartilharLista: usa a lista recebida (já imutável) em vez de uma cópia
+    private Rodada(List<Jogador> jogadores, Terminal terminal, ConfiguracaoJogo configuracao,
+                   boolean compartilharLista) {
+        this.terminal = Objects.requireNonNull(terminal, "Terminal não pode ser nulo");
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
+        this.perguntas = new ArrayList<>(configuracao.getPerguntasPorRodada());
         if (jogadores == null || jogadores.size() < 2) {
             throw new IllegalArgumentException("Devem existir pelo menos 2 jogadores.");
         }
+        this.jogadores = compartilharLista ? jogadores : Collections.unmodifiableList(new ArrayList<>(jogadores));
+    }
+
+    /**
+     * Cria a rodada reutilizável de um Jogo, que compartilha a visão imutável da lista de
+     * jogadores do jogo em vez de copiá-la. Entre uma rodada e outra (e entre jogos) o Jogo
+     * a recicla com reciclar().
+     *
+     * @param jogadores Visão imutável dos jogadores do jogo
+     * @param terminal Terminal da sessão
+     * @param configuracao Configuração do jogo
+     * @return Rodada sem perguntas
+     */
+    static Rodada doJogo(List<Jogador> jogadores, Terminal terminal, ConfiguracaoJogo configuracao) {
+        return new Rodada(jogadores, terminal, configuracao, true);
+    }
 
-        // Cria uma cópia imutável da lista de jogadores
-        this.jogadores = Collections.unmodifiableList(new ArrayList<>(jogadores));
+    // Remove as perguntas para a rodada ser jogada de novo com os mesmos jogadores
+    // (diário, transmissão e modo simultâneo continuam até serem trocados)
+    void reciclar() {
+        perguntas.clear();
     }
 
     /**
      * Adiciona uma pergunta à rodada.
-     * Só é permitido adicionar até 3 perguntas.
+     * Só é permitido adicionar as perguntas previstas na configuração, com a quantidade
+     * de alternativas do jogo.
      *
      * @param pergunta Instância da pergunta a ser adicionada
      */
     public void adicionarPergunta(Pergunta pergunta) {
-        if (perguntas.size() >= 3) {
-            throw new IllegalStateException("A rodada já possui 3 perguntas.");
+        if (perguntas.size() >= configuracao.getPerguntasPorRodada()) {
+            throw new IllegalStateException("A rodada já possui "
+                    + configuracao.getPerguntasPorRodada() + " perguntas.");
+        }
+        if (pergunta.getQuantidadeAlternativas() != configuracao.getAlternativasPorPergunta()) {
+            throw new IllegalArgumentException("A pergunta deve ter "
+                    + configuracao.getAlternativasPorPergunta() + " alternativas.");
         }
         perguntas.add(pergunta);
     }
@@ -43,34 +132,192 @@ public class Rodada {
     /**
      * Inicia a rodada:
      * - Reinicia os acertos e pulos dos jogadores
-     * - Cada jogador responde às mesmas 3 perguntas
+     * - Cada jogador responde às mesmas perguntas
      * - Exibe o vencedor da rodada (ou empate)
      */
     public void iniciar() {
-        if (perguntas.size() != 3) {
-            throw new IllegalStateException("Cada rodada precisa de exatamente 3 perguntas.");
-        }
+        verificarCompleta();
+        long inicio = System.nanoTime();
 
         // Reinicia os contadores de acertos e pulos dos jogadores
-        for (Jogador j : jogadores) {
+        // (por índice: o iterador da lista imutável seria alocado a cada rodada)
+        for (int i = 0; i < jogadores.size(); i++) {
+            Jogador j = jogadores.get(i);
             j.resetarAcertos();
             j.resetarPulos();
         }
 
-        // Todos os jogadores respondem às mesmas perguntas, uma por uma
-        for (Pergunta p : perguntas) {
-            for (Jogador j : jogadores) {
-                j.responderPergunta(p);
+        jogarPerguntas(0, null, limiteRodada());
+        exibirVencedor();
+        Metricas.duracaoRodada(System.nanoTime() - inicio);
+    }
+
+    /**
+     * Retoma uma rodada interrompida (estado recuperado do DiarioJogo), sem reiniciar os contadores.
+     *
+     * @param perguntaAtual Pergunta que estava em andamento (-1 se nenhuma tinha começado)
+     * @param jaRespondeu Jogadores que já responderam a pergunta em andamento
+     */
+    public void retomar(int perguntaAtual, boolean[] jaRespondeu) {
+        verificarCompleta();
+        long inicio = System.nanoTime();
+        jogarPerguntas(Math.max(perguntaAtual, 0), perguntaAtual >= 0 ? jaRespondeu : null, limiteRodada());
+        exibirVencedor();
+        Metricas.duracaoRodada(System.nanoTime() - inicio);
+    }
+
+    // Garante que todas as perguntas da rodada foram cadastradas
+    private void verificarCompleta() {
+        if (perguntas.size() != configuracao.getPerguntasPorRodada()) {
+            throw new IllegalStateException("Cada rodada precisa de exatamente "
+                    + configuracao.getPerguntasPorRodada() + " perguntas.");
+        }
+    }
+
+    // System.nanoTime() em que a rodada que começa agora acaba (0 = sem prazo de rodada)
+    private long limiteRodada() {
+        long prazo = configuracao.getPrazoRodada().toNanos();
+        return prazo > 0 ? System.nanoTime() + prazo : 0;
+    }
+
+    // Joga as perguntas a partir de "primeira"; quem já respondeu a primeira é pulado.
+    // Vencido o limite da rodada, as respostas restantes expiram sem esperar pelos jogadores.
+    private void jogarPerguntas(int primeira, boolean[] jaRespondeu, long limiteRodada) {
+        for (int k = primeira; k < perguntas.size(); k++) {
+            Pergunta p = perguntas.get(k);
+            boolean[] responderam = (k == primeira) ? jaRespondeu : null;
+            if (responderam == null && diario != null) {
+                diario.perguntaIniciada(k);
+            }
+            if (transmissao != null) {
+                transmissao.perguntaIniciada(numero, k, p);
+            }
+
+            if (prazoSimultaneo != null) {
+                // Cada pergunta vai para todos os jogadores ao mesmo tempo
+                jogarPerguntaSimultanea(p, responderam, limiteRodada);
+            } else {
+                // Todos os jogadores respondem às mesmas perguntas, uma por uma
+                for (int i = 0; i < jogadores.size(); i++) {
+                    if (responderam == null || !responderam[i]) {
+                        jogadores.get(i).responderPergunta(p, limiteRodada);
+                    }
+                }
             }
         }
+    }
 
-        // Verifica e exibe o vencedor da rodada
+    // Verifica e exibe o vencedor da rodada
+    private void exibirVencedor() {
         Jogador vencedor = verificarVencedor();
-        if (vencedor == null) {
-            System.out.println("\n=> Resultado da rodada: EMPATE\n");
-        } else {
-            System.out.println("\n=> Vencedor da rodada: " + vencedor.getNome() +
-                    " (acertos: " + vencedor.getAcertosNaRodada() + ")\n");
+        terminal.exibir(vencedor == null
+                ? new EventoExibicao.ResultadoRodada(null, 0)
+                : new EventoExibicao.ResultadoRodada(vencedor.getNome(), vencedor.getAcertosNaRodada()));
+    }
+
+    /**
+     * Registra o andamento da rodada (pergunta em curso) em um diário.
+     *
+     * @param diario Diário do jogo (null desativa)
+     */
+    public void setDiario(DiarioJogo diario) {
+        this.diario = diario;
+    }
+
+    /**
+     * Transmite o andamento da rodada (pergunta em curso) aos espectadores.
+     *
+     * @param transmissao Transmissão do jogo (null desativa)
+     * @param numero Número da rodada no jogo
+     */
+    public void setTransmissao(TransmissaoJogo transmissao, int numero) {
+        this.transmissao = transmissao;
+        this.numero = numero;
+    }
+
+    /**
+     * Ativa o modo simultâneo: cada pergunta é enviada a todos os jogadores
+     * ao mesmo tempo e as respostas são coletadas em paralelo até o prazo.
+     *
+     * @param prazoPorPergunta Tempo máximo para responder cada pergunta
+     */
+    public void setModoSimultaneo(Duration prazoPorPergunta) {
+        if (prazoPorPergunta == null || prazoPorPergunta.isNegative() || prazoPorPergunta.isZero()) {
+            throw new IllegalArgumentException("O prazo por pergunta deve ser positivo.");
+        }
+        this.prazoSimultaneo = prazoPorPergunta;
+    }
+
+    // Indica se a rodada está no modo simultâneo
+    public boolean isModoSimultaneo() {
+        return prazoSimultaneo != null;
+    }
+
+    /**
+     * Envia a pergunta a todos os jogadores em paralelo (fan-out), aguarda as respostas
+     * até o prazo (fan-in) e corrige tudo em uma única passada.
+     * Quem não responde a tempo expira pela regra da configuração (erro ou pulo). As coletas desistem
+     * sozinhas no prazo (via RodaPrazos); o invokeAll só cancela as que passarem dele.
+     */
+    private void jogarPerguntaSimultanea(Pergunta pergunta, boolean[] jaRespondeu, long limiteRodada) {
+        long limite = System.nanoTime() + prazoSimultaneo.toNanos();
+        if (limiteRodada != 0 && limiteRodada - limite < 0) limite = limiteRodada;
+        long fim = limite;
+
+        List<Jogador> participantes = new ArrayList<>(jogadores.size());
+        for (int i = 0; i < jogadores.size(); i++) {
+            if (jaRespondeu == null || !jaRespondeu[i]) participantes.add(jogadores.get(i));
+        }
+
+        List<Callable<Character>> coletas = new ArrayList<>(participantes.size());
+        for (Jogador j : participantes) {
+            coletas.add(() -> j.coletarResposta(pergunta, fim));
+        }
+
+        List<Future<Character>> futuros;
+        try {
+            // invokeAll cancela as coletas que não terminarem dentro do prazo
+            futuros = COLETORES.invokeAll(coletas, Math.max(0, fim - System.nanoTime()) + MARGEM_COLETA_NANOS,
+                    TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rodada interrompida.", e);
+        }
+
+        // Correção em lote, na ordem dos jogadores
+        terminal.exibir(new EventoExibicao.CorrecaoSimultanea(pergunta.getEnunciado()));
+        for (int i = 0; i < participantes.size(); i++) {
+            Jogador j = participantes.get(i);
+            char resposta = obterResposta(futuros.get(i));
+            String resultado;
+
+            if (resposta == 'p' && j.incrementarPulos()) {
+                pergunta.getEstatisticas().registrarPulo();
+                resultado = "pulou";
+            } else if (resposta == SEM_RESPOSTA || resposta == 'p') {
+                j.registrarSemResposta(pergunta);
+                resultado = "sem resposta (" + configuracao.descreverErro() + ")";
+            } else if (j.corrigirResposta(pergunta, resposta)) {
+                resultado = "correta (" + configuracao.descreverAcerto() + ")";
+            } else {
+                resultado = "errada (" + configuracao.descreverErro() + ")";
+            }
+            terminal.exibir(new EventoExibicao.ResultadoSimultaneo(j.getNome(), resultado, j.getPontuacaoTotal()));
+        }
+    }
+
+    // Extrai a resposta de uma coleta; coletas canceladas expiram pela regra da configuração
+    // (um 'p' sem pulo disponível conta como sem resposta) e coletas com erro, como sem resposta
+    private char obterResposta(Future<Character> futuro) {
+        try {
+            return futuro.get();
+        } catch (CancellationException e) {
+            return configuracao.isExpiracaoComoPulo() ? 'p' : SEM_RESPOSTA;
+        } catch (ExecutionException e) {
+            return SEM_RESPOSTA;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SEM_RESPOSTA;
         }
     }
 
@@ -84,7 +331,8 @@ public class Rodada {
         Jogador vencedor = null;
         boolean empate = false;
 
-        for (Jogador j : jogadores) {
+        for (int i = 0; i < jogadores.size(); i++) {
+            Jogador j = jogadores.get(i);
             int a = j.getAcertosNaRodada();
 
             if (a > max) {
@@ -0,0 +1,177 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Servidor TCP que hospeda várias sessões de jogo no mesmo processo.
+ * Cada conexão recebe o seu próprio Terminal e a sua própria SessaoQuiz,
+ * executada em uma thread virtual; assim milhares de jogos podem ficar
+ * bloqueados aguardando entrada sem ocupar threads do sistema operacional.
+ */
+public class ServidorQuiz implements AutoCloseable {
+    public static final int PORTA_PADRAO = 5050;
+
+    // Buffers pequenos por sessão mantêm a memória limitada com muitas conexões
+    private static final int TAMANHO_BUFFER_SESSAO = 1024;
+
+    private final ServerSocket servidor;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Configuração usada por todas as sessões
+    private volatile ConfiguracaoJogo configuracao = ConfiguracaoJogo.PADRAO;
+
+    // Perguntas compartilhadas pelas sessões (null = cadastro pelo GameMaster)
+    private volatile CachePerguntas cachePerguntas;
+
+    // Perguntas por dificuldade (se definido, tem precedência sobre o cache) e o alvo das rodadas
+    private volatile IndiceDificuldade indiceDificuldade;
+    private volatile double dificuldadeAlvo;
+
+    // Estatísticas simples das sessões
+    private final AtomicInteger sessoesAtivas = new AtomicInteger();
+    private final AtomicLong sessoesConcluidas = new AtomicLong();
+
+    /**
+     * Cria o servidor ouvindo no endereço de loopback.
+     *
+     * @param porta Porta TCP (0 escolhe uma porta livre)
+     * @throws IOException se não for possível abrir a porta
+     */
+    public ServidorQuiz(int porta) throws IOException {
+        this.servidor = new ServerSocket(porta, 4096, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Define a configuração de jogo das próximas sessões.
+     *
+     * @param configuracao Configuração validada
+     */
+    public void setConfiguracao(ConfiguracaoJogo configuracao) {
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
+    }
+
+    /**
+     * Faz as próximas sessões sortearem as perguntas de um banco, sem repetição dentro de cada jogo.
+     * Todas as sessões compartilham o mesmo cache, então as perguntas mais sorteadas
+     * não são decodificadas do arquivo a cada jogo.
+     *
+     * @param cachePerguntas Cache do banco (null volta ao cadastro pelo GameMaster)
+     */
+    public void setCachePerguntas(CachePerguntas cachePerguntas) {
+        this.cachePerguntas = cachePerguntas;
+    }
+
+    /**
+     * Faz as próximas sessões montarem cada rodada com as perguntas de dificuldade mais próxima
+     * do alvo, sem repetição dentro de cada jogo. As respostas de todas as sessões atualizam
+     * a dificuldade das perguntas no mesmo índice.
+     *
+     * @param indice Índice de dificuldade (null volta ao cache ou ao cadastro pelo GameMaster)
+     * @param alvo Dificuldade desejada (0 a 1)
+     */
+    public void setIndiceDificuldade(IndiceDificuldade indice, double alvo) {
+        if (alvo < 0 || alvo > 1) {
+            throw new IllegalArgumentException("A dificuldade alvo deve estar entre 0 e 1.");
+        }
+        this.dificuldadeAlvo = alvo;
+        this.indiceDificuldade = indice;
+    }
+
+    // Retorna a porta efetivamente em uso
+    public int getPorta() {
+        return servidor.getLocalPort();
+    }
+
+    /**
+     * Aceita conexões até o servidor ser fechado.
+     * Cada conexão é atendida em uma nova thread virtual.
+     */
+    public void executar() {
+        while (!servidor.isClosed()) {
+            Socket socket;
+            try {
+                socket = servidor.accept();
+            } catch (IOException e) {
+                if (servidor.isClosed()) return; // encerramento normal
+                continue;
+            }
+            executor.submit(() -> atender(socket));
+        }
+    }
+
+    /**
+     * Executa o laço de aceitação em uma thread virtual separada.
+     *
+     * @return Thread responsável por aceitar conexões
+     */
+    public Thread iniciarEmSegundoPlano() {
+        return Thread.ofVirtual().name("quiz-aceitador").start(this::executar);
+    }
+
+    // Executa uma sessão de jogo completa sobre a conexão
+    private void atender(Socket socket) {
+        sessoesAtivas.incrementAndGet();
+        try {
+            socket.setTcpNoDelay(true);
+            try (Terminal terminal = new TerminalFluxo(socket.getInputStream(), socket.getOutputStream(),
+                    TAMANHO_BUFFER_SESSAO, false, socket)) {
+                ConfiguracaoJogo c = configuracao;
+                SessaoQuiz sessao = new SessaoQuiz(terminal, fonteDaSessao(c));
+                sessao.setConfiguracao(c);
+                sessao.run();
+            }
+            sessoesConcluidas.incrementAndGet();
+        } catch (NoSuchElementException | UncheckedIOException | SocketException e) {
+            // Cliente desconectou no meio do jogo: a sessão é descartada
+        } catch (IOException e) {
+            System.err.println("Erro na sessão: " + e.getMessage());
+        } finally {
+            sessoesAtivas.decrementAndGet();
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Já fechado
+            }
+        }
+    }
+
+    // Fonte de perguntas de uma nova sessão (null = cadastro pelo GameMaster)
+    private FontePerguntas fonteDaSessao(ConfiguracaoJogo c) {
+        IndiceDificuldade indice = indiceDificuldade;
+        if (indice != null) return indice.novaFonte(dificuldadeAlvo, c.getPerguntasPorRodada());
+        CachePerguntas cache = cachePerguntas;
+        return cache == null ? null : new SorteioPerguntas(cache);
+    }
+
+    // Número de sessões em andamento
+    public int getSessoesAtivas() {
+        return sessoesAtivas.get();
+    }
+
+    // Número de sessões que chegaram ao fim do jogo
+    public long getSessoesConcluidas() {
+        return sessoesConcluidas.get();
+    }
+
+    /**
+     * Fecha a porta e interrompe as sessões em andamento.
+     */
+    @Override
+    public void close() {
+        try {
+            servidor.close();
+        } catch (IOException e) {
+            // Ignorado no encerramento
+        }
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,175 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Uma sessão completa de jogo sobre um terminal: cadastro do GameMaster,
+ * cadastro dos jogadores e execução do Jogo.
+ * Usada tanto pelo console local quanto por cada conexão do servidor.
+ */
+public class SessaoQuiz implements Runnable {
+    private final Terminal terminal;
+    private final FontePerguntas fontePerguntas; // null = cadastro interativo pelo GameMaster
+    private Path arquivoDiario; // Diário para recuperação após queda (null = sem diário)
+    private ConfiguracaoJogo configuracao = ConfiguracaoJogo.PADRAO; // Regras do jogo da sessão
+    private Integer portaEspectadores; // Porta da transmissão do jogo novo (null = sem espectadores)
+
+    /**
+     * Construtor da sessão.
+     *
+     * @param terminal Terminal de entrada e saída da sessão
+     */
+    public SessaoQuiz(Terminal terminal) {
+        this(terminal, null);
+    }
+
+    /**
+     * Construtor da sessão com perguntas prontas.
+     *
+     * @param terminal Terminal de entrada e saída da sessão
+     * @param fontePerguntas Fonte das perguntas (null = cadastro pelo GameMaster)
+     */
+    public SessaoQuiz(Terminal terminal, FontePerguntas fontePerguntas) {
+        this.terminal = Objects.requireNonNull(terminal, "Terminal não pode ser nulo");
+        this.fontePerguntas = fontePerguntas;
+    }
+
+    @Override
+    public void run() {
+        // Exibe o título do jogo
+        terminal.imprimirLinha("╔════════════════════════════╗");
+        terminal.imprimirLinha(" ║    🎉 QUIZ TERMINAL 🎉   ║");
+        terminal.imprimirLinha("╚════════════════════════════╝");
+
+        try {
+            EstadoJogo estado = arquivoDiario != null && Files.exists(arquivoDiario)
+                    ? DiarioJogo.recuperar(arquivoDiario) : null;
+            if (estado != null && estado.isIniciado() && !estado.isEncerrado()) {
+                // Jogo interrompido: reconstrói o estado pelo diário e continua
+                terminal.imprimirLinha("Retomando jogo interrompido a partir do diário...");
+                Jogo jogo = Jogo.recuperar(arquivoDiario, terminal, configuracao);
+                jogo.setFontePerguntas(fontePerguntas);
+                try {
+                    jogo.iniciar();
+                } finally {
+                    jogo.getDiario().close();
+                }
+                terminal.descarregar();
+                return;
+            }
+            jogarNovo();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Define o arquivo de diário da sessão: um jogo interrompido é retomado dele
+     * e um jogo novo passa a ser registrado nele (inclusive sobre um jogo já encerrado).
+     *
+     * @param arquivoDiario Arquivo do diário (null desativa)
+     */
+    public void setArquivoDiario(Path arquivoDiario) {
+        this.arquivoDiario = arquivoDiario;
+    }
+
+    /**
+     * Define as regras do jogo da sessão (rodadas, perguntas, alternativas, pontuação e pulos).
+     *
+     * @param configuracao Configuração validada
+     */
+    public void setConfiguracao(ConfiguracaoJogo configuracao) {
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
+    }
+
+    /**
+     * Transmite o jogo novo da sessão a espectadores que se conectem na porta informada
+     * (loopback; ver TransmissaoJogo e ClienteEspectadores).
+     *
+     * @param porta Porta TCP (0 escolhe uma porta livre; null desativa)
+     */
+    public void setPortaEspectadores(Integer porta) {
+        this.portaEspectadores = porta;
+    }
+
+    // Cadastro completo e execução de um jogo novo
+    private void jogarNovo() throws IOException {
+
+        // Cadastro do Game Master
+        terminal.imprimir("Nome do Game Master: ");
+        String nomeGM = lerNaoVazio();
+        GameMaster gm = new GameMaster(nomeGM);
+        // Perguntas repetidas no mesmo jogo são recusadas e o GameMaster cadastra outra;
+        // as apenas semelhantes (estimativa imprecisa em textos curtos) só são sinalizadas
+        gm.setIndiceDuplicatas(new IndiceDuplicatas(), GameMaster.PoliticaDuplicatas.REJEITAR_IDENTICAS);
+
+        // Cadastro da quantidade de jogadores (mínimo 2)
+        int qtdJogadores = 0;
+        while (qtdJogadores < 2) {
+            terminal.imprimir("Quantidade de jogadores (>=2): ");
+            String line = terminal.lerLinha().trim();
+            try {
+                qtdJogadores = Integer.parseInt(line);
+                if (qtdJogadores < 2) {
+                    terminal.imprimirLinha("É necessário pelo menos 2 jogadores.");
+                }
+            } catch (NumberFormatException e) {
+                terminal.imprimirLinha("Número inválido.");
+            }
+        }
+
+        // Cadastro dos jogadores
+        List<Jogador> jogadores = new ArrayList<>();
+        for (int i = 1; i <= qtdJogadores; i++) {
+            terminal.imprimir("Nome do jogador " + i + ": ");
+            String nome = lerNaoVazio();
+            jogadores.add(new Jogador(nome, terminal));
+        }
+
+        // Criação e início do jogo
+        Jogo jogo = new Jogo(gm, jogadores, terminal, configuracao);
+        jogo.setFontePerguntas(fontePerguntas);
+        if (portaEspectadores == null) {
+            iniciarJogo(jogo);
+        } else {
+            try (ServerSocket servidor = new ServerSocket(portaEspectadores, 4096, InetAddress.getLoopbackAddress());
+                 TransmissaoJogo transmissao = jogo.getTransmissao()) {
+                transmissao.aceitarEspectadores(servidor);
+                terminal.imprimirLinha("Espectadores: porta " + servidor.getLocalPort());
+                iniciarJogo(jogo);
+            }
+        }
+        terminal.descarregar();
+    }
+
+    // Executa o jogo, registrando-o no diário da sessão se houver
+    private void iniciarJogo(Jogo jogo) throws IOException {
+        if (arquivoDiario == null) {
+            jogo.iniciar();
+        } else {
+            try (DiarioJogo diario = new DiarioJogo(arquivoDiario, new EstadoJogo())) {
+                jogo.setDiario(diario);
+                jogo.iniciar();
+            }
+        }
+    }
+
+    /**
+     * Lê uma entrada do usuário garantindo que não esteja vazia.
+     *
+     * @return String não vazia
+     */
+    private String lerNaoVazio() {
+        while (true) {
+            String s = terminal.lerLinha().trim();
+            if (!s.isBlank()) return s;
+            terminal.imprimir("Entrada vazia. Digite novamente: ");
+        }
+    }
+}
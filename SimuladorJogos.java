@@ -0,0 +1,435 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Simulador de Monte Carlo para calibrar as regras de pontuação e de pulos.
+ *
+ * Joga milhões de partidas completas com o código real do jogo (Jogo, Rodada e Jogador,
+ * com as regras de uma ConfiguracaoJogo), sem terminal e sem pausas. Cada jogador é um
+ * RespondenteBot descrito por um Perfil (probabilidade de acertar e de pular).
+ *
+ * Os jogos são divididos em blocos de tamanho fixo, executados em paralelo em um ForkJoinPool.
+ * O gerador (SplittableRandom) é dividido com split() a cada divisão da faixa de blocos, de modo
+ * que cada bloco tem o seu gerador, que depende só da semente e da posição do bloco, e acumula os
+ * seus resultados em um Resultado próprio (sem nenhum contador compartilhado); os parciais são
+ * somados na volta das tarefas. Como a soma não depende da ordem, o resultado é o mesmo para a
+ * mesma semente, qualquer que seja a quantidade de threads.
+ *
+ * Uso: java SimuladorJogos [jogos] [semente] [--config especificacao] [acerto:pulo ...]
+ */
+public class SimuladorJogos {
+    // Jogos por bloco: a menor unidade de trabalho (cada bloco tem o seu gerador)
+    static final int TAMANHO_BLOCO = 1024;
+
+    private final List<Perfil> perfis;
+    private final ConfiguracaoJogo configuracao;
+    private final Pergunta[] perguntas;
+
+    /**
+     * Modelo de um jogador simulado.
+     *
+     * @param nome Nome exibido no resultado
+     * @param probAcerto Probabilidade de acertar cada pergunta (0 a 1)
+     * @param probPulo Probabilidade de pular quando o pulo está disponível (0 a 1)
+     */
+    public record Perfil(String nome, double probAcerto, double probPulo) {
+        public Perfil {
+            Objects.requireNonNull(nome, "Nome não pode ser nulo");
+            if (probAcerto < 0 || probAcerto > 1 || probPulo < 0 || probPulo > 1) {
+                throw new IllegalArgumentException("Probabilidades devem estar entre 0 e 1.");
+            }
+        }
+    }
+
+    /**
+     * Cria o simulador.
+     *
+     * @param perfis Perfis dos jogadores (pelo menos 2), na ordem em que jogam
+     * @param configuracao Regras a simular
+     */
+    public SimuladorJogos(List<Perfil> perfis, ConfiguracaoJogo configuracao) {
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
+        if (perfis == null || perfis.size() < 2) {
+            throw new IllegalArgumentException("Devem existir pelo menos 2 jogadores.");
+        }
+        this.perfis = List.copyOf(perfis);
+
+        // Os bots só olham a letra correta: um punhado de perguntas imutáveis, compartilhadas
+        // por todos os jogos, com a resposta correta variando entre as alternativas
+        int alternativas = configuracao.getAlternativasPorPergunta();
+        String[] textos = new String[alternativas];
+        for (int a = 0; a < alternativas; a++) textos[a] = "Alternativa " + (char) ('a' + a);
+        this.perguntas = new Pergunta[alternativas];
+        for (int a = 0; a < alternativas; a++) {
+            perguntas[a] = new Pergunta("Pergunta simulada " + (a + 1), textos, (char) ('a' + a));
+        }
+    }
+
+    /**
+     * Simula os jogos no pool comum.
+     *
+     * @param jogos Quantidade de jogos
+     * @param semente Semente da simulação
+     * @return Resultado agregado
+     */
+    public Resultado simular(long jogos, long semente) {
+        return simular(jogos, semente, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Simula os jogos em um pool próprio.
+     * Cada jogo exibe os seus eventos em um TerminalSimulacao, que só observa o resultado das
+     * rodadas; os jogadores usam o terminal nulo. Nenhum dos dois é interativo, então não há pausa
+     * de verificação, sem alterar o modo headless global (usado pelas sessões que rodam no mesmo processo).
+     *
+     * @param jogos Quantidade de jogos
+     * @param semente Semente da simulação
+     * @param pool Pool onde os blocos são executados
+     * @return Resultado agregado (o mesmo para a mesma semente, em qualquer pool)
+     */
+    public Resultado simular(long jogos, long semente, ForkJoinPool pool) {
+        if (jogos < 0) {
+            throw new IllegalArgumentException("A quantidade de jogos não pode ser negativa.");
+        }
+        long blocos = (jogos + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO;
+        if (blocos == 0) return new Resultado(this);
+        return pool.invoke(new Blocos(jogos, new SplittableRandom(semente), 0, blocos));
+    }
+
+    // Tarefa fork/join: divide a faixa de blocos (e o gerador) ao meio e soma os resultados das metades
+    private final class Blocos extends RecursiveTask<Resultado> {
+        private static final long serialVersionUID = 1L;
+
+        private final long jogos;
+        private final transient SplittableRandom aleatorio;
+        private final long inicio;
+        private final long fim;
+
+        Blocos(long jogos, SplittableRandom aleatorio, long inicio, long fim) {
+            this.jogos = jogos;
+            this.aleatorio = aleatorio;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected Resultado compute() {
+            if (fim - inicio == 1) {
+                long primeiro = inicio * TAMANHO_BLOCO;
+                return simularBloco(aleatorio, (int) Math.min(TAMANHO_BLOCO, jogos - primeiro));
+            }
+            // split() antes do fork: a árvore de divisões (e portanto os geradores) é sempre a mesma
+            long meio = (inicio + fim) >>> 1;
+            Blocos direita = new Blocos(jogos, aleatorio.split(), meio, fim);
+            direita.fork();
+            Resultado esquerda = new Blocos(jogos, aleatorio, inicio, meio).compute();
+            esquerda.somar(direita.join());
+            return esquerda;
+        }
+    }
+
+    // Joga um bloco de jogos em sequência com o gerador do bloco. O Jogo, os jogadores e os bots
+    // são criados uma vez por bloco e reiniciados a cada jogo (mesmas sementes de jogos novos)
+    private Resultado simularBloco(SplittableRandom aleatorio, int jogos) {
+        Resultado resultado = new Resultado(this);
+        TerminalSimulacao terminal = new TerminalSimulacao(resultado);
+        GameMaster gm = new GameMaster("Simulador");
+        List<Jogador> jogadores = new ArrayList<>(perfis.size());
+        RespondenteBot[] bots = new RespondenteBot[perfis.size()];
+        for (int i = 0; i < bots.length; i++) {
+            Perfil p = perfis.get(i);
+            bots[i] = new RespondenteBot(p.probAcerto(), p.probPulo(), 0);
+            jogadores.add(new Jogador(p.nome(), bots[i]));
+        }
+        int[] indice = {0};
+        Jogo jogo = new Jogo(gm, jogadores, terminal, configuracao);
+        jogo.setFontePerguntas(() -> perguntas[indice[0]++ % perguntas.length]);
+        for (int g = 0; g < jogos; g++) {
+            for (RespondenteBot bot : bots) bot.reiniciar(aleatorio.nextLong());
+            indice[0] = aleatorio.nextInt(perguntas.length);
+            jogo.reiniciar();
+            jogo.iniciar();
+            resultado.registrarJogo(jogadores, jogo.verificarVencedorFinal());
+        }
+        return resultado;
+    }
+
+    // Perfis simulados
+    public List<Perfil> getPerfis() {
+        return perfis;
+    }
+
+    // Regras simuladas
+    public ConfiguracaoJogo getConfiguracao() {
+        return configuracao;
+    }
+
+    /**
+     * Terminal que descarta a saída do jogo e só observa o resultado de cada rodada
+     * (Rodada.verificarVencedor é exibido como um evento ResultadoRodada).
+     */
+    private static final class TerminalSimulacao implements Terminal {
+        private final Resultado resultado;
+
+        TerminalSimulacao(Resultado resultado) {
+            this.resultado = resultado;
+        }
+
+        @Override
+        public void exibir(EventoExibicao evento) {
+            if (evento instanceof EventoExibicao.ResultadoRodada r) {
+                resultado.registrarRodada(r.vencedor() == null);
+            }
+        }
+
+        @Override
+        public String lerLinha() {
+            throw new IllegalStateException("A simulação não possui entrada.");
+        }
+
+        @Override
+        public boolean isInterativo() {
+            return false;
+        }
+
+        @Override
+        public void imprimir(String texto) {
+        }
+
+        @Override
+        public void imprimirLinha(String texto) {
+        }
+
+        @Override
+        public void imprimirFormatado(String formato, Object... args) {
+        }
+
+        @Override
+        public void descarregar() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Resultado de uma simulação: vitórias, empates e a distribuição da pontuação final
+     * de cada perfil. Não é sincronizado: cada bloco preenche o seu e os parciais são somados.
+     */
+    public static final class Resultado {
+        private final List<Perfil> perfis;
+        private final int pontuacaoMinima; // Pontuação no índice 0 das distribuições
+
+        private long jogos;
+        private long empates;             // Jogos com mais de um vencedor (empate completo)
+        private long desempatesPorPulos;  // Jogos com pontuação máxima empatada decididos pelos pulos
+        private long rodadas;
+        private long rodadasEmpatadas;    // Rodadas sem vencedor (Rodada.verificarVencedor == null)
+        private final long[] vitorias;    // Vitórias isoladas de cada perfil
+        private final long[] somaPulos;
+        private final long[][] distribuicao; // [perfil][pontuação - pontuacaoMinima]
+
+        Resultado(SimuladorJogos simulador) {
+            this.perfis = simulador.perfis;
+            ConfiguracaoJogo c = simulador.configuracao;
+            long respostas = (long) c.getRodadas() * c.getPerguntasPorRodada();
+            int menor = Math.min(0, Math.min(c.getPontosAcerto(), c.getPontosErro()));
+            int maior = Math.max(0, Math.max(c.getPontosAcerto(), c.getPontosErro()));
+            this.pontuacaoMinima = Math.toIntExact(respostas * menor);
+            int faixas = Math.toIntExact(respostas * (maior - menor) + 1);
+            this.vitorias = new long[perfis.size()];
+            this.somaPulos = new long[perfis.size()];
+            this.distribuicao = new long[perfis.size()][faixas];
+        }
+
+        // Contabiliza um jogo terminado
+        void registrarJogo(List<Jogador> jogadores, List<Jogador> vencedores) {
+            jogos++;
+            int maxPontos = Integer.MIN_VALUE;
+            int noMaximo = 0;
+            for (int i = 0; i < jogadores.size(); i++) {
+                Jogador j = jogadores.get(i);
+                int pontos = j.getPontuacaoTotal();
+                distribuicao[i][pontos - pontuacaoMinima]++;
+                somaPulos[i] += j.getPulosTotal();
+                if (pontos > maxPontos) {
+                    maxPontos = pontos;
+                    noMaximo = 1;
+                } else if (pontos == maxPontos) {
+                    noMaximo++;
+                }
+            }
+
+            if (vencedores.size() > 1) {
+                empates++;
+                return;
+            }
+            if (noMaximo > 1) desempatesPorPulos++;
+            Jogador vencedor = vencedores.get(0);
+            for (int i = 0; i < jogadores.size(); i++) {
+                if (jogadores.get(i) == vencedor) vitorias[i]++;
+            }
+        }
+
+        // Contabiliza uma rodada terminada
+        void registrarRodada(boolean empatada) {
+            rodadas++;
+            if (empatada) rodadasEmpatadas++;
+        }
+
+        // Acrescenta os contadores de outro parcial da mesma simulação
+        void somar(Resultado outro) {
+            jogos += outro.jogos;
+            empates += outro.empates;
+            desempatesPorPulos += outro.desempatesPorPulos;
+            rodadas += outro.rodadas;
+            rodadasEmpatadas += outro.rodadasEmpatadas;
+            for (int i = 0; i < vitorias.length; i++) {
+                vitorias[i] += outro.vitorias[i];
+                somaPulos[i] += outro.somaPulos[i];
+                long[] d = distribuicao[i];
+                long[] od = outro.distribuicao[i];
+                for (int k = 0; k < d.length; k++) d[k] += od[k];
+            }
+        }
+
+        // Jogos simulados
+        public long getJogos() {
+            return jogos;
+        }
+
+        // Fração dos jogos vencidos sozinho pelo perfil
+        public double getTaxaVitoria(int perfil) {
+            return jogos == 0 ? 0 : (double) vitorias[perfil] / jogos;
+        }
+
+        // Fração dos jogos que terminaram em empate completo (pontos e pulos)
+        public double getTaxaEmpate() {
+            return jogos == 0 ? 0 : (double) empates / jogos;
+        }
+
+        // Fração dos jogos com a pontuação máxima empatada e decididos pelo menor número de pulos
+        public double getTaxaDesempatePorPulos() {
+            return jogos == 0 ? 0 : (double) desempatesPorPulos / jogos;
+        }
+
+        // Fração das rodadas sem vencedor
+        public double getTaxaEmpateRodada() {
+            return rodadas == 0 ? 0 : (double) rodadasEmpatadas / rodadas;
+        }
+
+        // Média de pulos usados por jogo pelo perfil
+        public double getMediaPulos(int perfil) {
+            return jogos == 0 ? 0 : (double) somaPulos[perfil] / jogos;
+        }
+
+        /**
+         * Quantidade de jogos em que o perfil terminou com a pontuação informada.
+         *
+         * @param perfil Índice do perfil
+         * @param pontuacao Pontuação final
+         * @return Jogos com essa pontuação (0 fora da faixa possível)
+         */
+        public long getFrequencia(int perfil, int pontuacao) {
+            int k = pontuacao - pontuacaoMinima;
+            long[] d = distribuicao[perfil];
+            return k < 0 || k >= d.length ? 0 : d[k];
+        }
+
+        // Menor pontuação possível nas regras simuladas
+        public int getPontuacaoMinima() {
+            return pontuacaoMinima;
+        }
+
+        // Maior pontuação possível nas regras simuladas
+        public int getPontuacaoMaxima() {
+            return pontuacaoMinima + distribuicao[0].length - 1;
+        }
+
+        // Pontuação final média do perfil
+        public double getMediaPontuacao(int perfil) {
+            long soma = 0;
+            long[] d = distribuicao[perfil];
+            for (int k = 0; k < d.length; k++) soma += d[k] * (k + (long) pontuacaoMinima);
+            return jogos == 0 ? 0 : (double) soma / jogos;
+        }
+
+        /**
+         * Percentil da pontuação final do perfil.
+         *
+         * @param perfil Índice do perfil
+         * @param percentil Percentil entre 0 e 100
+         * @return Menor pontuação com pelo menos esse percentual dos jogos até ela
+         */
+        public int getPercentilPontuacao(int perfil, double percentil) {
+            long alvo = (long) Math.ceil(jogos * percentil / 100.0);
+            long acumulado = 0;
+            long[] d = distribuicao[perfil];
+            for (int k = 0; k < d.length; k++) {
+                acumulado += d[k];
+                if (acumulado >= Math.max(1, alvo)) return k + pontuacaoMinima;
+            }
+            return getPontuacaoMaxima();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(256);
+            sb.append(String.format(Locale.ROOT, "%,d jogos | empates: %.4f | desempates por pulos: %.4f"
+                            + " | rodadas sem vencedor: %.4f%n",
+                    jogos, getTaxaEmpate(), getTaxaDesempatePorPulos(), getTaxaEmpateRodada()));
+            for (int i = 0; i < perfis.size(); i++) {
+                Perfil p = perfis.get(i);
+                sb.append(String.format(Locale.ROOT,
+                        "  %-12s acerto=%.2f pulo=%.2f | vitórias: %.4f | pontos: média %.2f p10 %d p50 %d p90 %d"
+                                + " | pulos/jogo: %.2f%n",
+                        p.nome(), p.probAcerto(), p.probPulo(), getTaxaVitoria(i), getMediaPontuacao(i),
+                        getPercentilPontuacao(i, 10), getPercentilPontuacao(i, 50),
+                        getPercentilPontuacao(i, 90), getMediaPulos(i)));
+            }
+            return sb.toString();
+        }
+    }
+
+    public static void main(String[] args) {
+        long jogos = 1_000_000;
+        long semente = 42;
+        ConfiguracaoJogo configuracao = ConfiguracaoJogo.PADRAO;
+        List<Perfil> perfis = new ArrayList<>();
+        int posicionais = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            if ("--config".equals(args[i]) && i + 1 < args.length) {
+                configuracao = ConfiguracaoJogo.de(args[++i]);
+            } else if (args[i].contains(":")) {
+                String[] partes = args[i].split(":", 2);
+                perfis.add(new Perfil("J" + (perfis.size() + 1),
+                        Double.parseDouble(partes[0]), Double.parseDouble(partes[1])));
+            } else if (posicionais++ == 0) {
+                jogos = Long.parseLong(args[i]);
+            } else {
+                semente = Long.parseLong(args[i]);
+            }
+        }
+        if (perfis.isEmpty()) {
+            perfis.add(new Perfil("Cauteloso", 0.70, 0.30));
+            perfis.add(new Perfil("Arrojado", 0.70, 0.0));
+        }
+
+        // Bots respondem na hora: medir o tempo de cada resposta só custaria
+        Metricas.setTemposAtivos(false);
+        SimuladorJogos simulador = new SimuladorJogos(perfis, configuracao);
+        long inicio = System.nanoTime();
+        Resultado resultado = simulador.simular(jogos, semente);
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.print(resultado);
+        System.out.printf("%.2f s -> %,.0f jogos/s (%d threads)%n", segundos, jogos / segundos,
+                ForkJoinPool.commonPool().getParallelism());
+    }
+}
@@ -0,0 +1,141 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Sorteio sem repetição das perguntas de um banco para um único jogo.
+ *
+ * É um Fisher-Yates parcial sobre os índices 0..n-1 do banco: o k-ésimo sorteio troca a posição k
+ * com uma posição aleatória em [k, n) e entrega o índice que foi parar em k. O vetor de índices
+ * não é materializado (seriam n inteiros por jogo para um banco de milhões de perguntas); só as
+ * posições já trocadas ficam em uma pequena tabela de espalhamento de inteiros, do tamanho dos
+ * sorteios do jogo (rodadas × perguntas).
+ *
+ * As perguntas são obtidas pelo CachePerguntas compartilhado. Não é sincronizada: cada jogo
+ * usa o seu próprio sorteio.
+ */
+public class SorteioPerguntas implements FontePerguntas {
+    // Marca de posição livre na tabela de trocas
+    private static final int LIVRE = -1;
+
+    private final CachePerguntas cache;
+    private final int quantidade;
+    private final SplittableRandom aleatorio;
+
+    // Tabela de trocas (endereçamento aberto): posição → índice que está nela
+    private int[] posicoes;
+    private int[] valores;
+    private int ocupadas;
+
+    private int sorteadas; // Perguntas já entregues
+
+    /**
+     * Cria o sorteio com uma semente aleatória.
+     *
+     * @param cache Cache do banco de perguntas
+     */
+    public SorteioPerguntas(CachePerguntas cache) {
+        this(cache, new SplittableRandom());
+    }
+
+    /**
+     * Cria um sorteio reprodutível.
+     *
+     * @param cache Cache do banco de perguntas
+     * @param semente Semente do sorteio
+     */
+    public SorteioPerguntas(CachePerguntas cache, long semente) {
+        this(cache, new SplittableRandom(semente));
+    }
+
+    private SorteioPerguntas(CachePerguntas cache, SplittableRandom aleatorio) {
+        this.cache = Objects.requireNonNull(cache, "Cache de perguntas não pode ser nulo");
+        this.quantidade = cache.quantidade();
+        this.aleatorio = aleatorio;
+        // Cada sorteio grava no máximo uma entrada (a posição j), então as 5 rodadas × 3 perguntas do
+        // jogo padrão ocupam até 15: com 64 entradas a tabela fica abaixo de 1/4 cheia e não cresce
+        this.posicoes = new int[64];
+        this.valores = new int[64];
+        Arrays.fill(posicoes, LIVRE);
+    }
+
+    /**
+     * Sorteia a próxima pergunta, sem repetir nenhuma já entregue neste jogo.
+     *
+     * @return Pergunta sorteada
+     * @throws NoSuchElementException se todas as perguntas do banco já foram sorteadas
+     */
+    @Override
+    public Pergunta proximaPergunta() {
+        return cache.obter(proximoIndice());
+    }
+
+    /**
+     * Sorteia o próximo índice do banco, sem repetição.
+     *
+     * @return Índice entre 0 e quantidade - 1
+     */
+    public int proximoIndice() {
+        if (sorteadas >= quantidade) {
+            throw new NoSuchElementException("Todas as " + quantidade + " perguntas do banco já foram sorteadas.");
+        }
+        int k = sorteadas++;
+        int j = k + aleatorio.nextInt(quantidade - k);
+        int escolhido = ler(j);
+        if (j != k) {
+            gravar(j, ler(k)); // a posição k não é mais lida
+        }
+        return escolhido;
+    }
+
+    // Perguntas ainda disponíveis para sorteio
+    public int restantes() {
+        return quantidade - sorteadas;
+    }
+
+    // Índice atualmente na posição (a própria posição se ela nunca foi trocada)
+    private int ler(int posicao) {
+        int mascara = posicoes.length - 1;
+        for (int i = espalhar(posicao) & mascara; ; i = (i + 1) & mascara) {
+            int p = posicoes[i];
+            if (p == posicao) return valores[i];
+            if (p == LIVRE) return posicao;
+        }
+    }
+
+    private void gravar(int posicao, int valor) {
+        int mascara = posicoes.length - 1;
+        for (int i = espalhar(posicao) & mascara; ; i = (i + 1) & mascara) {
+            int p = posicoes[i];
+            if (p == posicao) {
+                valores[i] = valor;
+                return;
+            }
+            if (p == LIVRE) {
+                posicoes[i] = posicao;
+                valores[i] = valor;
+                if (++ocupadas * 2 > posicoes.length) crescer();
+                return;
+            }
+        }
+    }
+
+    // Dobra a tabela quando passa da metade (mantém as sondagens curtas)
+    private void crescer() {
+        int[] antigasPosicoes = posicoes;
+        int[] antigosValores = valores;
+        posicoes = new int[antigasPosicoes.length * 2];
+        valores = new int[antigasPosicoes.length * 2];
+        Arrays.fill(posicoes, LIVRE);
+        ocupadas = 0;
+        for (int i = 0; i < antigasPosicoes.length; i++) {
+            if (antigasPosicoes[i] != LIVRE) gravar(antigasPosicoes[i], antigosValores[i]);
+        }
+    }
+
+    private static int espalhar(int posicao) {
+        int h = posicao * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Abstração de entrada e saída de uma sessão de jogo.
+ * Cada sessão (console local ou conexão de rede) possui o seu próprio terminal,
+ * em vez de todos compartilharem o System.in/System.out globais.
+ */
+public interface Terminal extends AutoCloseable {
+
+    /**
+     * Lê a próxima linha de entrada.
+     *
+     * @return Linha lida, sem o terminador
+     * @throws java.util.NoSuchElementException se a entrada terminou
+     */
+    String lerLinha();
+
+    /**
+     * Lê a próxima linha e retorna apenas o seu primeiro caractere visível
+     * (respostas e letras de uma única tecla).
+     *
+     * @return Primeiro caractere da linha, ou Rodada.SEM_RESPOSTA para uma linha em branco
+     * @throws java.util.NoSuchElementException se a entrada terminou
+     */
+    default char lerCaractere() {
+        String linha = lerLinha().trim();
+        return linha.isEmpty() ? Rodada.SEM_RESPOSTA : linha.charAt(0);
+    }
+
+    /**
+     * Lê um caractere como lerCaractere(), mas desiste quando o prazo acaba. Uma linha que
+     * chegar depois do prazo, mas antes da próxima leitura deste terminal, é descartada (não é
+     * corrigida contra outra pergunta); a que chegar depois de a próxima leitura começar é dela.
+     * O padrão ignora o prazo (terminais cuja entrada nunca espera pelo usuário).
+     *
+     * @param prazoNanos Tempo máximo de espera, em nanossegundos
+     * @return Primeiro caractere da linha, ou Rodada.SEM_RESPOSTA para uma linha em branco ou prazo esgotado
+     * @throws java.util.NoSuchElementException se a entrada terminou
+     */
+    default char lerCaractere(long prazoNanos) {
+        return lerCaractere();
+    }
+
+    // Escreve um texto sem quebra de linha
+    void imprimir(String texto);
+
+    // Escreve um texto seguido de quebra de linha
+    void imprimirLinha(String texto);
+
+    // Escreve uma linha vazia
+    default void imprimirLinha() {
+        imprimirLinha("");
+    }
+
+    // Escreve um texto formatado (mesma sintaxe de String.format)
+    default void imprimirFormatado(String formato, Object... args) {
+        imprimir(String.format(formato, args));
+    }
+
+    /**
+     * Exibe um evento do jogo, montando o texto com ou sem cores conforme o terminal.
+     *
+     * @param evento Evento a exibir
+     */
+    default void exibir(EventoExibicao evento) {
+        StringBuilder texto = new StringBuilder(128);
+        evento.renderizar(texto, isCores());
+        imprimir(texto.toString());
+    }
+
+    // Indica se os eventos são exibidos com cores ANSI
+    default boolean isCores() {
+        return false;
+    }
+
+    // Indica se há alguém vendo a saída; só então a pausa visual de verificação é feita
+    default boolean isInterativo() {
+        return true;
+    }
+
+    // Garante que tudo o que foi escrito chegue ao destino
+    void descarregar();
+
+    // Libera os recursos da sessão (no console, apenas descarrega a saída)
+    @Override
+    void close();
+
+    /**
+     * Retorna o terminal compartilhado do console (System.in/System.out).
+     *
+     * @return Instância única do terminal de console
+     */
+    static Terminal console() {
+        return TerminalFluxo.CONSOLE;
+    }
+
+    /**
+     * Retorna um terminal que descarta a saída e não possui entrada.
+     *
+     * @return Instância única do terminal nulo
+     */
+    static Terminal nulo() {
+        return TerminalNulo.INSTANCIA;
+    }
+}
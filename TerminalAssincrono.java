@@ -0,0 +1,212 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Terminal que tira a escrita da thread do jogo.
+ * Textos e eventos de exibição são enfileirados e uma thread escritora monta o texto
+ * (com ou sem cores, conforme o terminal de destino) e o escreve em lotes, com um único
+ * descarregamento por lote. Assim uma saída lenta ou redirecionada não bloqueia o jogo.
+ *
+ * A fila é limitada: se o destino não acompanhar, quem escreve espera (sem crescer a memória).
+ * Antes de cada leitura a fila é esvaziada, para que o prompt chegue ao usuário primeiro.
+ */
+public class TerminalAssincrono implements Terminal {
+    // Quantidade padrão de textos/eventos pendentes antes de quem escreve esperar
+    public static final int CAPACIDADE_PADRAO = 64 * 1024;
+
+    // Acima disso o buffer de montagem é descartado após o lote, para não reter memória
+    private static final int MAX_BUFFER_RETIDO = 1 << 20;
+
+    private final Terminal destino;
+    private final boolean cores;
+    private final int capacidade;
+    private final Thread escritora;
+
+    private List<EventoExibicao> pendentes = new ArrayList<>(); // Ainda não escritos
+    private List<EventoExibicao> lote = new ArrayList<>();      // Em escrita
+    private long enfileirados; // Total já enfileirado
+    private long escritos;     // Total já escrito e descarregado no destino
+    private long lotes;        // Quantidade de lotes escritos
+    private RuntimeException falha;
+    private boolean fechado;
+
+    /**
+     * Construtor com a capacidade padrão.
+     *
+     * @param destino Terminal onde o texto é efetivamente escrito (e de onde a entrada é lida)
+     */
+    public TerminalAssincrono(Terminal destino) {
+        this(destino, CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Construtor do terminal assíncrono.
+     *
+     * @param destino Terminal onde o texto é efetivamente escrito (e de onde a entrada é lida)
+     * @param capacidade Textos/eventos pendentes antes de quem escreve esperar
+     */
+    public TerminalAssincrono(Terminal destino, int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("A capacidade deve ser positiva.");
+        }
+        this.destino = Objects.requireNonNull(destino, "Terminal de destino não pode ser nulo");
+        this.cores = destino.isCores();
+        this.capacidade = capacidade;
+
+        this.escritora = new Thread(this::escreverLotes, "terminal-escritor");
+        this.escritora.setDaemon(true);
+        this.escritora.start();
+    }
+
+    @Override
+    public String lerLinha() {
+        descarregar();
+        return destino.lerLinha();
+    }
+
+    @Override
+    public char lerCaractere() {
+        descarregar();
+        return destino.lerCaractere();
+    }
+
+    @Override
+    public char lerCaractere(long prazoNanos) {
+        descarregar();
+        return destino.lerCaractere(prazoNanos);
+    }
+
+    @Override
+    public void imprimir(String texto) {
+        enfileirar(new EventoExibicao.Texto(texto, false));
+    }
+
+    @Override
+    public void imprimirLinha(String texto) {
+        enfileirar(new EventoExibicao.Texto(texto, true));
+    }
+
+    @Override
+    public void exibir(EventoExibicao evento) {
+        enfileirar(Objects.requireNonNull(evento, "Evento não pode ser nulo"));
+    }
+
+    @Override
+    public boolean isCores() {
+        return cores;
+    }
+
+    @Override
+    public boolean isInterativo() {
+        return destino.isInterativo();
+    }
+
+    // Enfileira um evento, esperando se a fila estiver cheia
+    private synchronized void enfileirar(EventoExibicao evento) {
+        while (pendentes.size() >= capacidade && falha == null && !fechado) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break; // enfileira mesmo assim: a saída não é perdida
+            }
+        }
+        if (falha != null) throw falha;
+        if (fechado) throw new IllegalStateException("Terminal fechado.");
+
+        pendentes.add(evento);
+        if (enfileirados++ == escritos) notifyAll(); // a escritora pode estar parada
+    }
+
+    /**
+     * Aguarda até que tudo o que foi enfileirado esteja escrito e descarregado no destino.
+     */
+    @Override
+    public void descarregar() {
+        synchronized (this) {
+            long alvo = enfileirados;
+            while (escritos < alvo && falha == null && !fechado) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (falha != null) throw falha;
+        }
+    }
+
+    // Quantidade de lotes escritos até agora (cada um com um único descarregamento)
+    public synchronized long getLotes() {
+        return lotes;
+    }
+
+    /**
+     * Escreve o que estiver pendente e fecha o terminal de destino.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            fechado = true;
+            notifyAll();
+        }
+        try {
+            escritora.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        destino.close();
+    }
+
+    // Laço da thread escritora: monta o texto do lote inteiro e faz uma única escrita
+    private void escreverLotes() {
+        StringBuilder texto = new StringBuilder(8192);
+        while (true) {
+            synchronized (this) {
+                while (pendentes.isEmpty() && !fechado) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (pendentes.isEmpty()) return; // fechado
+
+                List<EventoExibicao> t = lote;
+                lote = pendentes;
+                pendentes = t;
+                notifyAll(); // libera quem esperava por espaço na fila
+            }
+
+            try {
+                for (EventoExibicao evento : lote) {
+                    evento.renderizar(texto, cores);
+                }
+                destino.imprimir(texto.toString());
+                destino.descarregar();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    falha = e;
+                    notifyAll();
+                }
+                return;
+            }
+
+            int quantidade = lote.size();
+            lote.clear();
+            if (texto.capacity() > MAX_BUFFER_RETIDO) {
+                texto = new StringBuilder(8192);
+            } else {
+                texto.setLength(0);
+            }
+
+            synchronized (this) {
+                escritos += quantidade;
+                lotes++;
+                notifyAll();
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Terminal baseado em fluxos de bytes (console ou socket).
+ * A saída é bufferizada e descarregada antes de cada leitura, para que o prompt
+ * sempre chegue ao usuário antes de o jogo aguardar a resposta.
+ * A entrada é lida por um LeitorLinhas; os terminais do console compartilham o leitor
+ * único do System.in, para que um não consuma as linhas destinadas a outro.
+ *
+ * Na leitura com prazo a linha é lida por uma thread virtual e quem espera é acordado pela linha
+ * ou pela RodaPrazos compartilhada, o que vier primeiro (sem um temporizador por jogador).
+ * Se o prazo vence, a leitura continua pendente: a linha que chegar antes da próxima leitura começar
+ * é a resposta atrasada ao prompt vencido e é descartada; a que chegar depois (já com o novo prompt
+ * na tela) vai para a próxima leitura.
+ */
+public class TerminalFluxo implements Terminal {
+    // Terminal do console, compartilhado por todo o processo
+    static final TerminalFluxo CONSOLE = new TerminalFluxo(LeitorLinhas.entradaPadrao(), System.out, 8192,
+            true, null, true);
+
+    // Threads virtuais das leituras com prazo (compartilhadas entre terminais)
+    private static final ExecutorService LEITORES = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final LeitorLinhas entrada;
+    private final PrintWriter saida;
+    private final boolean autoDescarregar;
+    private final boolean cores;
+    private final Closeable recurso; // Recurso fechado junto com o terminal (ex.: socket)
+    private final ReentrantLock travaPendente = new ReentrantLock();
+    private CompletableFuture<String> leituraPendente; // Leitura com prazo vencido ainda em andamento
+
+    /**
+     * Construtor do terminal.
+     *
+     * @param in Fluxo de entrada
+     * @param out Fluxo de saída
+     * @param tamanhoBuffer Tamanho dos buffers de leitura e escrita, em caracteres
+     * @param autoDescarregar true para descarregar a saída a cada linha escrita
+     * @param recurso Recurso a ser fechado com o terminal (pode ser null)
+     */
+    public TerminalFluxo(InputStream in, OutputStream out, int tamanhoBuffer,
+                         boolean autoDescarregar, Closeable recurso) {
+        this(in, out, tamanhoBuffer, autoDescarregar, recurso, true);
+    }
+
+    /**
+     * Construtor do terminal com escolha de cores.
+     *
+     * @param in Fluxo de entrada
+     * @param out Fluxo de saída
+     * @param tamanhoBuffer Tamanho dos buffers de leitura e escrita
+     * @param autoDescarregar true para descarregar a saída a cada linha escrita
+     * @param recurso Recurso a ser fechado com o terminal (pode ser null)
+     * @param cores true para exibir os eventos com cores ANSI
+     */
+    public TerminalFluxo(InputStream in, OutputStream out, int tamanhoBuffer,
+                         boolean autoDescarregar, Closeable recurso, boolean cores) {
+        this(new LeitorLinhas(in, tamanhoBuffer), out, tamanhoBuffer, autoDescarregar, recurso, cores);
+    }
+
+    /**
+     * Construtor do terminal sobre um leitor já existente (ex.: o leitor único do System.in).
+     *
+     * @param entrada Leitor de linhas da entrada
+     * @param out Fluxo de saída
+     * @param tamanhoBuffer Tamanho do buffer de escrita, em caracteres
+     * @param autoDescarregar true para descarregar a saída a cada linha escrita
+     * @param recurso Recurso a ser fechado com o terminal (pode ser null)
+     * @param cores true para exibir os eventos com cores ANSI
+     */
+    public TerminalFluxo(LeitorLinhas entrada, OutputStream out, int tamanhoBuffer,
+                         boolean autoDescarregar, Closeable recurso, boolean cores) {
+        this.entrada = Objects.requireNonNull(entrada, "Leitor de entrada não pode ser nulo");
+        this.saida = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8), tamanhoBuffer), false);
+        this.autoDescarregar = autoDescarregar;
+        this.recurso = recurso;
+        this.cores = cores;
+    }
+
+    // A leitura pendente é retirada antes de o novo prompt ser descarregado: uma linha que já chegou
+    // foi digitada antes de o usuário ver este prompt
+    @Override
+    public String lerLinha() {
+        CompletableFuture<String> pendente = retirarPendente();
+        saida.flush();
+        return pendente != null ? aguardar(pendente) : entrada.lerLinha();
+    }
+
+    @Override
+    public char lerCaractere() {
+        CompletableFuture<String> pendente = retirarPendente();
+        saida.flush();
+        return pendente != null ? primeiroCaractere(aguardar(pendente)) : entrada.lerCaractere();
+    }
+
+    @Override
+    public char lerCaractere(long prazoNanos) {
+        CompletableFuture<String> leitura = retirarPendente();
+        saida.flush();
+        if (leitura == null) {
+            leitura = CompletableFuture.supplyAsync(entrada::lerLinha, LEITORES);
+        }
+
+        // Completada pela linha ou, antes dela, pelo prazo (null)
+        CompletableFuture<String> espera = new CompletableFuture<>();
+        leitura.whenComplete((linha, erro) -> {
+            if (erro != null) espera.completeExceptionally(erro);
+            else espera.complete(linha);
+        });
+        RodaPrazos.Agendamento prazo = RodaPrazos.compartilhada().agendar(prazoNanos, () -> espera.complete(null));
+        String linha;
+        try {
+            linha = espera.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            linha = null; // Coleta cancelada: tratada como prazo esgotado
+        } catch (ExecutionException e) {
+            throw repassar(e);
+        } finally {
+            prazo.cancelar();
+        }
+
+        if (linha == null) {
+            devolverPendente(leitura);
+            return Rodada.SEM_RESPOSTA;
+        }
+        return primeiroCaractere(linha);
+    }
+
+    // Mesma regra de Terminal.lerCaractere(): primeiro caractere visível da linha
+    private static char primeiroCaractere(String linha) {
+        String s = linha.trim();
+        return s.isEmpty() ? Rodada.SEM_RESPOSTA : s.charAt(0);
+    }
+
+    // Leitura com prazo vencido que ainda pode servir a esta leitura: a que já trouxe a linha
+    // (resposta atrasada ao prompt anterior) é descartada; o fim da entrada ou um erro são mantidos
+    private CompletableFuture<String> retirarPendente() {
+        travaPendente.lock();
+        try {
+            CompletableFuture<String> pendente = leituraPendente;
+            leituraPendente = null;
+            if (pendente != null && pendente.isDone() && !pendente.isCompletedExceptionally()) {
+                return null;
+            }
+            return pendente;
+        } finally {
+            travaPendente.unlock();
+        }
+    }
+
+    private void devolverPendente(CompletableFuture<String> leitura) {
+        travaPendente.lock();
+        try {
+            // Outra leitura já pendente (leituras simultâneas no mesmo terminal): a mais antiga fica
+            if (leituraPendente == null) leituraPendente = leitura;
+        } finally {
+            travaPendente.unlock();
+        }
+    }
+
+    // Espera uma leitura, repassando o fim da entrada e os erros de E/S como na leitura direta
+    private static String aguardar(CompletableFuture<String> leitura) {
+        try {
+            return leitura.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Leitura interrompida.", e);
+        } catch (ExecutionException e) {
+            throw repassar(e);
+        }
+    }
+
+    private static RuntimeException repassar(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException r) return r;
+        return new NoSuchElementException("Falha na leitura da entrada.");
+    }
+
+    @Override
+    public void imprimir(String texto) {
+        saida.print(texto);
+    }
+
+    @Override
+    public void imprimirLinha(String texto) {
+        saida.println(texto);
+        if (autoDescarregar) saida.flush();
+    }
+
+    @Override
+    public void exibir(EventoExibicao evento) {
+        Terminal.super.exibir(evento);
+        if (autoDescarregar) saida.flush();
+    }
+
+    @Override
+    public boolean isCores() {
+        return cores;
+    }
+
+    @Override
+    public void descarregar() {
+        saida.flush();
+    }
+
+    @Override
+    public void close() {
+        saida.flush();
+        if (recurso == null) return;
+        try {
+            recurso.close();
+        } catch (IOException e) {
+            // Conexão já encerrada: nada a fazer
+        }
+    }
+}
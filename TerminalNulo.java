@@ -0,0 +1,52 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Terminal sem entrada e que descarta toda a saída.
+ * Usado por bots, roteiros e simulações, que não têm ninguém olhando a tela.
+ */
+final class TerminalNulo implements Terminal {
+    static final TerminalNulo INSTANCIA = new TerminalNulo();
+
+    private TerminalNulo() {
+    }
+
+    @Override
+    public String lerLinha() {
+        throw new NoSuchElementException("Terminal nulo não possui entrada.");
+    }
+
+    @Override
+    public void imprimir(String texto) {
+    }
+
+    @Override
+    public void imprimirLinha(String texto) {
+    }
+
+    @Override
+    public void imprimirLinha() {
+    }
+
+    @Override
+    public void imprimirFormatado(String formato, Object... args) {
+        // Não formata: evita o custo de String.format sem destino
+    }
+
+    @Override
+    public void exibir(EventoExibicao evento) {
+        // Não monta o texto do evento
+    }
+
+    @Override
+    public boolean isInterativo() {
+        return false;
+    }
+
+    @Override
+    public void descarregar() {
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,484 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Coordenador de um torneio dividido entre vários processos (JVMs) locais.
+ *
+ * Um Jogo guarda todos os jogadores em uma lista de um único processo. No torneio distribuído
+ * os jogadores (bots) são divididos em faixas contíguas, uma por TrabalhadorTorneio, e cada
+ * trabalhador joga as rodadas da sua faixa. O coordenador só envia as letras corretas de cada
+ * rodada e recebe resumos de poucos bytes pelo loopback, então as rodadas das faixas correm em
+ * paralelo e o tempo cai quase na proporção do número de trabalhadores (havendo núcleos livres).
+ *
+ * Ao final cada faixa devolve os seus líderes (maior pontuação, depois menos pulos) e os seus
+ * melhores colocados; como as faixas estão na ordem de cadastro, juntar os líderes das faixas que
+ * empatam no melhor par (pontuação, pulos) dá exatamente Jogo.verificarVencedorFinal, e juntar os
+ * placares das faixas dá Jogo.topJogadores.
+ *
+ * Um trabalhador que morre (fim da conexão) ou não responde dentro do prazo é encerrado e a
+ * sua faixa é refeita em um novo processo, que repete as rodadas já jogadas: as respostas dos
+ * bots não dependem do processo, então o resultado é o mesmo de um torneio sem quedas.
+ *
+ * Uso: java TorneioDistribuido [jogadores] [trabalhadores] [--config especificacao]
+ *      [--semente n] [--acerto p] [--pulo p] [--verificar]
+ */
+public class TorneioDistribuido implements AutoCloseable {
+    // Prazo padrão para a resposta de um trabalhador a cada comando
+    public static final Duration PRAZO_PADRAO = Duration.ofSeconds(60);
+
+    // Processos novos aceitos por faixa depois de quedas, antes de desistir do torneio
+    static final int REINICIOS_POR_FAIXA = 2;
+
+    private final int jogadores;
+    private final ConfiguracaoJogo configuracao;
+    private final long semente;
+    private final double probAcerto;
+    private final double probPulo;
+    private final Faixa[] faixas;
+    private final ServerSocket servidor;
+    private Duration prazo = PRAZO_PADRAO;
+    private int reinicios;
+
+    /**
+     * Resultado global do torneio.
+     *
+     * @param pontuacao Pontuação do(s) vencedor(es)
+     * @param pulos Pulos do(s) vencedor(es)
+     * @param vencedores Índices dos vencedores, em ordem de cadastro (mais de um = empate completo)
+     * @param placar Melhores colocados como trios (índice, pontuação, pulos), como em Jogo.topJogadores
+     * @param rodadasSemVencedor Rodadas em que Rodada.verificarVencedor daria empate
+     * @param reinicios Trabalhadores substituídos depois de uma queda
+     */
+    public record Resultado(int pontuacao, int pulos, int[] vencedores, int[] placar,
+                            int rodadasSemVencedor, int reinicios) {
+    }
+
+    // Um trabalhador e a faixa de jogadores [inicio, fim) que ele joga
+    private static final class Faixa {
+        final int numero;
+        final int inicio;
+        final int fim;
+        Process processo;
+        Socket socket;
+        DataInputStream in;
+        DataOutputStream out;
+        int reinicios;
+
+        Faixa(int numero, int inicio, int fim) {
+            this.numero = numero;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+    }
+
+    /**
+     * Cria o torneio e abre a porta de loopback onde os trabalhadores se conectam.
+     *
+     * @param jogadores Quantidade de jogadores (bots)
+     * @param trabalhadores Quantidade de processos trabalhadores
+     * @param configuracao Regras do torneio
+     * @param semente Semente das perguntas e das respostas
+     * @param probAcerto Probabilidade de acerto dos bots (0 a 1)
+     * @param probPulo Probabilidade de pulo dos bots, quando podem pular (0 a 1)
+     * @throws IOException se a porta não puder ser aberta
+     */
+    public TorneioDistribuido(int jogadores, int trabalhadores, ConfiguracaoJogo configuracao, long semente,
+                              double probAcerto, double probPulo) throws IOException {
+        if (jogadores < 2) {
+            throw new IllegalArgumentException("Devem existir pelo menos 2 jogadores.");
+        }
+        if (trabalhadores < 1 || trabalhadores > jogadores) {
+            throw new IllegalArgumentException("A quantidade de trabalhadores deve estar entre 1 e "
+                    + jogadores + ".");
+        }
+        if (probAcerto < 0 || probAcerto > 1 || probPulo < 0 || probPulo > 1) {
+            throw new IllegalArgumentException("Probabilidades devem estar entre 0 e 1.");
+        }
+        this.jogadores = jogadores;
+        this.configuracao = Objects.requireNonNull(configuracao, "Configuração não pode ser nula");
+        this.semente = semente;
+        this.probAcerto = probAcerto;
+        this.probPulo = probPulo;
+        this.faixas = new Faixa[trabalhadores];
+        for (int k = 0; k < trabalhadores; k++) {
+            faixas[k] = new Faixa(k, (int) ((long) jogadores * k / trabalhadores),
+                    (int) ((long) jogadores * (k + 1) / trabalhadores));
+        }
+        this.servidor = new ServerSocket(0, trabalhadores, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Define o prazo para a resposta de um trabalhador; passado o prazo, ele é tratado como morto.
+     *
+     * @param prazo Prazo positivo
+     */
+    public void setPrazo(Duration prazo) {
+        if (prazo == null || prazo.isNegative() || prazo.isZero()) {
+            throw new IllegalArgumentException("O prazo deve ser positivo.");
+        }
+        this.prazo = prazo;
+    }
+
+    /**
+     * Joga o torneio: inicia os trabalhadores, joga as rodadas e junta as classificações das faixas.
+     *
+     * @return Resultado global
+     * @throws IOException se não for possível iniciar os trabalhadores ou uma faixa cair vezes demais
+     */
+    public Resultado jogar() throws IOException {
+        for (Faixa f : faixas) iniciarProcesso(f);
+        for (Faixa f : faixas) conectar(f, List.of());
+
+        // Letras corretas de todas as rodadas, guardadas para refazer a faixa de quem cair
+        SplittableRandom aleatorio = new SplittableRandom(semente);
+        List<byte[]> rodadas = new ArrayList<>(configuracao.getRodadas());
+        int alternativas = configuracao.getAlternativasPorPergunta();
+        int rodadasSemVencedor = 0;
+
+        for (int r = 1; r <= configuracao.getRodadas(); r++) {
+            byte[] corretas = new byte[configuracao.getPerguntasPorRodada()];
+            for (int k = 0; k < corretas.length; k++) corretas[k] = (byte) ('a' + aleatorio.nextInt(alternativas));
+            rodadas.add(corretas);
+
+            // Envia a rodada a todos antes de ler qualquer resposta: as faixas jogam em paralelo
+            for (Faixa f : faixas) {
+                try {
+                    enviarRodada(f, r, corretas);
+                } catch (IOException e) {
+                    substituir(f, rodadas.subList(0, r - 1), e);
+                    enviarRodada(f, r, corretas);
+                }
+            }
+
+            // Rodada.verificarVencedor: há vencedor só se um único jogador tem o máximo de acertos
+            int max = Integer.MIN_VALUE;
+            int noMaximo = 0;
+            for (Faixa f : faixas) {
+                int[] resumo = lerResumoRodada(f, r, rodadas);
+                if (resumo[0] > max) {
+                    max = resumo[0];
+                    noMaximo = resumo[1];
+                } else if (resumo[0] == max) {
+                    noMaximo += resumo[1];
+                }
+            }
+            if (noMaximo != 1) rodadasSemVencedor++;
+        }
+
+        return juntar(rodadas, rodadasSemVencedor);
+    }
+
+    // Lê o resumo da rodada de uma faixa; se o trabalhador caiu, refaz a faixa até esta rodada
+    private int[] lerResumoRodada(Faixa f, int r, List<byte[]> rodadas) throws IOException {
+        while (true) {
+            try {
+                return new int[]{f.in.readInt(), f.in.readInt()};
+            } catch (IOException e) {
+                substituir(f, rodadas.subList(0, r - 1), e);
+                enviarRodada(f, r, rodadas.get(r - 1));
+            }
+        }
+    }
+
+    // Pede a classificação de cada faixa e junta tudo na ordem de cadastro
+    private Resultado juntar(List<byte[]> rodadas, int rodadasSemVencedor) throws IOException {
+        List<TrabalhadorTorneio.Classificacao> classificacoes = new ArrayList<>(faixas.length);
+        for (Faixa f : faixas) {
+            while (true) {
+                try {
+                    f.out.writeByte(TrabalhadorTorneio.FIM);
+                    f.out.flush();
+                    classificacoes.add(lerClassificacao(f.in));
+                    break;
+                } catch (IOException e) {
+                    substituir(f, rodadas, e);
+                }
+            }
+            encerrar(f, false);
+        }
+
+        // Melhor par (maior pontuação, menos pulos) entre os líderes das faixas
+        int maxPontos = Integer.MIN_VALUE;
+        int minPulos = Integer.MAX_VALUE;
+        for (TrabalhadorTorneio.Classificacao c : classificacoes) {
+            if (c.pontuacao() > maxPontos || (c.pontuacao() == maxPontos && c.pulos() < minPulos)) {
+                maxPontos = c.pontuacao();
+                minPulos = c.pulos();
+            }
+        }
+        int[] vencedores = new int[0];
+        List<int[]> placar = new ArrayList<>();
+        for (TrabalhadorTorneio.Classificacao c : classificacoes) {
+            if (c.pontuacao() == maxPontos && c.pulos() == minPulos) {
+                int antes = vencedores.length;
+                vencedores = Arrays.copyOf(vencedores, antes + c.lideres().length);
+                System.arraycopy(c.lideres(), 0, vencedores, antes, c.lideres().length);
+            }
+            int[] p = c.placar();
+            for (int t = 0; t < p.length; t += 3) placar.add(new int[]{p[t], p[t + 1], p[t + 2]});
+        }
+
+        // Placar global: maior pontuação, empates na ordem de cadastro (como Jogo.topJogadores)
+        placar.sort((a, b) -> a[1] != b[1] ? Integer.compare(b[1], a[1]) : Integer.compare(a[0], b[0]));
+        int tamanho = Math.min(Jogo.TAMANHO_PLACAR, placar.size());
+        int[] top = new int[3 * tamanho];
+        for (int t = 0; t < tamanho; t++) System.arraycopy(placar.get(t), 0, top, 3 * t, 3);
+
+        return new Resultado(maxPontos, minPulos, vencedores, top, rodadasSemVencedor, reinicios);
+    }
+
+    private static TrabalhadorTorneio.Classificacao lerClassificacao(DataInputStream in) throws IOException {
+        int pontuacao = in.readInt();
+        int pulos = in.readInt();
+        int[] lideres = new int[in.readInt()];
+        for (int i = 0; i < lideres.length; i++) lideres[i] = in.readInt();
+        int[] placar = new int[in.readInt()];
+        for (int i = 0; i < placar.length; i++) placar[i] = in.readInt();
+        return new TrabalhadorTorneio.Classificacao(pontuacao, pulos, lideres, placar);
+    }
+
+    private static void enviarRodada(Faixa f, int r, byte[] corretas) throws IOException {
+        f.out.writeByte(TrabalhadorTorneio.RODADA);
+        f.out.writeInt(r);
+        f.out.write(corretas);
+        f.out.flush();
+    }
+
+    /**
+     * Substitui um trabalhador que caiu: encerra o processo antigo, inicia outro para a mesma
+     * faixa e repete as rodadas já jogadas (descartando os resumos, que são os mesmos).
+     */
+    private void substituir(Faixa f, List<byte[]> jogadas, IOException causa) throws IOException {
+        boolean vivo = f.processo != null && f.processo.isAlive();
+        encerrar(f, true);
+        if (f.reinicios >= REINICIOS_POR_FAIXA) {
+            throw new IOException("O trabalhador " + f.numero + " caiu " + (f.reinicios + 1)
+                    + " vezes; torneio abandonado.", causa);
+        }
+        f.reinicios++;
+        reinicios++;
+        System.err.printf("Trabalhador %d (jogadores %d a %d) %s na rodada %d (%s); refazendo a faixa.%n",
+                f.numero, f.inicio, f.fim - 1, vivo ? "não respondeu" : "caiu", jogadas.size() + 1,
+                causa instanceof EOFException ? "conexão encerrada" : causa.getMessage());
+        iniciarProcesso(f);
+        conectar(f, jogadas);
+    }
+
+    // Inicia o processo de um trabalhador com a mesma JVM e o mesmo classpath do coordenador
+    private void iniciarProcesso(Faixa f) throws IOException {
+        String java = ProcessHandle.current().info().command()
+                .orElse(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        ProcessBuilder pb = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                "TrabalhadorTorneio", String.valueOf(servidor.getLocalPort()), String.valueOf(f.numero));
+        pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        f.processo = pb.start();
+    }
+
+    // Aceita a conexão do trabalhador da faixa, envia a faixa e repete as rodadas já jogadas
+    private void conectar(Faixa f, List<byte[]> jogadas) throws IOException {
+        servidor.setSoTimeout((int) Math.min(Integer.MAX_VALUE, prazo.toMillis()));
+        while (f.socket == null) {
+            Socket socket;
+            try {
+                socket = servidor.accept();
+            } catch (SocketTimeoutException e) {
+                throw new IOException("O trabalhador " + f.numero + " não se conectou dentro do prazo.", e);
+            }
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout((int) Math.min(Integer.MAX_VALUE, prazo.toMillis()));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            int numero = in.readInt();
+            Faixa dona = numero >= 0 && numero < faixas.length ? faixas[numero] : null;
+            if (dona == null || dona.socket != null) {
+                socket.close(); // conexão inesperada (ex.: processo antigo ainda de pé)
+                continue;
+            }
+            dona.socket = socket;
+            dona.in = in;
+            dona.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        }
+
+        DataOutputStream out = f.out;
+        out.writeByte(TrabalhadorTorneio.INICIO);
+        out.writeInt(configuracao.getRodadas());
+        out.writeInt(configuracao.getPerguntasPorRodada());
+        out.writeInt(configuracao.getAlternativasPorPergunta());
+        out.writeInt(configuracao.getPontosAcerto());
+        out.writeInt(configuracao.getPontosErro());
+        out.writeInt(configuracao.getPulosPorRodada());
+        out.writeLong(semente);
+        out.writeDouble(probAcerto);
+        out.writeDouble(probPulo);
+        out.writeInt(f.inicio);
+        out.writeInt(f.fim);
+        for (int r = 1; r <= jogadas.size(); r++) {
+            enviarRodada(f, r, jogadas.get(r - 1));
+            f.in.readInt();
+            f.in.readInt();
+        }
+        out.flush();
+    }
+
+    // Fecha a conexão do trabalhador e, se pedido (ou se ele não terminar), encerra o processo
+    private static void encerrar(Faixa f, boolean forcar) {
+        try {
+            if (f.socket != null) f.socket.close();
+        } catch (IOException e) {
+            // a conexão já estava perdida
+        }
+        f.socket = null;
+        f.in = null;
+        f.out = null;
+        if (f.processo != null) {
+            if (forcar) f.processo.destroyForcibly();
+            f.processo = null;
+        }
+    }
+
+    // Quantidade de jogadores do torneio
+    public int getJogadores() {
+        return jogadores;
+    }
+
+    // PIDs dos trabalhadores em execução (-1 para quem não tem processo)
+    public long[] getPids() {
+        long[] pids = new long[faixas.length];
+        for (int k = 0; k < faixas.length; k++) {
+            Process p = faixas[k].processo;
+            pids[k] = p == null ? -1 : p.pid();
+        }
+        return pids;
+    }
+
+    /**
+     * Fecha a porta e encerra os trabalhadores que ainda estiverem de pé.
+     */
+    @Override
+    public void close() {
+        for (Faixa f : faixas) encerrar(f, true);
+        try {
+            servidor.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Joga o mesmo torneio em um único processo, com as classes do jogo (Jogador, Rodada e Jogo),
+     * para conferir o resultado distribuído.
+     */
+    static Resultado jogarLocal(int jogadores, ConfiguracaoJogo configuracao, long semente,
+                                double probAcerto, double probPulo) {
+        TrabalhadorTorneio faixa = new TrabalhadorTorneio(configuracao, semente, probAcerto, probPulo, 0, jogadores);
+        List<Jogador> lista = new ArrayList<>(jogadores);
+        for (int i = 0; i < jogadores; i++) lista.add(new Jogador("J" + i, new RespondenteRoteiro('a')));
+        Jogo jogo = new Jogo(new GameMaster("Coordenador"), lista, Terminal.nulo(), configuracao);
+
+        SplittableRandom aleatorio = new SplittableRandom(semente);
+        int alternativas = configuracao.getAlternativasPorPergunta();
+        int rodadasSemVencedor = 0;
+        Rodada verificacao = new Rodada(lista, Terminal.nulo(), configuracao); // Lê os contadores atuais
+        for (int r = 1; r <= configuracao.getRodadas(); r++) {
+            byte[] corretas = new byte[configuracao.getPerguntasPorRodada()];
+            for (int k = 0; k < corretas.length; k++) corretas[k] = (byte) ('a' + aleatorio.nextInt(alternativas));
+            faixa.jogarRodada(r, corretas);
+            faixa.getLote().copiarPara(lista);
+            if (verificacao.verificarVencedor() == null) rodadasSemVencedor++;
+        }
+
+        List<Jogador> vencedores = jogo.verificarVencedorFinal();
+        int[] indices = new int[vencedores.size()];
+        for (int i = 0; i < indices.length; i++) indices[i] = indiceDe(vencedores.get(i));
+        List<Jogador> top = jogo.topJogadores(Jogo.TAMANHO_PLACAR);
+        int[] placar = new int[3 * top.size()];
+        for (int t = 0; t < top.size(); t++) {
+            Jogador j = top.get(t);
+            placar[3 * t] = indiceDe(j);
+            placar[3 * t + 1] = j.getPontuacaoTotal();
+            placar[3 * t + 2] = j.getPulosTotal();
+        }
+        Jogador lider = vencedores.get(0);
+        return new Resultado(lider.getPontuacaoTotal(), lider.getPulosTotal(), indices, placar, rodadasSemVencedor, 0);
+    }
+
+    // Índice de um jogador criado por jogarLocal ("J" + índice)
+    private static int indiceDe(Jogador j) {
+        return Integer.parseInt(j.getNome().substring(1));
+    }
+
+    public static void main(String[] args) throws IOException {
+        int jogadores = 1_000_000;
+        int trabalhadores = Math.max(1, Runtime.getRuntime().availableProcessors());
+        ConfiguracaoJogo configuracao = ConfiguracaoJogo.PADRAO;
+        long semente = 42;
+        double probAcerto = 0.7;
+        double probPulo = 0.1;
+        boolean verificar = false;
+        int posicionais = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            if ("--config".equals(args[i]) && i + 1 < args.length) {
+                configuracao = ConfiguracaoJogo.de(args[++i]);
+            } else if ("--semente".equals(args[i]) && i + 1 < args.length) {
+                semente = Long.parseLong(args[++i]);
+            } else if ("--acerto".equals(args[i]) && i + 1 < args.length) {
+                probAcerto = Double.parseDouble(args[++i]);
+            } else if ("--pulo".equals(args[i]) && i + 1 < args.length) {
+                probPulo = Double.parseDouble(args[++i]);
+            } else if ("--verificar".equals(args[i])) {
+                verificar = true;
+            } else if (posicionais++ == 0) {
+                jogadores = Integer.parseInt(args[i]);
+            } else {
+                trabalhadores = Integer.parseInt(args[i]);
+            }
+        }
+
+        Resultado r;
+        long inicio = System.nanoTime();
+        try (TorneioDistribuido torneio = new TorneioDistribuido(jogadores, trabalhadores, configuracao,
+                semente, probAcerto, probPulo)) {
+            r = torneio.jogar();
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("%,d jogadores em %d trabalhador(es): %.2f s (%,.0f respostas/s)%n", jogadores,
+                trabalhadores, segundos, (double) jogadores * configuracao.getRodadas()
+                        * configuracao.getPerguntasPorRodada() / segundos);
+        System.out.printf("Vencedor(es): %d com %d pontos e %d pulos%s%n", r.vencedores().length, r.pontuacao(),
+                r.pulos(), r.vencedores().length > 1 ? " (empate)" : " (jogador " + r.vencedores()[0] + ")");
+        for (int t = 0; t < r.placar().length; t += 3) {
+            System.out.printf("  %2d. J%-10d %4d pontos, %d pulos%n", t / 3 + 1, r.placar()[t], r.placar()[t + 1],
+                    r.placar()[t + 2]);
+        }
+        System.out.printf("Rodadas sem vencedor: %d | trabalhadores substituídos: %d%n",
+                r.rodadasSemVencedor(), r.reinicios());
+
+        if (verificar) {
+            Resultado local = jogarLocal(jogadores, configuracao, semente, probAcerto, probPulo);
+            boolean igual = local.pontuacao() == r.pontuacao() && local.pulos() == r.pulos()
+                    && Arrays.equals(local.vencedores(), r.vencedores()) && Arrays.equals(local.placar(), r.placar())
+                    && local.rodadasSemVencedor() == r.rodadasSemVencedor();
+            System.out.println(igual ? "Conferido com Jogo.verificarVencedorFinal em um único processo: igual."
+                    : "DIVERGÊNCIA em relação ao jogo em um único processo!");
+            if (!igual) System.exit(1);
+        }
+    }
+}
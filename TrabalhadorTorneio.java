@@ -0,0 +1,274 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+
+/**
+ * Trabalhador do TorneioDistribuido: joga as rodadas de uma faixa de jogadores (bots)
+ * em um processo próprio e devolve ao coordenador só a classificação compacta da faixa.
+ *
+ * Os contadores da faixa ficam em uma PontuacaoEmLote (as mesmas regras do Jogador).
+ * A resposta de cada bot depende apenas da semente, do índice global do jogador e da pergunta,
+ * nunca da faixa: dividir os jogadores de outra forma, ou refazer uma faixa em outro processo
+ * depois de uma queda, produz exatamente os mesmos placares.
+ *
+ * Protocolo (DataOutputStream sobre um socket de loopback), iniciado pelo trabalhador:
+ * <ul>
+ *   <li>trabalhador → coordenador: número do trabalhador (int);</li>
+ *   <li>INICIO: regras (6 ints), semente, probabilidades de acerto e de pulo, faixa [início, fim);</li>
+ *   <li>RODADA: número da rodada e a letra correta de cada pergunta; resposta: maior quantidade de
+ *       acertos na rodada e quantos jogadores da faixa a atingiram;</li>
+ *   <li>FIM: resposta com a pontuação e os pulos dos líderes da faixa, os índices de todos eles
+ *       e os melhores colocados da faixa (índice, pontuação, pulos); o processo então termina.</li>
+ * </ul>
+ *
+ * Uso (pelo coordenador): java TrabalhadorTorneio porta numero
+ */
+public class TrabalhadorTorneio {
+    // Comandos do coordenador
+    static final byte INICIO = 0;
+    static final byte RODADA = 1;
+    static final byte FIM = 2;
+
+    private final ConfiguracaoJogo configuracao;
+    private final long semente;
+    private final double probAcerto;
+    private final double probPulo;
+    private final int inicio; // Índice global do primeiro jogador da faixa
+    private final PontuacaoEmLote lote;
+    private final byte[] respostas;
+    private final Pergunta[] perguntas; // Uma pergunta por letra correta
+
+    /**
+     * Maior quantidade de acertos de uma rodada na faixa (ver Rodada.verificarVencedor).
+     *
+     * @param maxAcertos Maior quantidade de acertos
+     * @param noMaximo Jogadores da faixa com essa quantidade
+     */
+    record ResumoRodada(int maxAcertos, int noMaximo) {
+    }
+
+    /**
+     * Classificação compacta da faixa ao final do torneio.
+     *
+     * @param pontuacao Pontuação dos líderes (maior pontuação)
+     * @param pulos Pulos dos líderes (menor número de pulos entre os de maior pontuação)
+     * @param lideres Índices globais dos líderes, em ordem crescente
+     * @param placar Melhores colocados por pontuação (empates na ordem de cadastro), como
+     *               trios (índice global, pontuação, pulos)
+     */
+    record Classificacao(int pontuacao, int pulos, int[] lideres, int[] placar) {
+    }
+
+    /**
+     * Cria o trabalhador de uma faixa.
+     *
+     * @param configuracao Regras do torneio
+     * @param semente Semente do torneio
+     * @param probAcerto Probabilidade de acerto dos bots
+     * @param probPulo Probabilidade de pulo dos bots, quando podem pular
+     * @param inicio Índice global do primeiro jogador da faixa
+     * @param fim Índice global seguinte ao último jogador da faixa
+     */
+    TrabalhadorTorneio(ConfiguracaoJogo configuracao, long semente, double probAcerto, double probPulo,
+                       int inicio, int fim) {
+        if (inicio < 0 || fim <= inicio) {
+            throw new IllegalArgumentException("Faixa de jogadores inválida: [" + inicio + ", " + fim + ").");
+        }
+        this.configuracao = configuracao;
+        this.semente = semente;
+        this.probAcerto = probAcerto;
+        this.probPulo = probPulo;
+        this.inicio = inicio;
+        this.lote = new PontuacaoEmLote(fim - inicio, configuracao);
+        this.respostas = new byte[fim - inicio];
+
+        int alternativas = configuracao.getAlternativasPorPergunta();
+        String[] textos = new String[alternativas];
+        for (int a = 0; a < alternativas; a++) textos[a] = String.valueOf((char) ('a' + a));
+        this.perguntas = new Pergunta[alternativas];
+        for (int a = 0; a < alternativas; a++) {
+            perguntas[a] = new Pergunta("Pergunta do torneio", textos, (char) ('a' + a));
+        }
+    }
+
+    /**
+     * Joga uma rodada: todos os jogadores da faixa respondem às mesmas perguntas.
+     *
+     * @param rodada Número da rodada (a partir de 1)
+     * @param corretas Letra correta de cada pergunta da rodada
+     * @return Maior quantidade de acertos da rodada na faixa
+     */
+    ResumoRodada jogarRodada(int rodada, byte[] corretas) {
+        lote.iniciarRodada();
+        int limitePulos = configuracao.getPulosPorRodada();
+        int alternativas = configuracao.getAlternativasPorPergunta();
+        for (int k = 0; k < corretas.length; k++) {
+            int pergunta = (rodada - 1) * corretas.length + k; // índice global da pergunta
+            char correta = (char) corretas[k];
+            for (int i = 0; i < respostas.length; i++) {
+                boolean podePular = lote.getPulosNaRodada(i) < limitePulos;
+                respostas[i] = (byte) responder(semente, inicio + i, pergunta, podePular,
+                        probAcerto, probPulo, correta, alternativas);
+            }
+            lote.corrigir(perguntas[correta - 'a'], respostas);
+        }
+
+        int max = Integer.MIN_VALUE;
+        int noMaximo = 0;
+        for (int i = 0; i < respostas.length; i++) {
+            int a = lote.getAcertosNaRodada(i);
+            if (a > max) {
+                max = a;
+                noMaximo = 1;
+            } else if (a == max) {
+                noMaximo++;
+            }
+        }
+        return new ResumoRodada(max, noMaximo);
+    }
+
+    /**
+     * Classifica a faixa com os mesmos critérios de Jogo.verificarVencedorFinal
+     * (maior pontuação, depois menos pulos) e de Jogo.topJogadores.
+     *
+     * @param tamanhoPlacar Quantidade de melhores colocados devolvidos
+     * @return Classificação compacta da faixa
+     */
+    Classificacao classificar(int tamanhoPlacar) {
+        int n = respostas.length;
+        int maxPontos = Integer.MIN_VALUE;
+        int minPulos = Integer.MAX_VALUE;
+        int lideres = 0;
+        for (int i = 0; i < n; i++) {
+            int pontos = lote.getPontuacaoTotal(i);
+            if (pontos < maxPontos) continue;
+            int pulos = lote.getPulosTotal(i);
+            if (pontos > maxPontos || pulos < minPulos) {
+                maxPontos = pontos;
+                minPulos = pulos;
+                lideres = 1;
+            } else if (pulos == minPulos) {
+                lideres++;
+            }
+        }
+        int[] indices = new int[lideres];
+        for (int i = 0, k = 0; k < lideres; i++) {
+            if (lote.getPontuacaoTotal(i) == maxPontos && lote.getPulosTotal(i) == minPulos) {
+                indices[k++] = inicio + i;
+            }
+        }
+
+        // Melhores colocados: inserção em um vetor ordenado de até tamanhoPlacar posições;
+        // um empate não desloca quem veio antes, como no heap de Jogo.topJogadores
+        int k = Math.min(tamanhoPlacar, n);
+        int[] top = new int[k];
+        int ocupados = 0;
+        for (int i = 0; i < n; i++) {
+            int pontos = lote.getPontuacaoTotal(i);
+            if (ocupados == k && pontos <= lote.getPontuacaoTotal(top[k - 1])) continue;
+            int pos = ocupados < k ? ocupados++ : k - 1;
+            while (pos > 0 && lote.getPontuacaoTotal(top[pos - 1]) < pontos) {
+                top[pos] = top[pos - 1];
+                pos--;
+            }
+            top[pos] = i;
+        }
+        int[] placar = new int[3 * ocupados];
+        for (int t = 0; t < ocupados; t++) {
+            placar[3 * t] = inicio + top[t];
+            placar[3 * t + 1] = lote.getPontuacaoTotal(top[t]);
+            placar[3 * t + 2] = lote.getPulosTotal(top[t]);
+        }
+        return new Classificacao(maxPontos, minPulos, indices, placar);
+    }
+
+    // Contadores da faixa (para conferência com as classes do jogo)
+    PontuacaoEmLote getLote() {
+        return lote;
+    }
+
+    /**
+     * Resposta de um bot, como a do RespondenteBot: pula com probabilidade probPulo se puder,
+     * senão acerta com probabilidade probAcerto ou escolhe uma alternativa errada.
+     * O sorteio é um hash de (semente, jogador, pergunta), sem estado.
+     */
+    static char responder(long semente, int jogador, int pergunta, boolean podePular,
+                          double probAcerto, double probPulo, char correta, int alternativas) {
+        long h = misturar(semente ^ misturar(((long) jogador << 32) | (pergunta & 0xFFFFFFFFL)));
+        if (podePular && probPulo > 0 && uniforme(h) < probPulo) {
+            return 'p';
+        }
+        h = misturar(h);
+        if (uniforme(h) < probAcerto) {
+            return correta;
+        }
+        int errada = (int) ((misturar(h) >>> 33) % (alternativas - 1));
+        if (errada >= correta - 'a') errada++;
+        return (char) ('a' + errada);
+    }
+
+    // Double uniforme em [0, 1) a partir dos 53 bits altos
+    private static double uniforme(long h) {
+        return (h >>> 11) * 0x1.0p-53;
+    }
+
+    // Finalizador do SplitMix64
+    private static long misturar(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Atende o coordenador até o comando FIM
+    private static void atender(DataInputStream in, DataOutputStream out) throws IOException {
+        TrabalhadorTorneio trabalhador = null;
+        while (true) {
+            byte comando = in.readByte();
+            if (comando == INICIO) {
+                ConfiguracaoJogo c = new ConfiguracaoJogo(in.readInt(), in.readInt(), in.readInt(),
+                        in.readInt(), in.readInt(), in.readInt());
+                trabalhador = new TrabalhadorTorneio(c, in.readLong(), in.readDouble(), in.readDouble(),
+                        in.readInt(), in.readInt());
+            } else if (comando == RODADA && trabalhador != null) {
+                int rodada = in.readInt();
+                byte[] corretas = new byte[trabalhador.configuracao.getPerguntasPorRodada()];
+                in.readFully(corretas);
+                ResumoRodada r = trabalhador.jogarRodada(rodada, corretas);
+                out.writeInt(r.maxAcertos());
+                out.writeInt(r.noMaximo());
+                out.flush();
+            } else if (comando == FIM && trabalhador != null) {
+                Classificacao c = trabalhador.classificar(Jogo.TAMANHO_PLACAR);
+                out.writeInt(c.pontuacao());
+                out.writeInt(c.pulos());
+                out.writeInt(c.lideres().length);
+                for (int i : c.lideres()) out.writeInt(i);
+                out.writeInt(c.placar().length);
+                for (int v : c.placar()) out.writeInt(v);
+                out.flush();
+                return;
+            } else {
+                throw new IOException("Comando inesperado do coordenador: " + comando);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: java TrabalhadorTorneio porta numero");
+            System.exit(2);
+        }
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), Integer.parseInt(args[0]))) {
+            socket.setTcpNoDelay(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+            out.writeInt(Integer.parseInt(args[1]));
+            out.flush();
+            atender(in, out);
+        }
+    }
+}
@@ -0,0 +1,589 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Transmissão de um Jogo para espectadores somente leitura: pergunta atual, quem já respondeu
+ * e, para cada jogador, pontuação total, acertos na rodada e pulos.
+ *
+ * Os eventos dos jogadores (OuvinteJogador) só marcam quem mudou. Uma thread publicadora junta
+ * as mudanças pendentes em um quadro DELTA versionado, com os valores atuais só dos jogadores
+ * alterados, codificado uma única vez: os mesmos bytes vão para todos os espectadores. Publica no
+ * máximo um quadro a cada 20 ms, e todas as respostas desse intervalo entram no mesmo quadro.
+ *
+ * Cada espectador tem uma thread virtual escritora e no máximo um quadro pendente. Um espectador
+ * lento que ainda não enviou o quadro anterior não acumula fila: o pendente vira "instantâneo",
+ * e quando a escritora voltar envia o INSTANTANEO mais recente (também codificado uma vez por
+ * versão e compartilhado por todos os atrasados). A memória por espectador é constante.
+ *
+ * Protocolo (DataOutputStream, só do servidor para o espectador), cada quadro:
+ * <ul>
+ *   <li>tamanho (int, bytes seguintes), tipo (INSTANTANEO ou DELTA), versão e versão base (longs),
+ *       estado (bit ENCERRADO);</li>
+ *   <li>pergunta: sempre no INSTANTANEO; no DELTA precedida de um byte 1 quando mudou (0 senão):
+ *       rodada, índice da pergunta na rodada (ints) e enunciado (UTF);</li>
+ *   <li>quantidade de jogadores no quadro e, para cada um: índice, nome (UTF, só no INSTANTANEO),
+ *       pontuação, acertos na rodada, pulos (ints) e se já respondeu a pergunta atual (boolean).</li>
+ * </ul>
+ * O espectador aplica um DELTA cuja base é a sua versão e descarta quadros de versão igual ou
+ * menor que a sua (um DELTA pode chegar logo depois do INSTANTANEO que já o contém).
+ */
+public final class TransmissaoJogo implements AutoCloseable {
+    // Tipos de quadro
+    static final byte INSTANTANEO = 1;
+    static final byte DELTA = 2;
+
+    // Bits do estado do quadro
+    static final byte ENCERRADO = 1;
+
+    // Intervalo mínimo entre dois quadros publicados: as mudanças desse intervalo vão no mesmo DELTA
+    private static final long INTERVALO_PUBLICACAO_NANOS = 20_000_000;
+
+    // Espera antes do primeiro quadro depois de um período sem mudanças
+    private static final long AGRUPAMENTO_NANOS = 1_000_000;
+
+    // Tempo que close() espera os espectadores receberem os últimos quadros
+    private static final long ESPERA_ENCERRAMENTO_MS = 2000;
+
+    // Quadro codificado, compartilhado por todos os espectadores que o recebem
+    record Quadro(long versao, byte[] bytes) {
+    }
+
+    // Marcador do pendente de um espectador atrasado: enviar o instantâneo mais recente
+    private static final Quadro ATRASADO = new Quadro(-1, new byte[0]);
+
+    private final Jogador[] jogadores;
+    private final OuvinteJogador[] ouvintes; // Removidos dos jogadores em close()
+
+    // Mudanças ainda não publicadas (travadas por this; os ouvintes já têm a trava do jogador)
+    private final boolean[] alterado;
+    private final int[] alterados;
+    private int quantidadeAlterados;
+    private final boolean[] respondeuAgora;
+    private boolean perguntaAlterada;
+    private int rodadaAgora;
+    private int perguntaAgora = -1;
+    private String enunciadoAgora = "";
+    private boolean encerradoAgora;
+
+    // Estado publicado, base dos instantâneos (travado por publicado)
+    private final Object publicado = new Object();
+    private final int[] pontuacao;
+    private final int[] acertos;
+    private final int[] pulos;
+    private final boolean[] respondeu;
+    private int rodada;
+    private int pergunta = -1;
+    private String enunciado = "";
+    private boolean encerrado;
+    private volatile long versao;        // Escrita só com a trava; lida sem ela
+    private volatile Quadro instantaneo; // Instantâneo da versão atual (criado quando algum espectador precisa)
+
+    private final CopyOnWriteArrayList<Espectador> espectadores = new CopyOnWriteArrayList<>();
+    private final Thread publicador;
+    private boolean fechada; // Travado por this
+
+    // Estatísticas da transmissão
+    private final LongAdder quadrosEnviados = new LongAdder();
+    private final LongAdder instantaneosEnviados = new LongAdder();
+    private final LongAdder bytesEnviados = new LongAdder();
+    private final LongAdder coalescidos = new LongAdder();
+    private final LongAdder bytesDeltas = new LongAdder();
+
+    /**
+     * Cria a transmissão e passa a acompanhar os jogadores.
+     *
+     * @param jogadores Jogadores do jogo, na ordem de cadastro (o índice de cada um no protocolo)
+     */
+    public TransmissaoJogo(List<Jogador> jogadores) {
+        this.jogadores = jogadores.toArray(new Jogador[0]);
+        int n = this.jogadores.length;
+        this.ouvintes = new OuvinteJogador[n];
+        this.alterado = new boolean[n];
+        this.alterados = new int[n];
+        this.respondeuAgora = new boolean[n];
+        this.pontuacao = new int[n];
+        this.acertos = new int[n];
+        this.pulos = new int[n];
+        this.respondeu = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            Jogador j = Objects.requireNonNull(this.jogadores[i], "Jogador não pode ser nulo");
+            pontuacao[i] = j.getPontuacaoTotal();
+            acertos[i] = j.getAcertosNaRodada();
+            pulos[i] = j.getPulosTotal();
+            ouvintes[i] = ouvinteDe(i);
+            j.adicionarOuvinte(ouvintes[i]);
+        }
+
+        this.publicador = new Thread(this::publicar, "transmissao-publicador");
+        this.publicador.setDaemon(true);
+        this.publicador.start();
+    }
+
+    // Ouvinte do jogador de índice i: só marca a mudança para o próximo quadro
+    private OuvinteJogador ouvinteDe(int indice) {
+        return new OuvinteJogador() {
+            @Override
+            public void pontuacaoAlterada(Jogador jogador, int delta) {
+                marcar(indice, false);
+            }
+
+            @Override
+            public void acertoRegistrado(Jogador jogador) {
+                marcar(indice, false);
+            }
+
+            @Override
+            public void acertosReiniciados(Jogador jogador) {
+                marcar(indice, false);
+            }
+
+            @Override
+            public void puloUsado(Jogador jogador) {
+                marcar(indice, true);
+            }
+
+            @Override
+            public void contadoresReiniciados(Jogador jogador) {
+                marcarReiniciado(indice);
+            }
+
+            @Override
+            public void respostaCorrigida(Jogador jogador, Pergunta pergunta, char resposta, boolean correta) {
+                marcar(indice, true);
+            }
+        };
+    }
+
+    private synchronized void marcar(int indice, boolean respondeu) {
+        if (respondeu) respondeuAgora[indice] = true;
+        if (!alterado[indice]) {
+            alterado[indice] = true;
+            alterados[quantidadeAlterados++] = indice;
+            if (quantidadeAlterados == 1 && !perguntaAlterada) notifyAll();
+        }
+    }
+
+    // Jogador reutilizado em um novo jogo: ainda não respondeu nada
+    private synchronized void marcarReiniciado(int indice) {
+        respondeuAgora[indice] = false;
+        marcar(indice, false);
+    }
+
+    /**
+     * Registra o início de uma pergunta: os espectadores passam a vê-la e ninguém a respondeu ainda.
+     * Chamado pela Rodada.
+     *
+     * @param rodada Número da rodada
+     * @param indice Índice da pergunta na rodada
+     * @param pergunta Pergunta iniciada
+     */
+    public synchronized void perguntaIniciada(int rodada, int indice, Pergunta pergunta) {
+        rodadaAgora = rodada;
+        perguntaAgora = indice;
+        enunciadoAgora = pergunta.getEnunciado();
+        for (int i = 0; i < respondeuAgora.length; i++) {
+            if (respondeuAgora[i]) {
+                respondeuAgora[i] = false;
+                if (!alterado[i]) {
+                    alterado[i] = true;
+                    alterados[quantidadeAlterados++] = i;
+                }
+            }
+        }
+        perguntaAlterada = true;
+        notifyAll();
+    }
+
+    // Marca o fim do jogo (bit ENCERRADO no próximo quadro)
+    public synchronized void jogoEncerrado() {
+        encerradoAgora = true;
+        perguntaAlterada = true;
+        notifyAll();
+    }
+
+    /**
+     * Começa um novo jogo com os mesmos jogadores (Jogo.reiniciar): limpa o fim do jogo e a
+     * pergunta atual. Os contadores zerados chegam pelos ouvintes dos jogadores.
+     */
+    public synchronized void reiniciar() {
+        encerradoAgora = false;
+        rodadaAgora = 0;
+        perguntaAgora = -1;
+        enunciadoAgora = "";
+        perguntaAlterada = true;
+        notifyAll();
+    }
+
+    // Laço da thread publicadora: um quadro DELTA por lote de mudanças
+    private void publicar() {
+        int[] lote = new int[jogadores.length];
+        boolean[] respondeuLote = new boolean[jogadores.length];
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        while (true) {
+            int n;
+            boolean mudouPergunta;
+            int r;
+            int p;
+            String e;
+            boolean fim;
+            long inicio;
+            boolean ociosa = false;
+            synchronized (this) {
+                while (quantidadeAlterados == 0 && !perguntaAlterada && !fechada) {
+                    ociosa = true;
+                    try {
+                        wait();
+                    } catch (InterruptedException ex) {
+                        return;
+                    }
+                }
+                if (quantidadeAlterados == 0 && !perguntaAlterada) return; // fechada, nada pendente
+            }
+            // Depois de ociosa, espera um pouco para que os vários eventos de uma resposta
+            // (e respostas quase simultâneas) saiam no mesmo quadro
+            if (ociosa && !isFechada()) LockSupport.parkNanos(this, AGRUPAMENTO_NANOS);
+            synchronized (this) {
+                inicio = System.nanoTime();
+                n = quantidadeAlterados;
+                for (int k = 0; k < n; k++) {
+                    int i = alterados[k];
+                    lote[k] = i;
+                    respondeuLote[k] = respondeuAgora[i];
+                    alterado[i] = false;
+                }
+                quantidadeAlterados = 0;
+                mudouPergunta = perguntaAlterada;
+                perguntaAlterada = false;
+                r = rodadaAgora;
+                p = perguntaAgora;
+                e = enunciadoAgora;
+                fim = encerradoAgora;
+            }
+
+            // Valores atuais lidos fora da trava da transmissão (cada getter usa a trava do jogador)
+            int[] valores = new int[3 * n];
+            for (int k = 0; k < n; k++) {
+                Jogador j = jogadores[lote[k]];
+                valores[3 * k] = j.getPontuacaoTotal();
+                valores[3 * k + 1] = j.getAcertosNaRodada();
+                valores[3 * k + 2] = j.getPulosTotal();
+            }
+
+            Quadro quadro;
+            synchronized (publicado) {
+                for (int k = 0; k < n; k++) {
+                    int i = lote[k];
+                    pontuacao[i] = valores[3 * k];
+                    acertos[i] = valores[3 * k + 1];
+                    pulos[i] = valores[3 * k + 2];
+                    respondeu[i] = respondeuLote[k];
+                }
+                if (mudouPergunta) {
+                    rodada = r;
+                    pergunta = p;
+                    enunciado = e;
+                    encerrado = fim;
+                }
+                long base = versao++;
+                buffer.reset();
+                try (DataOutputStream out = new DataOutputStream(buffer)) {
+                    iniciarQuadro(out, DELTA, base);
+                    out.writeBoolean(mudouPergunta);
+                    if (mudouPergunta) escreverPergunta(out);
+                    out.writeInt(n);
+                    for (int k = 0; k < n; k++) escreverJogador(out, lote[k], false);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex); // ByteArrayOutputStream não falha
+                }
+                quadro = new Quadro(versao, concluirQuadro(buffer));
+            }
+            bytesDeltas.add(quadro.bytes().length);
+
+            // O estado publicado já está na versão do quadro antes de qualquer espectador recebê-lo
+            for (Espectador espectador : espectadores) espectador.oferecer(quadro);
+
+            // Dá tempo às escritoras de entregarem o quadro antes do próximo
+            long proximo = inicio + INTERVALO_PUBLICACAO_NANOS;
+            while (!fim && System.nanoTime() < proximo && !isFechada()) {
+                LockSupport.parkNanos(this, proximo - System.nanoTime());
+            }
+        }
+    }
+
+    // Cabeçalho comum; o tamanho (4 primeiros bytes) é preenchido por concluirQuadro
+    private void iniciarQuadro(DataOutputStream out, byte tipo, long base) throws IOException {
+        out.writeInt(0);
+        out.writeByte(tipo);
+        out.writeLong(versao);
+        out.writeLong(base);
+        out.writeByte(encerrado ? ENCERRADO : 0);
+    }
+
+    private static byte[] concluirQuadro(ByteArrayOutputStream buffer) {
+        byte[] bytes = buffer.toByteArray();
+        int tamanho = bytes.length - 4;
+        bytes[0] = (byte) (tamanho >>> 24);
+        bytes[1] = (byte) (tamanho >>> 16);
+        bytes[2] = (byte) (tamanho >>> 8);
+        bytes[3] = (byte) tamanho;
+        return bytes;
+    }
+
+    private void escreverPergunta(DataOutputStream out) throws IOException {
+        out.writeInt(rodada);
+        out.writeInt(pergunta);
+        out.writeUTF(enunciado);
+    }
+
+    private void escreverJogador(DataOutputStream out, int i, boolean comNome) throws IOException {
+        out.writeInt(i);
+        if (comNome) out.writeUTF(jogadores[i].getNome());
+        out.writeInt(pontuacao[i]);
+        out.writeInt(acertos[i]);
+        out.writeInt(pulos[i]);
+        out.writeBoolean(respondeu[i]);
+    }
+
+    // Instantâneo da versão publicada atual, codificado uma vez por versão
+    private Quadro instantaneo() {
+        Quadro atual = instantaneo;
+        if (atual != null && atual.versao() == versao) return atual; // Caso comum, sem trava
+        synchronized (publicado) {
+            if (instantaneo == null || instantaneo.versao() != versao) {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream(64 + 32 * jogadores.length);
+                try (DataOutputStream out = new DataOutputStream(buffer)) {
+                    iniciarQuadro(out, INSTANTANEO, 0);
+                    escreverPergunta(out);
+                    out.writeInt(jogadores.length);
+                    for (int i = 0; i < jogadores.length; i++) escreverJogador(out, i, true);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                instantaneo = new Quadro(versao, concluirQuadro(buffer));
+            }
+            return instantaneo;
+        }
+    }
+
+    /**
+     * Inscreve um espectador: recebe o instantâneo atual e, depois, os quadros DELTA.
+     * A conexão é fechada quando a transmissão termina ou se a escrita falhar.
+     *
+     * @param socket Conexão do espectador (só escrita)
+     * @return Espectador inscrito
+     * @throws IOException se não for possível obter o fluxo de saída
+     * @throws IllegalStateException se a transmissão já foi encerrada (a conexão é fechada)
+     */
+    public Espectador inscrever(Socket socket) throws IOException {
+        socket.setTcpNoDelay(true);
+        Espectador e = new Espectador(socket, socket.getOutputStream());
+        // Com a mesma trava com que close() marca a transmissão como fechada: um espectador inscrito
+        // depois disso ficaria fora do encerramento, com a escritora e a conexão abertas
+        synchronized (this) {
+            if (fechada) {
+                e.fecharConexao();
+                throw new IllegalStateException("Transmissão encerrada.");
+            }
+            espectadores.add(e);
+            e.iniciar();
+        }
+        return e;
+    }
+
+    /**
+     * Aceita espectadores em um servidor até ele ou a transmissão serem fechados (em uma thread
+     * virtual). O servidor continua sendo de quem chamou.
+     *
+     * @param servidor Socket de escuta
+     * @return Thread que aceita as conexões
+     */
+    public Thread aceitarEspectadores(ServerSocket servidor) {
+        return Thread.ofVirtual().name("transmissao-aceitador").start(() -> {
+            while (!servidor.isClosed()) {
+                try {
+                    inscrever(servidor.accept());
+                } catch (IOException e) {
+                    if (servidor.isClosed()) return;
+                } catch (IllegalStateException e) {
+                    return; // Transmissão encerrada; a conexão recusada já foi fechada
+                }
+            }
+        });
+    }
+
+    /**
+     * Um espectador inscrito: no máximo um quadro pendente, enviado pela sua thread escritora.
+     */
+    public final class Espectador {
+        private final Socket socket;
+        private final OutputStream saida;
+        private final AtomicReference<Quadro> pendente = new AtomicReference<>(ATRASADO);
+        private final Thread escritora;
+        private volatile boolean encerrar;
+
+        private Espectador(Socket socket, OutputStream saida) {
+            this.socket = socket;
+            this.saida = saida;
+            this.escritora = Thread.ofVirtual().name("transmissao-espectador").unstarted(this::escrever);
+        }
+
+        private void iniciar() {
+            escritora.start();
+        }
+
+        // Chamado só pela publicadora: ocupa o pendente vazio ou o transforma em "atrasado"
+        void oferecer(Quadro quadro) {
+            while (true) {
+                Quadro atual = pendente.get();
+                if (atual == null) {
+                    if (pendente.compareAndSet(null, quadro)) {
+                        LockSupport.unpark(escritora);
+                        return;
+                    }
+                } else if (atual == ATRASADO || pendente.compareAndSet(atual, ATRASADO)) {
+                    coalescidos.increment();
+                    return;
+                }
+            }
+        }
+
+        private void escrever() {
+            try {
+                while (true) {
+                    Quadro quadro = pendente.getAndSet(null);
+                    if (quadro == null) {
+                        if (encerrar) return;
+                        LockSupport.park(this);
+                        continue;
+                    }
+                    if (quadro == ATRASADO) {
+                        quadro = instantaneo();
+                        instantaneosEnviados.increment();
+                    }
+                    saida.write(quadro.bytes());
+                    quadrosEnviados.increment();
+                    bytesEnviados.add(quadro.bytes().length);
+                }
+            } catch (IOException e) {
+                // Espectador desconectado: sai da transmissão
+            } finally {
+                espectadores.remove(this);
+                fecharConexao();
+            }
+        }
+
+        private void fecharConexao() {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Conexão já encerrada: nada a fazer
+            }
+        }
+    }
+
+    private synchronized boolean isFechada() {
+        return fechada;
+    }
+
+    // Espectadores conectados
+    public int getEspectadores() {
+        return espectadores.size();
+    }
+
+    // Versão do último quadro publicado
+    public long getVersao() {
+        return versao;
+    }
+
+    // Quadros escritos para os espectadores (deltas e instantâneos)
+    public long getQuadrosEnviados() {
+        return quadrosEnviados.sum();
+    }
+
+    // Instantâneos enviados (inscrições e espectadores atrasados)
+    public long getInstantaneosEnviados() {
+        return instantaneosEnviados.sum();
+    }
+
+    public long getBytesEnviados() {
+        return bytesEnviados.sum();
+    }
+
+    // Quadros que um espectador atrasado deixou de receber (substituídos por um instantâneo)
+    public long getCoalescidos() {
+        return coalescidos.sum();
+    }
+
+    // Bytes de todos os quadros DELTA publicados (cada um codificado uma vez)
+    public long getBytesDeltas() {
+        return bytesDeltas.sum();
+    }
+
+    // Tamanho do instantâneo da versão atual, em bytes
+    public int getTamanhoInstantaneo() {
+        return instantaneo().bytes().length;
+    }
+
+    /**
+     * Soma de verificação do estado publicado, igual à que o ClienteEspectadores calcula
+     * sobre o placar reconstruído pelos quadros recebidos.
+     */
+    long somaDeVerificacao() {
+        synchronized (publicado) {
+            return somaDeVerificacao(pontuacao, acertos, pulos, respondeu);
+        }
+    }
+
+    static long somaDeVerificacao(int[] pontuacao, int[] acertos, int[] pulos, boolean[] respondeu) {
+        long soma = 17;
+        for (int i = 0; i < pontuacao.length; i++) {
+            soma = soma * 31 + pontuacao[i];
+            soma = soma * 31 + acertos[i];
+            soma = soma * 31 + pulos[i];
+            soma = soma * 31 + (respondeu[i] ? 1 : 0);
+        }
+        return soma;
+    }
+
+    /**
+     * Deixa de acompanhar os jogadores, publica as mudanças pendentes, entrega os últimos quadros
+     * aos espectadores (esperando até 2 s pelos lentos) e fecha as conexões.
+     */
+    @Override
+    public void close() {
+        // Fora da trava da transmissão: os ouvintes a obtêm com a trava do jogador
+        for (int i = 0; i < jogadores.length; i++) {
+            jogadores[i].removerOuvinte(ouvintes[i]);
+        }
+        synchronized (this) {
+            fechada = true;
+            notifyAll();
+        }
+        LockSupport.unpark(publicador); // Sem esperar o intervalo de publicação
+        try {
+            publicador.join();
+            long limite = System.currentTimeMillis() + ESPERA_ENCERRAMENTO_MS;
+            for (Espectador e : espectadores) {
+                e.encerrar = true;
+                LockSupport.unpark(e.escritora);
+            }
+            for (Espectador e : espectadores) {
+                e.escritora.join(Math.max(1, limite - System.currentTimeMillis()));
+                e.fecharConexao(); // Destrava uma escrita ainda presa em um espectador lento
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
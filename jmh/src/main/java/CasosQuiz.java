@@ -0,0 +1,527 @@
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Casos medidos pelos benchmarks JMH (pacote quiz.jmh).
+ *
+ * O JMH exige que os benchmarks estejam em um pacote nomeado, e um pacote nomeado não enxerga
+ * as classes do jogo, que ficam no pacote padrão. Por isso cada caso é montado aqui e entregue
+ * aos benchmarks como LongSupplier (uma operação por chamada); o valor retornado é consumido
+ * pelo JMH, o que impede que o JIT elimine o trabalho. Casos que abrem arquivos ou alteram
+ * configurações globais também são AutoCloseable, e o benchmark os fecha no fim da medição.
+ */
+public final class CasosQuiz implements BiFunction<String, Integer, LongSupplier> {
+
+    private static final String[] ALTERNATIVAS = {"Paris", "Londres", "Roma", "Berlim"};
+
+    private static final char[] LETRAS = {'a', 'b', 'c', 'd', 'p', 'x', 'A', 'D'};
+
+    // Tamanho do banco sorteado nos casos de SorteioPerguntas
+    private static final int PERGUNTAS_BANCO = 20_000;
+
+    // Perguntas indexadas no caso de IndiceDuplicatas
+    private static final int PERGUNTAS_DUPLICATAS = 1_000_000;
+
+    private final GameMaster gm = new GameMaster("GM");
+
+    private final Pergunta pergunta = gm.criarPergunta("Qual é a capital da França?", ALTERNATIVAS, 'a');
+
+    public CasosQuiz() {
+        Apresentacao.setHeadless(true);
+    }
+
+    /**
+     * Monta um caso.
+     *
+     * @param caso Nome do caso
+     * @param n Tamanho do caso (jogadores, perguntas); ignorado pelos casos de tamanho fixo
+     * @return Operação medida
+     */
+    @Override
+    public LongSupplier apply(String caso, Integer n) {
+        try {
+            return switch (caso) {
+                case "Pergunta.verificarResposta" -> {
+                    int[] i = {0};
+                    yield () -> pergunta.verificarResposta(LETRAS[i[0]++ & 7]) ? 1 : 0;
+                }
+                case "Pergunta.isRespostaValida" -> {
+                    int[] i = {0};
+                    yield () -> pergunta.isRespostaValida(LETRAS[i[0]++ & 7]) ? 1 : 0;
+                }
+                case "Pergunta.toString" -> () -> pergunta.toString().length();
+                case "Pergunta.new" ->
+                        () -> System.identityHashCode(new Pergunta("Qual é a capital da França?", ALTERNATIVAS, 'a'));
+                case "Pergunta.transmitir100" -> transmitir(true);
+                case "Pergunta.transmitir100.semTempos" -> transmitir(false);
+                case "GameMaster.criarPergunta" ->
+                        () -> gm.criarPergunta("Qual é a capital da França?", ALTERNATIVAS, 'a').getRespostaCorreta();
+                case "DiarioJogo.assincrono" -> diario(Long.MAX_VALUE);
+                case "DiarioJogo.duravelCada100" -> diario(100);
+                case "Histograma.registrar" -> {
+                    Histograma histograma = new Histograma();
+                    long[] v = {0};
+                    yield () -> {
+                        histograma.registrar(v[0] += 977);
+                        return 1;
+                    };
+                }
+                case "Metricas.respostaCorrigida" -> {
+                    boolean[] correta = {false};
+                    yield () -> {
+                        Metricas.respostaCorrigida(correta[0] = !correta[0]);
+                        return 1;
+                    };
+                }
+                case "SorteioPerguntas.semCache" -> sorteio(0);
+                case "SorteioPerguntas.cachePadrao" -> sorteio(CachePerguntas.CAPACIDADE_PADRAO);
+                case "SorteioPerguntas.cacheBanco" -> sorteio(PERGUNTAS_BANCO);
+                case "IndiceDuplicatas.verificar" -> duplicatas();
+                case "legado.BufferedReader.readLine100k", "LeitorLinhas.lerLinha100k",
+                     "LeitorLinhas.lerCaractere100k" -> leitura(caso);
+                case "EstatisticasPergunta.registrarEscolha" -> {
+                    Pergunta p = new Pergunta("Qual é a capital da França?", ALTERNATIVAS, 'a');
+                    int[] i = {0};
+                    yield () -> {
+                        p.getEstatisticas().registrarEscolha(LETRAS[i[0]++ & 3]);
+                        return 1;
+                    };
+                }
+                case "EstatisticasPergunta.registrarEscolha.concorrente" -> {
+                    // Compartilhado pelas threads do benchmark: todas registram na mesma pergunta
+                    Pergunta p = new Pergunta("Qual é a capital da França?", ALTERNATIVAS, 'a');
+                    yield () -> {
+                        p.getEstatisticas().registrarEscolha(LETRAS[ThreadLocalRandom.current().nextInt(4)]);
+                        return 1;
+                    };
+                }
+                case "legado.contadorSincronizado.concorrente" -> {
+                    long[] contadores = new long[4];
+                    yield () -> {
+                        int k = ThreadLocalRandom.current().nextInt(4);
+                        synchronized (contadores) {
+                            return ++contadores[k];
+                        }
+                    };
+                }
+                case "legado.novoJogoPorPartida", "Jogo.reiniciar" -> jogosSeguidos(caso);
+                case "IndiceDificuldade.montarRodada", "IndiceDificuldade.reindexar" -> dificuldade(caso, n);
+                case "Jogador.corrigirResposta", "PontuacaoEmLote.corrigir",
+                     "PontuacaoEmLote.corrigirParalelo" -> lote(caso, n);
+                case "Placar.atualizar", "Rodada.verificarVencedor", "Jogo.verificarVencedorFinal",
+                     "legado.vencedorFinalDuasPassadas", "Jogo.topJogadores",
+                     "legado.placarOrdenacaoCompleta" -> jogadores(caso, n);
+                default -> throw new IllegalArgumentException("Caso desconhecido: " + caso);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Uma pergunta exibida e respondida por 100 jogadores, com ou sem a medição de tempos
+    private LongSupplier transmitir(boolean temposAtivos) {
+        List<Jogador> ouvintes = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            ouvintes.add(new Jogador("J" + i, new RespondenteRoteiro(true, 'a', 'b'), Terminal.nulo()));
+        }
+        boolean anterior = Metricas.isTemposAtivos();
+        Metricas.setTemposAtivos(temposAtivos);
+        return new ComLimpeza(() -> {
+            for (Jogador j : ouvintes) j.responderPergunta(pergunta);
+            return ouvintes.get(0).getPontuacaoTotal();
+        }, () -> Metricas.setTemposAtivos(anterior));
+    }
+
+    /**
+     * Eventos de pontuação no diário com group commit: sem esperar (fsync por lote, em segundo
+     * plano) ou esperando a durabilidade a cada {@code duravelCada} eventos.
+     */
+    private static LongSupplier diario(long duravelCada) throws IOException {
+        Path arquivo = Files.createTempFile("diario", ".bin");
+        DiarioJogo diario = new DiarioJogo(arquivo, new EstadoJogo());
+        diario.jogoIniciado("GM", List.of("Ana", "Bia"));
+        Jogador j = new Jogador("Ana", new RespondenteRoteiro('a'));
+        j.adicionarOuvinte(diario.ouvinteDe(0));
+        long[] eventos = {0};
+        return new ComLimpeza(() -> {
+            j.incrementarPontuacao(1);
+            if (++eventos[0] % duravelCada == 0) diario.sincronizar();
+            return eventos[0];
+        }, () -> {
+            try {
+                diario.close();
+            } finally {
+                Files.deleteIfExists(arquivo);
+                Files.deleteIfExists(DiarioJogo.caminhoInstantaneo(arquivo));
+            }
+        });
+    }
+
+    /**
+     * Sorteio das 15 perguntas de um jogo a partir de um banco de 20 mil perguntas: decodificando
+     * cada uma do banco (capacidade 0) ou pelo cache com a capacidade informada. Cada operação é
+     * um jogo completo.
+     */
+    private static LongSupplier sorteio(int capacidade) throws IOException {
+        Path arquivo = Files.createTempFile("banco", ".qzbp");
+        try (BancoPerguntas.Escritor escritor = new BancoPerguntas.Escritor(arquivo)) {
+            for (int i = 0; i < PERGUNTAS_BANCO; i++) {
+                escritor.adicionar(new Pergunta("Pergunta " + i + " sobre capitais?", ALTERNATIVAS, 'a'));
+            }
+        }
+        BancoPerguntas banco = new BancoPerguntas(arquivo);
+        int sorteios = ConfiguracaoJogo.PADRAO.getRodadas() * ConfiguracaoJogo.PADRAO.getPerguntasPorRodada();
+        long[] semente = {0};
+        AutoCloseable limpeza = () -> {
+            try {
+                banco.close();
+            } finally {
+                Files.deleteIfExists(arquivo);
+            }
+        };
+        if (capacidade == 0) {
+            CachePerguntas indices = new CachePerguntas(banco, PERGUNTAS_BANCO);
+            return new ComLimpeza(() -> {
+                SorteioPerguntas sorteio = new SorteioPerguntas(indices, semente[0]++);
+                int soma = 0;
+                for (int i = 0; i < sorteios; i++) soma += banco.obter(sorteio.proximoIndice()).getRespostaCorreta();
+                return soma;
+            }, limpeza);
+        }
+        CachePerguntas cache = new CachePerguntas(banco, capacidade);
+        return new ComLimpeza(() -> {
+            SorteioPerguntas sorteio = new SorteioPerguntas(cache, semente[0]++);
+            int soma = 0;
+            for (int i = 0; i < sorteios; i++) soma += sorteio.proximaPergunta().getRespostaCorreta();
+            return soma;
+        }, limpeza);
+    }
+
+    /**
+     * Consultas ao índice de duplicatas com 1 milhão de perguntas: metade são variações de
+     * perguntas indexadas (uma palavra a mais no enunciado), metade são perguntas novas.
+     */
+    private static LongSupplier duplicatas() {
+        SplittableRandom aleatorio = new SplittableRandom(19);
+        String[] vocabulario = vocabulario(aleatorio);
+        IndiceDuplicatas indice = new IndiceDuplicatas();
+        for (int i = 0; i < PERGUNTAS_DUPLICATAS; i++) {
+            indice.registrar(perguntaAleatoria(new SplittableRandom(i), vocabulario, false));
+        }
+        Pergunta[] consultas = new Pergunta[1024];
+        for (int i = 0; i < consultas.length; i++) {
+            consultas[i] = (i & 1) == 0
+                    ? perguntaAleatoria(new SplittableRandom(aleatorio.nextInt(PERGUNTAS_DUPLICATAS)), vocabulario, true)
+                    : perguntaAleatoria(new SplittableRandom(PERGUNTAS_DUPLICATAS + i), vocabulario, false);
+        }
+        int[] i = {0};
+        return () -> indice.verificar(consultas[i[0]++ & (consultas.length - 1)]).pergunta();
+    }
+
+    // Vocabulário de 4096 palavras de 3 a 8 letras
+    private static String[] vocabulario(SplittableRandom aleatorio) {
+        String[] vocabulario = new String[4096];
+        for (int i = 0; i < vocabulario.length; i++) {
+            char[] letras = new char[3 + aleatorio.nextInt(6)];
+            for (int j = 0; j < letras.length; j++) letras[j] = (char) ('a' + aleatorio.nextInt(26));
+            vocabulario[i] = new String(letras);
+        }
+        return vocabulario;
+    }
+
+    // Pergunta de 6 a 10 palavras sorteadas; a variação acrescenta uma palavra ao enunciado
+    private static Pergunta perguntaAleatoria(SplittableRandom aleatorio, String[] vocabulario, boolean variacao) {
+        StringBuilder enunciado = new StringBuilder();
+        for (int p = 6 + aleatorio.nextInt(5); p > 0; p--) {
+            enunciado.append(vocabulario[aleatorio.nextInt(vocabulario.length)]).append(' ');
+        }
+        String[] alternativas = new String[4];
+        for (int a = 0; a < 4; a++) {
+            alternativas[a] = vocabulario[aleatorio.nextInt(vocabulario.length)] + " "
+                    + vocabulario[aleatorio.nextInt(vocabulario.length)];
+        }
+        if (variacao) enunciado.append("mesmo");
+        return new Pergunta(enunciado.append('?').toString(), alternativas, 'a');
+    }
+
+    /**
+     * Leitura de uma transcrição de 100 mil respostas (letras, espaços, pulos e linhas vazias),
+     * como numa execução com a entrada redirecionada: o BufferedReader que o TerminalFluxo usava
+     * contra o LeitorLinhas, por linha e por caractere. Cada operação lê a transcrição inteira.
+     */
+    private static LongSupplier leitura(String caso) {
+        String[] entradas = {"a", "b", "c", "d", " B ", "a  ", "p", ""};
+        StringBuilder transcricao = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            transcricao.append(entradas[i & 7]).append('\n');
+        }
+        byte[] bytes = transcricao.toString().getBytes(StandardCharsets.UTF_8);
+
+        return switch (caso) {
+            case "legado.BufferedReader.readLine100k" -> () -> {
+                BufferedReader leitor = new BufferedReader(
+                        new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8), 8192);
+                int soma = 0;
+                try {
+                    for (String linha; (linha = leitor.readLine()) != null; ) {
+                        linha = linha.trim();
+                        soma += linha.isEmpty() ? 0 : linha.charAt(0);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return soma;
+            };
+            case "LeitorLinhas.lerLinha100k" -> () -> {
+                LeitorLinhas leitor = new LeitorLinhas(new ByteArrayInputStream(bytes), 8192);
+                int soma = 0;
+                for (int i = 0; i < 100_000; i++) {
+                    String linha = leitor.lerLinha().trim();
+                    soma += linha.isEmpty() ? 0 : linha.charAt(0);
+                }
+                return soma;
+            };
+            default -> () -> {
+                LeitorLinhas leitor = new LeitorLinhas(new ByteArrayInputStream(bytes), 8192);
+                int soma = 0;
+                for (int i = 0; i < 100_000; i++) {
+                    soma += leitor.lerCaractere();
+                }
+                return soma;
+            };
+        };
+    }
+
+    /**
+     * Partidas seguidas (configuração padrão, 2 bots, sem saída): criar Jogo, jogadores, bots
+     * e rodadas a cada partida (legado) contra reiniciar o mesmo Jogo. As coletas de lixo de
+     * cada caso aparecem com -prof gc.
+     */
+    private LongSupplier jogosSeguidos(String caso) {
+        boolean temposAtivos = Metricas.isTemposAtivos();
+        Metricas.setTemposAtivos(false);
+        AutoCloseable limpeza = () -> Metricas.setTemposAtivos(temposAtivos);
+        ConfiguracaoJogo c = ConfiguracaoJogo.PADRAO;
+        FontePerguntas fonte = () -> pergunta;
+        long[] semente = {0};
+
+        if (caso.equals("legado.novoJogoPorPartida")) {
+            return new ComLimpeza(() -> {
+                List<Jogador> jogadores = List.of(
+                        new Jogador("Ana", new RespondenteBot(0.7, 0.2, ++semente[0])),
+                        new Jogador("Bia", new RespondenteBot(0.6, 0.0, ++semente[0])));
+                Jogo jogo = new Jogo(gm, jogadores, Terminal.nulo(), c);
+                jogo.setFontePerguntas(fonte);
+                jogo.iniciar();
+                return jogo.verificarVencedorFinal().size();
+            }, limpeza);
+        }
+        RespondenteBot ana = new RespondenteBot(0.7, 0.2, 0);
+        RespondenteBot bia = new RespondenteBot(0.6, 0.0, 0);
+        Jogo jogo = new Jogo(gm, List.of(new Jogador("Ana", ana), new Jogador("Bia", bia)), Terminal.nulo(), c);
+        jogo.setFontePerguntas(fonte);
+        return new ComLimpeza(() -> {
+            ana.reiniciar(++semente[0]);
+            bia.reiniciar(++semente[0]);
+            jogo.reiniciar();
+            jogo.iniciar();
+            return jogo.verificarVencedorFinal().size();
+        }, limpeza);
+    }
+
+    /**
+     * Índice de dificuldade com n perguntas já respondidas (dificuldades variadas): montagem de
+     * uma rodada de 3 perguntas perto de um alvo aleatório, ou reindexação após uma resposta.
+     * Com O(log n), o custo quase não muda entre os tamanhos medidos.
+     */
+    private static LongSupplier dificuldade(String caso, int n) {
+        SplittableRandom aleatorio = new SplittableRandom(23);
+        IndiceDificuldade indice = new IndiceDificuldade();
+        Pergunta[] perguntas = new Pergunta[n];
+        for (int k = 0; k < n; k++) {
+            Pergunta p = new Pergunta("Pergunta " + k, ALTERNATIVAS, 'a');
+            double acerto = aleatorio.nextDouble();
+            for (int r = 1 + aleatorio.nextInt(30); r > 0; r--) {
+                p.getEstatisticas().registrarEscolha(aleatorio.nextDouble() < acerto ? 'a' : 'b');
+            }
+            perguntas[k] = p;
+            indice.adicionar(p);
+        }
+        if (caso.equals("IndiceDificuldade.montarRodada")) {
+            return () -> indice.montarRodada(aleatorio.nextDouble(), 3).size();
+        }
+        return () -> {
+            Pergunta p = perguntas[aleatorio.nextInt(n)];
+            p.getEstatisticas().registrarEscolha(aleatorio.nextBoolean() ? 'a' : 'c');
+            indice.reindexar(p);
+            return 1;
+        };
+    }
+
+    /**
+     * Correção de uma pergunta para n jogadores: um objeto Jogador por participante (como na
+     * rodada simultânea) contra os vetores paralelos da PontuacaoEmLote, sequencial e fork/join.
+     * A cada 3 perguntas a rodada é reiniciada. Respostas de bots: ~50% corretas, ~10% pulos,
+     * o resto erradas.
+     */
+    private LongSupplier lote(String caso, int n) {
+        SplittableRandom aleatorio = new SplittableRandom(11);
+        byte[] respostas = new byte[n];
+        for (int i = 0; i < n; i++) {
+            int sorteio = aleatorio.nextInt(10);
+            respostas[i] = (byte) (sorteio < 5 ? 'a' : sorteio == 5 ? 'p' : 'b' + aleatorio.nextInt(3));
+        }
+        int[] perguntas = {0};
+
+        return switch (caso) {
+            case "Jogador.corrigirResposta" -> {
+                List<Jogador> jogadores = criarJogadores(n, 42);
+                int erro = ConfiguracaoJogo.PADRAO.getPontosErro();
+                yield () -> {
+                    if (perguntas[0]++ % 3 == 0) {
+                        for (Jogador j : jogadores) {
+                            j.resetarAcertos();
+                            j.resetarPulos();
+                        }
+                    }
+                    for (int i = 0; i < n; i++) {
+                        Jogador j = jogadores.get(i);
+                        char r = (char) respostas[i];
+                        if (r == 'p') {
+                            if (!j.incrementarPulos()) j.incrementarPontuacao(erro);
+                        } else {
+                            j.corrigirResposta(pergunta, r);
+                        }
+                    }
+                    return jogadores.get(0).getPontuacaoTotal();
+                };
+            }
+            case "PontuacaoEmLote.corrigir" -> {
+                PontuacaoEmLote lote = new PontuacaoEmLote(n);
+                yield () -> {
+                    if (perguntas[0]++ % 3 == 0) lote.iniciarRodada();
+                    lote.corrigir(pergunta, respostas);
+                    return lote.getPontuacaoTotal(0);
+                };
+            }
+            default -> {
+                PontuacaoEmLote lote = new PontuacaoEmLote(n);
+                yield () -> {
+                    if (perguntas[0]++ % 3 == 0) lote.iniciarRodada();
+                    lote.corrigirParalelo(pergunta, respostas);
+                    return lote.getPontuacaoTotal(0);
+                };
+            }
+        };
+    }
+
+    // Verificações de vencedor e placar com n jogadores já pontuados
+    private LongSupplier jogadores(String caso, int n) {
+        List<Jogador> jogadores = criarJogadores(n, 42);
+        return switch (caso) {
+            case "Placar.atualizar" -> {
+                // Cada operação altera a pontuação de um jogador e consulta a posição dele
+                Placar placar = Placar.de(Placar.Criterio.PONTUACAO_TOTAL, jogadores);
+                SplittableRandom aleatorio = new SplittableRandom(7);
+                yield new ComLimpeza(() -> {
+                    Jogador j = jogadores.get(aleatorio.nextInt(n));
+                    j.incrementarPontuacao(aleatorio.nextBoolean() ? 1 : -1);
+                    return placar.posicaoDe(j);
+                }, () -> {
+                    for (Jogador j : jogadores) placar.remover(j);
+                });
+            }
+            case "Rodada.verificarVencedor" -> {
+                Rodada rodada = new Rodada(jogadores, Terminal.nulo());
+                yield () -> rodada.verificarVencedor() == null ? 0 : 1;
+            }
+            case "Jogo.verificarVencedorFinal" -> {
+                Jogo jogo = new Jogo(gm, jogadores, Terminal.nulo());
+                yield () -> jogo.verificarVencedorFinal().size();
+            }
+            case "Jogo.topJogadores" -> {
+                Jogo jogo = new Jogo(gm, jogadores, Terminal.nulo());
+                yield () -> jogo.topJogadores(Jogo.TAMANHO_PLACAR).size();
+            }
+            case "legado.vencedorFinalDuasPassadas" -> () -> vencedorFinalLegado(jogadores).size();
+            default -> () -> placarLegado(jogadores).size();
+        };
+    }
+
+    // Implementação original de verificarVencedorFinal (streams e listas intermediárias), para comparação
+    private static List<Jogador> vencedorFinalLegado(List<Jogador> jogadores) {
+        int maxPontos = jogadores.stream().mapToInt(Jogador::getPontuacaoTotal).max().orElse(Integer.MIN_VALUE);
+        List<Jogador> candidatos = new ArrayList<>();
+        for (Jogador j : jogadores) {
+            if (j.getPontuacaoTotal() == maxPontos) candidatos.add(j);
+        }
+        if (candidatos.size() == 1) return candidatos;
+
+        int minPulos = candidatos.stream().mapToInt(Jogador::getPulosTotal).min().orElse(Integer.MAX_VALUE);
+        List<Jogador> finalistas = new ArrayList<>();
+        for (Jogador j : candidatos) {
+            if (j.getPulosTotal() == minPulos) finalistas.add(j);
+        }
+        return finalistas;
+    }
+
+    // Placar original: ordenação completa por pontuação decrescente
+    private static List<Jogador> placarLegado(List<Jogador> jogadores) {
+        return jogadores.stream()
+                .sorted(Comparator.comparingInt(Jogador::getPontuacaoTotal).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Cria jogadores com pontuações, acertos e pulos pseudoaleatórios.
+     *
+     * @param n Quantidade de jogadores
+     * @param semente Semente do gerador
+     * @return Lista de jogadores já pontuados
+     */
+    private static List<Jogador> criarJogadores(int n, long semente) {
+        SplittableRandom aleatorio = new SplittableRandom(semente);
+        Respondente semRespostas = new RespondenteRoteiro('p');
+        List<Jogador> jogadores = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            Jogador j = new Jogador("J" + i, semRespostas);
+            j.incrementarPontuacao(aleatorio.nextInt(-15, 16));
+            for (int a = aleatorio.nextInt(4); a > 0; a--) j.incrementarAcertos();
+            for (int p = aleatorio.nextInt(6); p > 0; p--) {
+                j.incrementarPulos();
+                j.resetarPulos();
+            }
+            jogadores.add(j);
+        }
+        return jogadores;
+    }
+
+    /**
+     * Operação com recursos a liberar no fim da medição (arquivos temporários, configurações globais).
+     */
+    private record ComLimpeza(LongSupplier operacao, AutoCloseable limpeza) implements LongSupplier, AutoCloseable {
+        @Override
+        public long getAsLong() {
+            return operacao.getAsLong();
+        }
+
+        @Override
+        public void close() throws Exception {
+            limpeza.close();
+        }
+    }
+}
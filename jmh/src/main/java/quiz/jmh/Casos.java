@@ -0,0 +1,42 @@
+package quiz.jmh;
+
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Acesso aos casos montados por CasosQuiz. O JMH não aceita benchmarks no pacote padrão, e
+ * daqui não é possível referenciar classes do pacote padrão; a fábrica é carregada pelo nome.
+ */
+final class Casos {
+
+    private Casos() {
+    }
+
+    /**
+     * Monta um caso.
+     *
+     * @param caso Nome do caso (veja CasosQuiz)
+     * @param n Tamanho do caso; ignorado pelos casos de tamanho fixo
+     * @return Operação medida
+     */
+    @SuppressWarnings("unchecked")
+    static LongSupplier criar(String caso, int n) {
+        try {
+            BiFunction<String, Integer, LongSupplier> fabrica = (BiFunction<String, Integer, LongSupplier>)
+                    Class.forName("CasosQuiz").getConstructor().newInstance();
+            return fabrica.apply(caso, n);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Não foi possível carregar CasosQuiz", e);
+        }
+    }
+
+    /**
+     * Libera os recursos do caso, se houver.
+     *
+     * @param operacao Operação criada por {@link #criar}
+     * @throws Exception Se a liberação falhar
+     */
+    static void encerrar(LongSupplier operacao) throws Exception {
+        if (operacao instanceof AutoCloseable recursos) recursos.close();
+    }
+}
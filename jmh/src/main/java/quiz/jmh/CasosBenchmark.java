@@ -0,0 +1,56 @@
+package quiz.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Casos de tamanho fixo: correção e criação de perguntas, diário, métricas, sorteio pelo cache,
+ * índice de duplicatas (1 milhão de perguntas), leitura de linhas e partidas seguidas.
+ * Com -prof gc, a coluna gc.alloc.rate.norm mostra os bytes alocados por operação.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CasosBenchmark {
+    @Param({"Pergunta.verificarResposta", "Pergunta.isRespostaValida", "Pergunta.toString", "Pergunta.new",
+            "Pergunta.transmitir100", "Pergunta.transmitir100.semTempos", "GameMaster.criarPergunta",
+            "DiarioJogo.assincrono", "DiarioJogo.duravelCada100", "Histograma.registrar",
+            "Metricas.respostaCorrigida", "SorteioPerguntas.semCache", "SorteioPerguntas.cachePadrao",
+            "SorteioPerguntas.cacheBanco", "IndiceDuplicatas.verificar", "legado.BufferedReader.readLine100k",
+            "LeitorLinhas.lerLinha100k", "LeitorLinhas.lerCaractere100k", "EstatisticasPergunta.registrarEscolha",
+            "legado.novoJogoPorPartida", "Jogo.reiniciar"})
+    public String caso;
+
+    private LongSupplier operacao;
+
+    @Setup
+    public void preparar() {
+        operacao = Casos.criar(caso, 0);
+    }
+
+    @TearDown
+    public void encerrar() throws Exception {
+        Casos.encerrar(operacao);
+    }
+
+    @Benchmark
+    public long executar() {
+        return operacao.getAsLong();
+    }
+}
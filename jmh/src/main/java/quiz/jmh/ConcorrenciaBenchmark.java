@@ -0,0 +1,51 @@
+package quiz.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Oito threads registrando escolhas na mesma pergunta: EstatisticasPergunta contra um contador
+ * sincronizado (legado).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ConcorrenciaBenchmark {
+    @Param({"EstatisticasPergunta.registrarEscolha.concorrente", "legado.contadorSincronizado.concorrente"})
+    public String caso;
+
+    private LongSupplier operacao;
+
+    @Setup
+    public void preparar() {
+        operacao = Casos.criar(caso, 0);
+    }
+
+    @TearDown
+    public void encerrar() throws Exception {
+        Casos.encerrar(operacao);
+    }
+
+    @Benchmark
+    public long executar() {
+        return operacao.getAsLong();
+    }
+}
@@ -0,0 +1,53 @@
+package quiz.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Verificações de vencedor e placar com 2 a 1 milhão de jogadores, contra as implementações
+ * originais (casos "legado.").
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JogadoresBenchmark {
+    @Param({"2", "100", "10000", "1000000"})
+    public int jogadores;
+
+    @Param({"Placar.atualizar", "Rodada.verificarVencedor", "Jogo.verificarVencedorFinal",
+            "legado.vencedorFinalDuasPassadas", "Jogo.topJogadores", "legado.placarOrdenacaoCompleta"})
+    public String caso;
+
+    private LongSupplier operacao;
+
+    @Setup
+    public void preparar() {
+        operacao = Casos.criar(caso, jogadores);
+    }
+
+    @TearDown
+    public void encerrar() throws Exception {
+        Casos.encerrar(operacao);
+    }
+
+    @Benchmark
+    public long executar() {
+        return operacao.getAsLong();
+    }
+}
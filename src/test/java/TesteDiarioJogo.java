@@ -0,0 +1,83 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Recuperação do diário a partir de um instantâneo periódico seguido dos eventos posteriores.
+ */
+class TesteDiarioJogo {
+
+    @TempDir
+    Path pasta;
+
+    @Test
+    void eventoQueDisparaOInstantaneoNaoSePerde() throws IOException {
+        Path arquivo = pasta.resolve("jogo.diario");
+        try (DiarioJogo diario = new DiarioJogo(arquivo, DiarioJogo.recuperar(arquivo), 3)) {
+            diario.jogoIniciado("GM", List.of("Ana", "Bia"));
+            diario.rodadaIniciada(1);
+            diario.ouvinteDe(0).pontuacaoAlterada(null, 5); // terceiro evento: agenda o instantâneo
+        }
+
+        assertTrue(Files.exists(DiarioJogo.caminhoInstantaneo(arquivo)));
+        EstadoJogo estado = DiarioJogo.recuperar(arquivo);
+        assertEquals(5, estado.getPontuacaoTotal(0));
+        assertEquals(Files.size(arquivo), estado.getPosicaoDiario());
+    }
+
+    @Test
+    void reaplicaOsEventosDepoisDeCadaFronteiraDeInstantaneo() throws IOException {
+        // Com instantâneos a cada 1 a 7 eventos, todas as fronteiras caem em algum evento da sequência
+        for (int eventosPorInstantaneo = 1; eventosPorInstantaneo <= 7; eventosPorInstantaneo++) {
+            Path arquivo = pasta.resolve("jogo-" + eventosPorInstantaneo + ".diario");
+            int[] esperado = new int[2];
+            int[] pulos = new int[2];
+            try (DiarioJogo diario = new DiarioJogo(arquivo, DiarioJogo.recuperar(arquivo), eventosPorInstantaneo)) {
+                diario.jogoIniciado("GM", List.of("Ana", "Bia"));
+                diario.rodadaIniciada(1);
+                for (int k = 0; k < 20; k++) {
+                    int jogador = k % 2;
+                    int delta = k % 3 == 0 ? -1 : k;
+                    diario.ouvinteDe(jogador).pontuacaoAlterada(null, delta);
+                    esperado[jogador] += delta;
+                    if (k % 5 == 4) {
+                        diario.ouvinteDe(jogador).puloUsado(null);
+                        pulos[jogador]++;
+                    }
+                }
+            }
+
+            EstadoJogo estado = DiarioJogo.recuperar(arquivo);
+            for (int j = 0; j < 2; j++) {
+                assertEquals(esperado[j], estado.getPontuacaoTotal(j), "pontuação, instantâneo a cada " + eventosPorInstantaneo);
+                assertEquals(pulos[j], estado.getPulosTotal(j), "pulos, instantâneo a cada " + eventosPorInstantaneo);
+            }
+            assertEquals(Files.size(arquivo), estado.getPosicaoDiario());
+        }
+    }
+
+    @Test
+    void continuaDepoisDeRetomarDoInstantaneo() throws IOException {
+        Path arquivo = pasta.resolve("retomado.diario");
+        try (DiarioJogo diario = new DiarioJogo(arquivo, DiarioJogo.recuperar(arquivo), 2)) {
+            diario.jogoIniciado("GM", List.of("Ana", "Bia"));
+            diario.rodadaIniciada(1);
+            diario.ouvinteDe(1).pontuacaoAlterada(null, 3);
+        }
+        try (DiarioJogo diario = new DiarioJogo(arquivo, DiarioJogo.recuperar(arquivo), 2)) {
+            diario.ouvinteDe(1).pontuacaoAlterada(null, 4);
+            diario.ouvinteDe(0).pontuacaoAlterada(null, 1);
+        }
+
+        EstadoJogo estado = DiarioJogo.recuperar(arquivo);
+        assertEquals(1, estado.getPontuacaoTotal(0));
+        assertEquals(7, estado.getPontuacaoTotal(1));
+    }
+}